@@ -0,0 +1,35 @@
+package com.example.sudoku_game;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Ejecuta los benchmarks con el perfilador de memoria de JMH, que añade a cada resultado
+ * la tasa de asignación de memoria ({@code gc.alloc.rate}) y los bytes asignados por
+ * operación ({@code gc.alloc.rate.norm}).
+ * Uso: {@code java -cp target/benchmarks.jar com.example.sudoku_game.BenchmarkRunner [filtro]},
+ * donde el filtro opcional es una expresión regular sobre el nombre de los benchmarks.
+ *
+ * @author Juan Pablo Escamilla
+ */
+public final class BenchmarkRunner {
+    private BenchmarkRunner() {
+    }
+
+    /**
+     * Ejecuta los benchmarks que coinciden con el filtro, o todos si no se indica ninguno.
+     *
+     * @param args Filtro opcional de benchmarks
+     * @throws RunnerException si JMH no puede ejecutar los benchmarks
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(args.length > 0 ? args[0] : ".*")
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
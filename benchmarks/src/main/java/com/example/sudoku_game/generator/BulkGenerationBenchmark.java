@@ -0,0 +1,66 @@
+package com.example.sudoku_game.generator;
+
+import com.example.sudoku_game.models.BoardGeometry;
+import com.example.sudoku_game.models.PuzzleMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide el rendimiento de {@link BulkPuzzleGenerator} en puzzles por segundo
+ * con 1, 2, 4 y todos los hilos disponibles ({@code threads = 0}).
+ *
+ * @author Juan Pablo Escamilla
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class BulkGenerationBenchmark {
+    /** Puzzles generados en cada invocación del benchmark */
+    private static final int BATCH = 4096;
+
+    @Param({"1", "2", "4", "0"})
+    private int threads;
+
+    @Param({"2x3", "3x3"})
+    private String boxes;
+
+    private BulkPuzzleGenerator generator;
+    private long seed;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String[] dimensions = boxes.split("x");
+        BoardGeometry geometry = new BoardGeometry(Integer.parseInt(dimensions[0]), Integer.parseInt(dimensions[1]));
+        int parallelism = threads == 0 ? Runtime.getRuntime().availableProcessors() : threads;
+        generator = new BulkPuzzleGenerator(geometry, PuzzleMode.UNIQUE, parallelism);
+        seed = 42;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        generator.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public PuzzleRecord[] generateUniquePuzzles() {
+        return generator.generate(BATCH, seed++);
+    }
+}
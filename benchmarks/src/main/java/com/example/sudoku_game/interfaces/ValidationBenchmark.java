@@ -0,0 +1,87 @@
+package com.example.sudoku_game.interfaces;
+
+import com.example.sudoku_game.models.BenchmarkBoards;
+import com.example.sudoku_game.models.BoardGeometry;
+import com.example.sudoku_game.models.BoardModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide las comprobaciones de {@link ValidationClass}. Los movimientos se prueban sobre
+ * una partida en curso y recorren una lista fija de jugadas generada con una semilla;
+ * las comprobaciones de tablero completo usan un tablero resuelto, que es el caso en que
+ * se recorren todas las celdas.
+ *
+ * @author Juan Pablo Escamilla
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+    private static final long SEED = 42;
+
+    /** Número de jugadas distintas que se recorren en {@link #isValidMove()} (potencia de 2) */
+    private static final int MOVES = 1024;
+
+    @Param({"2x3", "3x3"})
+    private String boxes;
+
+    private final ValidationClass validator = new ValidationClass();
+    private BoardModel inProgress;
+    private BoardModel solved;
+    private int[] rows;
+    private int[] cols;
+    private int[] values;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BoardGeometry geometry = BenchmarkBoards.geometry(boxes);
+        inProgress = BenchmarkBoards.puzzle(geometry, SEED);
+        BenchmarkBoards.fillRandomly(inProgress, 0.5, SEED);
+        solved = BenchmarkBoards.solved(geometry, SEED);
+
+        int size = geometry.getSize();
+        SplittableRandom random = new SplittableRandom(SEED);
+        rows = new int[MOVES];
+        cols = new int[MOVES];
+        values = new int[MOVES];
+        for (int i = 0; i < MOVES; i++) {
+            rows[i] = random.nextInt(size);
+            cols[i] = random.nextInt(size);
+            values[i] = random.nextInt(1, size + 1);
+        }
+    }
+
+    @Benchmark
+    public boolean isValidMove() {
+        int i = next++ & (MOVES - 1);
+        return validator.isValidMove(inProgress, rows[i], cols[i], values[i]);
+    }
+
+    @Benchmark
+    public boolean isValidBoard() {
+        return validator.isValidBoard(solved);
+    }
+
+    @Benchmark
+    public boolean checkAllConstraints() {
+        return validator.checkAllConstraints(solved);
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.sudoku_game.models;
+
+import java.util.SplittableRandom;
+
+/**
+ * Tableros de entrada para los benchmarks, generados a partir de semillas fijas
+ * para que las mediciones sean reproducibles entre ejecuciones.
+ *
+ * @author Juan Pablo Escamilla
+ */
+public final class BenchmarkBoards {
+    private BenchmarkBoards() {
+    }
+
+    /**
+     * Convierte un parámetro de la forma {@code "2x3"} (alto x ancho de caja) en una geometría.
+     *
+     * @param boxes Dimensiones de las cajas
+     * @return La geometría correspondiente
+     */
+    public static BoardGeometry geometry(String boxes) {
+        String[] dimensions = boxes.split("x");
+        return new BoardGeometry(Integer.parseInt(dimensions[0]), Integer.parseInt(dimensions[1]));
+    }
+
+    /**
+     * Crea un tablero con un puzzle recién generado a partir de una semilla.
+     *
+     * @param geometry Geometría del tablero
+     * @param seed Semilla de la generación
+     * @return Un tablero con el puzzle inicial
+     */
+    public static BoardModel puzzle(BoardGeometry geometry, long seed) {
+        BoardModel model = new BoardModel(geometry, false);
+        model.generateBoard(seed);
+        return model;
+    }
+
+    /**
+     * Crea un tablero completo y correcto: el puzzle generado con la semilla, relleno con su solución.
+     *
+     * @param geometry Geometría del tablero
+     * @param seed Semilla de la generación
+     * @return Un tablero resuelto
+     */
+    public static BoardModel solved(BoardGeometry geometry, long seed) {
+        BoardModel model = puzzle(geometry, seed);
+        int[][] solution = model.getSolution();
+        for (int row = 0; row < model.getBoardSize(); row++) {
+            for (int col = 0; col < model.getBoardSize(); col++) {
+                model.setCell(row, col, solution[row][col]);
+            }
+        }
+        return model;
+    }
+
+    /**
+     * Rellena al azar una fracción de las celdas vacías de un tablero con cualquier valor,
+     * simulando una partida en curso con algunos errores.
+     *
+     * @param model Tablero a rellenar
+     * @param fraction Fracción de celdas vacías a rellenar (0 a 1)
+     * @param seed Semilla para elegir las celdas y los valores
+     */
+    public static void fillRandomly(BoardModel model, double fraction, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        int size = model.getBoardSize();
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                if (model.getCell(row, col).isEmpty() && random.nextDouble() < fraction) {
+                    model.setCell(row, col, random.nextInt(1, size + 1));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.sudoku_game.models;
+
+import com.example.sudoku_game.generator.PuzzleGenerator;
+import com.example.sudoku_game.generator.PuzzleRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide las operaciones principales de {@link BoardModel}: la generación completa de un
+ * tablero, la creación del puzzle a partir de la solución (con el {@link PuzzleGenerator}
+ * que usa el tablero), las pistas y la comprobación
+ * de tablero completo. Todas las entradas salen de semillas fijas.
+ *
+ * @author Juan Pablo Escamilla
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class BoardModelBenchmark {
+    private static final long SEED = 42;
+
+    @Param({"2x3", "3x3"})
+    private String boxes;
+
+    private BoardModel generated;
+    private PuzzleGenerator generator;
+    private byte[] solution;
+    private BoardModel puzzle;
+    private PackedBoard puzzleStart;
+    private BoardModel solved;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BoardGeometry geometry = BenchmarkBoards.geometry(boxes);
+        generated = BenchmarkBoards.puzzle(geometry, SEED);
+        generator = new PuzzleGenerator(geometry, PuzzleMode.TWO_PER_BOX, new SplittableRandom(SEED));
+        solution = generator.generate().getSolution();
+        puzzle = BenchmarkBoards.puzzle(geometry, SEED);
+        puzzleStart = puzzle.toPackedBoard();
+        solved = BenchmarkBoards.solved(geometry, SEED);
+    }
+
+    @Benchmark
+    public BoardModel generateBoard() {
+        generated.generateBoard();
+        return generated;
+    }
+
+    @Benchmark
+    public PuzzleRecord makePuzzleWith2PerBox() {
+        return generator.fromSolution(solution);
+    }
+
+    /**
+     * Restaura el puzzle inicial y pide una pista, para que cada pista parta del mismo estado.
+     * El coste de la restauración sola lo mide {@link #restorePuzzle()}.
+     */
+    @Benchmark
+    public boolean getHint() {
+        puzzle.loadPackedBoard(puzzleStart);
+        return puzzle.getHint();
+    }
+
+    @Benchmark
+    public BoardModel restorePuzzle() {
+        puzzle.loadPackedBoard(puzzleStart);
+        return puzzle;
+    }
+
+    @Benchmark
+    public boolean isBoardComplete() {
+        return solved.isBoardComplete();
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.sudoku_game.models;
+
+import com.example.sudoku_game.interfaces.ValidationClass;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide la revisión de conflictos de {@link LogicModel#checkConflicts()} y el coste de una
+ * jugada con {@link LogicModel#setCellValue(int, int, int)} sobre una partida en curso:
+ * el puzzle generado con una semilla fija y la mitad de sus celdas vacías rellenas con
+ * valores al azar (algunos de ellos en conflicto).
+ *
+ * @author Juan Pablo Escamilla
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class LogicModelBenchmark {
+    private static final long SEED = 42;
+
+    @Param({"2x3", "3x3"})
+    private String boxes;
+
+    private LogicModel logic;
+    private int moveRow;
+    private int moveCol;
+    private int moveValue;
+    private boolean filled;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        logic = new LogicModel(BenchmarkBoards.geometry(boxes));
+        logic.setValidator(new ValidationClass());
+        BoardModel board = logic.getBoard();
+        board.setRandomSeed(SEED);
+        logic.startNewGame();
+        BenchmarkBoards.fillRandomly(board, 0.5, SEED);
+
+        // Celda vacía en la que se alterna entre su valor correcto y vaciarla
+        for (int cell = 0; cell < board.getGeometry().getCellCount(); cell++) {
+            if (board.getCell(cell / board.getBoardSize(), cell % board.getBoardSize()).isEmpty()) {
+                moveRow = cell / board.getBoardSize();
+                moveCol = cell % board.getBoardSize();
+                break;
+            }
+        }
+        moveValue = board.getSolution()[moveRow][moveCol];
+    }
+
+    @Benchmark
+    public LogicModel checkConflicts() {
+        logic.checkConflicts();
+        return logic;
+    }
+
+    @Benchmark
+    public boolean setCellValue() {
+        filled = !filled;
+        return logic.setCellValue(moveRow, moveCol, filled ? moveValue : 0);
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.sudoku_game.models;
+
+import com.example.sudoku_game.interfaces.BitmaskValidation;
+import com.example.sudoku_game.interfaces.ValidationClass;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide la latencia de aplicar una jugada tal como lo hace el juego: escribir el valor
+ * con {@link BoardModel#setCell(int, int, int)} y comprobar después si el tablero quedó
+ * completo. La jugada alterna entre completar la última celda vacía de un tablero resuelto
+ * y volver a vaciarla, que es el caso más caro para la comprobación.
+ * Con {@code validator = counters} la comprobación usa los contadores de celdas llenas y
+ * de repetidos del tablero; con {@code validator = scan} usa la revalidación completa de
+ * {@link ValidationClass}, que recorre todas las celdas.
+ *
+ * @author Juan Pablo Escamilla
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class MoveLatencyBenchmark {
+    private static final long SEED = 42;
+
+    @Param({"2x3", "3x3", "4x4"})
+    private String boxes;
+
+    @Param({"counters", "scan"})
+    private String validator;
+
+    private BoardModel board;
+    private int moveRow;
+    private int moveCol;
+    private int moveValue;
+    private boolean filled;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        board = BenchmarkBoards.solved(BenchmarkBoards.geometry(boxes), SEED);
+        board.setValidator("scan".equals(validator) ? new ValidationClass() : new BitmaskValidation());
+
+        // Última celda editable del tablero, que se vacía para que falte un solo valor
+        int size = board.getBoardSize();
+        for (int cell = size * size - 1; cell >= 0; cell--) {
+            if (!board.getCell(cell / size, cell % size).isLocked()) {
+                moveRow = cell / size;
+                moveCol = cell % size;
+                break;
+            }
+        }
+        moveValue = board.getSolution()[moveRow][moveCol];
+        board.setCell(moveRow, moveCol, 0);
+    }
+
+    @Benchmark
+    public boolean applyMove() {
+        filled = !filled;
+        board.setCell(moveRow, moveCol, filled ? moveValue : 0);
+        return board.isBoardComplete();
+    }
+}
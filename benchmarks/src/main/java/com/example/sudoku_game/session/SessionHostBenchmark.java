@@ -0,0 +1,145 @@
+package com.example.sudoku_game.session;
+
+import com.example.sudoku_game.generator.PuzzleGenerator;
+import com.example.sudoku_game.generator.PuzzleRecord;
+import com.example.sudoku_game.models.BenchmarkBoards;
+import com.example.sudoku_game.models.BoardGeometry;
+import com.example.sudoku_game.models.PuzzleMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Mide un {@link SessionManager} con muchas partidas vivas a la vez.
+ * Al preparar la prueba se informa de la memoria por partida, medida como la diferencia
+ * del montículo ocupado antes y después de crear las partidas, tanto en su forma completa
+ * como desalojadas a su forma codificada, con unas pocas jugadas en cada una. Después se miden las jugadas por segundo sobre
+ * partidas elegidas al azar, desde varios hilos ({@code play}) y atendiendo cada jugada en
+ * su propio hilo virtual, como lo hace el servicio HTTP ({@code playOnVirtualThreads}).
+ * Las partidas se reparten entre {@value #PUZZLES} puzzles generados con semillas fijas.
+ *
+ * @author Juan Pablo Escamilla
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class SessionHostBenchmark {
+    private static final long SEED = 42;
+    private static final int PUZZLES = 64;
+    private static final int MOVES_PER_BATCH = 1000;
+
+    /** Jugadas aplicadas a cada partida antes de medir la memoria, como en una partida en curso */
+    private static final int MOVES_PER_SESSION = 10;
+
+    @Param({"2x3", "3x3"})
+    private String boxes;
+
+    @Param({"10000"})
+    private int sessions;
+
+    private SessionManager manager;
+    private int size;
+    private long[] ids;
+
+    /** Celdas editables de cada puzzle, para que las jugadas no caigan en pistas fijas */
+    private int[][] emptyCells;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BoardGeometry geometry = BenchmarkBoards.geometry(boxes);
+        size = geometry.getSize();
+        PuzzleGenerator generator = new PuzzleGenerator(geometry, PuzzleMode.UNIQUE, new SplittableRandom(SEED));
+        PuzzleRecord[] puzzles = new PuzzleRecord[PUZZLES];
+        emptyCells = new int[PUZZLES][];
+        for (int i = 0; i < PUZZLES; i++) {
+            puzzles[i] = generator.generate();
+            byte[] cells = puzzles[i].getPuzzle();
+            emptyCells[i] = IntStream.range(0, cells.length).filter(cell -> cells[cell] == 0).toArray();
+        }
+
+        long before = usedHeap();
+        manager = new SessionManager(Duration.ofDays(1));
+        ids = new long[sessions];
+        for (int i = 0; i < sessions; i++) {
+            ids[i] = manager.create(puzzles[i % PUZZLES]);
+        }
+        SplittableRandom random = new SplittableRandom(SEED);
+        for (int i = 0; i < sessions; i++) {
+            int[] cells = emptyCells[i % PUZZLES];
+            for (int move = 0; move < MOVES_PER_SESSION; move++) {
+                int cell = cells[random.nextInt(cells.length)];
+                manager.play(ids[i], cell / size, cell % size, random.nextInt(1, size + 1));
+            }
+        }
+        long live = usedHeap();
+        manager.evictIdle(Duration.ZERO);
+        long evicted = usedHeap();
+        for (long id : ids) {
+            manager.getValues(id);
+        }
+        System.out.printf("%n%d partidas de %dx%d: %d bytes por partida viva, %d bytes por partida desalojada%n",
+                sessions, size, size, (live - before) / sessions, (evicted - before) / sessions);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        manager.close();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public MoveResult play() {
+        return randomMove(ThreadLocalRandom.current());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MOVES_PER_BATCH)
+    public void playOnVirtualThreads() {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < MOVES_PER_BATCH; i++) {
+                executor.submit(() -> randomMove(ThreadLocalRandom.current()));
+            }
+        }
+    }
+
+    private MoveResult randomMove(ThreadLocalRandom random) {
+        int index = random.nextInt(sessions);
+        int[] cells = emptyCells[index % PUZZLES];
+        int cell = cells[random.nextInt(cells.length)];
+        return manager.play(ids[index], cell / size, cell % size, random.nextInt(size + 1));
+    }
+
+    /**
+     * Obtiene el montículo ocupado después de pedir varias recolecciones de basura.
+     */
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 4; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.sudoku_game;
+
+import com.example.sudoku_game.generator.PuzzlePool;
+import com.example.sudoku_game.models.BoardGeometry;
+import com.example.sudoku_game.views.MenuView;
+import javafx.application.Application;
+import javafx.stage.Stage;
+
+import java.io.IOException;
+
+/**
+ * Clase principal del proyecto SudokuGame.
+ * Inicia la aplicación JavaFX y muestra la vista del menú principal.
+ * Para que la primera ventana aparezca cuanto antes, el archivo FXML del menú se carga en
+ * {@link #init()}, fuera del hilo de JavaFX, y la reserva de puzzles del tablero por defecto
+ * empieza a llenarse en segundo plano mientras se muestra el menú, así que al iniciar el
+ * juego ya hay un puzzle listo. Los tiempos de cada fase se pueden imprimir al mostrarse el
+ * menú (ver {@link StartupTimeline}).
+ *
+ * @author Nicolle Paz
+ * @author Juan Pablo Escamilla
+ * @version 1.0.0
+ */
+public class Main extends Application {
+    @Override
+    public void init() throws IOException {
+        StartupTimeline.mark("init");
+        PuzzlePool.shared(BoardGeometry.SIX_BY_SIX);
+        MenuView.preload();
+        StartupTimeline.mark("menú cargado");
+    }
+
+    @Override
+    public void start(Stage stage) throws IOException {
+        StartupTimeline.mark("start");
+        MenuView menuView = MenuView.getInstance();
+        StartupTimeline.watchFirstFrame(menuView.getScene());
+        menuView.show();
+    }
+
+    public static void main(String[] args) {
+        StartupTimeline.mark("main");
+        launch();
+    }
+}
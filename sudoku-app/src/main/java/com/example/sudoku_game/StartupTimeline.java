@@ -0,0 +1,97 @@
+package com.example.sudoku_game;
+
+import com.example.sudoku_game.metrics.Histogram;
+import com.example.sudoku_game.metrics.Metrics;
+import javafx.application.Platform;
+import javafx.scene.Scene;
+
+import java.time.Instant;
+
+/**
+ * Línea de tiempo del arranque de la aplicación, desde el inicio del proceso de la JVM hasta
+ * el primer fotograma del menú, cuando ya responde al usuario. La duración total se registra
+ * en la métrica {@code app.startup}, y con {@code -Dsudoku.startup.log=true} o las métricas
+ * activadas la línea de tiempo se imprime en la consola al llegar ese fotograma, por ejemplo
+ * {@code Arranque (ms desde el inicio de la JVM): main 180, init 420, menú cargado 730, start 760, primer fotograma 990}.
+ * <p>
+ * Sirve de referencia para detectar regresiones en el arranque: con
+ * {@code -Dsudoku.startup.exit=true} la aplicación imprime la línea de tiempo y se cierra
+ * después del primer fotograma, así que se puede medir varias veces seguidas desde un script. El inicio del proceso lo da
+ * el sistema operativo, con una resolución de unos 10 ms en Linux; si no lo da, los tiempos
+ * se cuentan desde {@code main}.
+ *
+ * @author Nicolle Paz
+ * @author Juan Pablo Escamilla
+ */
+final class StartupTimeline {
+    /** Propiedad del sistema que cierra la aplicación después del primer fotograma */
+    static final String EXIT_PROPERTY = "sudoku.startup.exit";
+
+    /** Propiedad del sistema que imprime la línea de tiempo al llegar el primer fotograma */
+    static final String LOG_PROPERTY = "sudoku.startup.log";
+
+    private static final Histogram STARTUP_TIME = Metrics.histogram("app.startup");
+
+    private static final long ORIGIN_MILLIS = ProcessHandle.current().info().startInstant()
+            .map(Instant::toEpochMilli)
+            .orElse(System.currentTimeMillis());
+
+    private static final StringBuilder PHASES = new StringBuilder();
+
+    private StartupTimeline() {
+    }
+
+    /**
+     * Registra que el arranque llegó a una fase.
+     *
+     * @param phase Nombre de la fase
+     */
+    static synchronized void mark(String phase) {
+        PHASES.append(PHASES.length() == 0 ? "" : ", ").append(phase).append(' ')
+                .append(System.currentTimeMillis() - ORIGIN_MILLIS);
+    }
+
+    /**
+     * Espera al primer fotograma de una escena recién mostrada para cerrar la línea de tiempo.
+     * El fotograma se detecta al terminar la primera pasada de disposición de la escena,
+     * justo antes de dibujarla.
+     *
+     * @param scene Escena de la primera ventana
+     */
+    static void watchFirstFrame(Scene scene) {
+        Runnable listener = new Runnable() {
+            private boolean done;
+
+            @Override
+            public void run() {
+                if (done) {
+                    return;
+                }
+                done = true;
+                // Quitar el oyente fuera del recorrido de oyentes en curso
+                Platform.runLater(() -> scene.removePostLayoutPulseListener(this));
+                finish();
+            }
+        };
+        scene.addPostLayoutPulseListener(listener);
+    }
+
+    /**
+     * Cierra la línea de tiempo con el primer fotograma, registra la duración total y, si se
+     * pidió, imprime la línea de tiempo.
+     */
+    private static void finish() {
+        long total = System.currentTimeMillis() - ORIGIN_MILLIS;
+        mark("primer fotograma");
+        STARTUP_TIME.record(total * 1_000_000);
+        boolean exit = Boolean.getBoolean(EXIT_PROPERTY);
+        if (exit || Boolean.getBoolean(LOG_PROPERTY) || Metrics.ENABLED) {
+            synchronized (StartupTimeline.class) {
+                System.out.println("Arranque (ms desde el inicio de la JVM): " + PHASES);
+            }
+        }
+        if (exit) {
+            Platform.exit();
+        }
+    }
+}
@@ -0,0 +1,471 @@
+package com.example.sudoku_game.controllers;
+
+import javafx.application.Platform;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
+import javafx.scene.layout.GridPane;
+import javafx.scene.control.TextField;
+import com.example.sudoku_game.generator.PuzzlePool;
+import com.example.sudoku_game.metrics.BoardRenderEvent;
+import com.example.sudoku_game.metrics.Histogram;
+import com.example.sudoku_game.metrics.Metrics;
+import com.example.sudoku_game.models.BoardGeometry;
+import com.example.sudoku_game.models.BoardModel;
+import com.example.sudoku_game.models.CellModel;
+import com.example.sudoku_game.models.MoveJournal;
+import com.example.sudoku_game.persistence.EventJournal;
+import com.example.sudoku_game.persistence.GameEventType;
+import com.example.sudoku_game.persistence.GameSaveStore;
+import com.example.sudoku_game.persistence.SavedGame;
+import com.example.sudoku_game.solver.Step;
+import com.example.sudoku_game.views.GameView;
+import com.example.sudoku_game.interfaces.BoardListener;
+import com.example.sudoku_game.interfaces.ValidationClass;
+
+import java.io.IOException;
+
+/**
+ * Clase GameController que maneja la lógica del juego y las interacciones
+ * del usuario en el juego de Sudoku. Conecta la vista con el modelo,
+ * valida las entradas del usuario y actualiza el tablero.
+ *
+ * @author Nicolle Paz
+ */
+public class GameController {
+    private static final Histogram RENDER_TIME = Metrics.histogram("view.populateBoard");
+    private static final Histogram RESUME_TIME = Metrics.histogram("app.resume");
+
+    private GameView view;
+    private BoardModel model;
+    private ValidationClass validator;
+    private PuzzlePool puzzlePool;
+    private GridPane boardGrid;
+    private TextField[][] cells;
+    private String[][] baseStyles;
+    private GameSaveStore saveStore;
+    private EventJournal eventJournal;
+    private long elapsedBeforeMillis;
+    private long startNanos;
+
+    /**
+     * Constructor que inicializa el controlador con la vista dada y un tablero de 6x6.
+     * También crea el modelo y el validador, y genera el tablero inicial.
+     *
+     * @param view instancia de GameView utilizada en la interfaz gráfica.
+     */
+    public GameController(GameView view) {
+        this(view, BoardGeometry.SIX_BY_SIX);
+    }
+
+    /**
+     * Constructor que inicializa el controlador con la vista y la geometría de tablero dadas.
+     * También crea el modelo y el validador, abre el diario de eventos y reanuda la partida
+     * guardada o, si no hay, carga el tablero inicial desde la reserva de puzzles pre-generados.
+     *
+     * @param view instancia de GameView utilizada en la interfaz gráfica.
+     * @param geometry geometría del tablero (tamaño y dimensiones de las cajas).
+     */
+    public GameController(GameView view, BoardGeometry geometry) {
+
+        this.view = view;
+        // El tablero se crea vacío: el puzzle sale de la partida guardada o de la reserva
+        this.model = new BoardModel(geometry, false);
+        this.validator = new ValidationClass();
+        this.puzzlePool = PuzzlePool.shared(geometry);
+        this.saveStore = GameSaveStore.defaultSlot(geometry);
+        try {
+            this.eventJournal = EventJournal.open(EventJournal.defaultPath(geometry));
+        } catch (IOException e) {
+            System.err.println("No se pudo abrir el diario de eventos: " + e.getMessage());
+        }
+        model.addBoardListener(new BoardRenderer());
+        if (resumeGame()) {
+            logSnapshot(GameEventType.RESUME);
+        } else {
+            model.loadPuzzle(puzzlePool.take());
+            logSnapshot(GameEventType.NEW_GAME);
+        }
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * Reanuda la partida guardada, si la hay, sin generar ni resolver ningún puzzle.
+     * El estado reconstruido con el diario de eventos tiene prioridad, ya que incluye las
+     * jugadas posteriores al último guardado si el juego se cerró de forma inesperada.
+     * Si la partida guardada está dañada, se ignora y se empieza una nueva.
+     *
+     * @return {@code true} si se reanudó una partida guardada
+     */
+    private boolean resumeGame() {
+        long start = Metrics.startTimer();
+        try {
+            SavedGame saved = eventJournal != null ? eventJournal.recoverState() : null;
+            if (saved == null) {
+                saved = saveStore.load();
+            }
+            if (saved == null || !saved.getGeometry().equals(model.getGeometry())) {
+                return false;
+            }
+            saved.restoreInto(model);
+            elapsedBeforeMillis = saved.getElapsedMillis();
+            RESUME_TIME.recordSince(start);
+            return true;
+        } catch (IOException e) {
+            System.err.println("No se pudo reanudar la partida guardada: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Guarda la partida actual para reanudarla la próxima vez que se abra el juego.
+     * Se invoca al cerrar la ventana del juego. Si no hay ningún puzzle cargado no guarda nada.
+     */
+    public void saveGame() {
+        if (model.getSolution() == null) {
+            // No se llegó a cargar ningún puzzle: no hay nada que guardar
+            return;
+        }
+        try {
+            saveStore.save(SavedGame.of(model, getElapsedMillis()));
+        } catch (IOException e) {
+            System.err.println("No se pudo guardar la partida: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Guarda la partida y cierra el diario de eventos, escribiendo los eventos pendientes.
+     * Si las métricas están activadas, también las muestra en la consola y las guarda en
+     * {@link Metrics#defaultPath()}. Se invoca al cerrar la ventana del juego.
+     */
+    public void onCloseRequest() {
+        saveGame();
+        if (Metrics.ENABLED) {
+            System.out.print(Metrics.snapshot().toText());
+            try {
+                Metrics.writeJson(Metrics.defaultPath());
+            } catch (IOException e) {
+                System.err.println("No se pudieron guardar las métricas: " + e.getMessage());
+            }
+        }
+        if (eventJournal != null) {
+            try {
+                eventJournal.close();
+            } catch (IOException e) {
+                System.err.println("No se pudo cerrar el diario de eventos: " + e.getMessage());
+            }
+            if (eventJournal.isFailed() || eventJournal.getDroppedCount() > 0) {
+                showJournalLossAlert(eventJournal.getDroppedCount(), eventJournal.isFailed());
+            }
+            eventJournal = null;
+        }
+    }
+
+    /**
+     * Registra en el diario de eventos una instantánea del tablero actual.
+     */
+    private void logSnapshot(GameEventType type) {
+        if (eventJournal != null && model.getSolution() != null) {
+            eventJournal.logSnapshot(type, SavedGame.of(model, elapsedBeforeMillis));
+        }
+    }
+
+    /**
+     * Registra en el diario de eventos la última jugada del historial del modelo, si el
+     * historial cambió. La escritura ocurre en el hilo del diario, no en el de la interfaz.
+     *
+     * @param type Tipo del evento
+     * @param positionBefore Posición del historial antes de la acción
+     */
+    private void logMove(GameEventType type, int positionBefore) {
+        MoveJournal moves = model.getMoveJournal();
+        if (eventJournal == null || moves.getPosition() == positionBefore) {
+            return;
+        }
+        if (type == GameEventType.UNDO) {
+            int entry = moves.get(moves.getPosition());
+            eventJournal.logCellChange(type, MoveJournal.cellOf(entry), MoveJournal.newValueOf(entry), MoveJournal.oldValueOf(entry));
+        } else {
+            int entry = moves.get(moves.getPosition() - 1);
+            eventJournal.logCellChange(type, MoveJournal.cellOf(entry), MoveJournal.oldValueOf(entry), MoveJournal.newValueOf(entry));
+        }
+    }
+
+    /**
+     * Obtiene el tiempo de juego de la partida actual, incluido el de sesiones anteriores.
+     *
+     * @return Tiempo transcurrido en milisegundos
+     */
+    public long getElapsedMillis() {
+        return elapsedBeforeMillis + (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    /**
+     * Reinicia el juego con un nuevo tablero y actualiza la vista.
+     * El tablero se toma de la reserva de puzzles pre-generados, por lo que normalmente
+     * no hay que esperar a que se genere. La vista se actualiza sin recrear las celdas.
+     */
+    public void onActionRestartGame() {
+        model.loadPuzzle(puzzlePool.take());
+        elapsedBeforeMillis = 0;
+        startNanos = System.nanoTime();
+        logSnapshot(GameEventType.NEW_GAME);
+        view.setStatusText("");
+    }
+
+    /**
+     * Proporciona una pista al usuario si hay disponibles.
+     * Si la pista se dedujo con lógica, la vista muestra la técnica usada.
+     * Si no hay pistas (para la última celda vacía), muestra una alerta informativa.
+     */
+    public void onActionHintButton() {
+        // Si hay pista, el modelo avisa del cambio y la celda se actualiza sola
+        int position = model.getMoveJournal().getPosition();
+        boolean hintGiven = model.getHint();
+        logMove(GameEventType.HINT, position);
+        // Mostrar la técnica que fuerza el valor de la pista
+        Step hint = model.getLastHint();
+        view.setStatusText(hintGiven && hint != null ? "Pista: " + hint.getTechnique().getLabel() : "");
+        if (!hintGiven) {
+            javafx.scene.control.Alert alert = new javafx.scene.control.Alert(javafx.scene.control.Alert.AlertType.INFORMATION);
+            alert.setTitle("Sin pistas");
+            alert.setHeaderText(null);
+            alert.setContentText("Te quedaste sin pistas :(");
+            alert.showAndWait();
+        }
+    }
+
+    /**
+     * Deshace la última jugada del usuario o la última pista.
+     * El modelo avisa del cambio y la celda se actualiza sola.
+     */
+    public void onActionUndoButton() {
+        int position = model.getMoveJournal().getPosition();
+        model.undo();
+        logMove(GameEventType.UNDO, position);
+        view.setStatusText("");
+    }
+
+    /**
+     * Vuelve a aplicar la última jugada deshecha.
+     * El modelo avisa del cambio y la celda se actualiza sola.
+     */
+    public void onActionRedoButton() {
+        int position = model.getMoveJournal().getPosition();
+        model.redo();
+        logMove(GameEventType.REDO, position);
+        view.setStatusText("");
+    }
+
+    /**
+     * Muestra una alerta cuando el usuario ingresa un número fuera del rango válido (1 al tamaño del tablero).
+     */
+    private void showRangeAlert() {
+        javafx.scene.control.Alert alert = new javafx.scene.control.Alert(javafx.scene.control.Alert.AlertType.ERROR);
+        alert.setTitle("Número inválido");
+        alert.setHeaderText(null);
+        alert.setContentText("Por favor ingrese un número del 1 al " + model.getBoardSize());
+        alert.showAndWait();
+    }
+
+    /**
+     * Muestra una alerta cuando el usuario realiza un movimiento inválido (número repetido).
+     */
+    private void showInvalidMoveAlert() {
+        javafx.scene.control.Alert alert = new javafx.scene.control.Alert(javafx.scene.control.Alert.AlertType.WARNING);
+        alert.setTitle("Movimiento inválido");
+        alert.setHeaderText(null);
+        alert.setContentText("Ese número ya está en la fila, columna o bloque");
+        alert.showAndWait();
+    }
+
+    /**
+     * Avisa al cerrar el juego de que el diario de eventos no pudo registrar toda la partida.
+     * La partida guardada no se ve afectada.
+     *
+     * @param dropped Número de eventos que no se registraron
+     * @param failed Si el diario dejó de escribir por un error de disco
+     */
+    private void showJournalLossAlert(long dropped, boolean failed) {
+        javafx.scene.control.Alert alert = new javafx.scene.control.Alert(javafx.scene.control.Alert.AlertType.WARNING);
+        alert.setTitle("Historial incompleto");
+        alert.setHeaderText(null);
+        alert.setContentText((failed ? "No se pudo escribir el historial de la partida en " + eventJournal.getPath() + ". " : "")
+                + "Se perdieron " + dropped + " eventos del historial. La partida guardada no se ve afectada.");
+        alert.showAndWait();
+    }
+
+    /**
+     * Muestra una alerta de felicitación cuando el jugador completa correctamente el tablero.
+     */
+    private void showWinAlert() {
+        javafx.scene.control.Alert alert = new javafx.scene.control.Alert(javafx.scene.control.Alert.AlertType.INFORMATION);
+        alert.setTitle("¡Felicidades!");
+        alert.setHeaderText(null);
+        alert.setContentText("¡Has completado correctamente el Sudoku!");
+        alert.showAndWait();
+    }
+
+    /**
+     * Llena el tablero del Sudoku en la interfaz gráfica de acuerdo al estado actual del modelo.
+     * Los campos de texto, sus estilos base y sus manejadores de teclado se crean una sola vez;
+     * después, los cambios del modelo actualizan solo las celdas que cambiaron (ver
+     * {@link #updateCell(int, int)}). También gestiona las entradas del usuario y valida los movimientos.
+     *
+     * @param boardGrid el GridPane que representa el tablero de Sudoku.
+     */
+    public void populateBoard(GridPane boardGrid) {
+        long start = Metrics.startTimer();
+        BoardRenderEvent event = new BoardRenderEvent();
+        event.begin();
+        boolean rebuilt = cells == null || boardGrid != this.boardGrid;
+        if (rebuilt) {
+            buildBoard(boardGrid);
+        }
+        refreshAllCells();
+        RENDER_TIME.recordSince(start);
+        event.end();
+        if (event.shouldCommit()) {
+            event.boardSize = model.getBoardSize();
+            event.rebuilt = rebuilt;
+            event.commit();
+        }
+    }
+
+    /**
+     * Crea los campos de texto del tablero y los añade a la cuadrícula.
+     *
+     * @param boardGrid el GridPane que representa el tablero de Sudoku.
+     */
+    private void buildBoard(GridPane boardGrid) {
+        boardGrid.getChildren().clear();
+        BoardGeometry geometry = model.getGeometry();
+        int size = model.getBoardSize();
+        int cellSize = GameView.getCellSize(geometry);
+        int fontSize = cellSize * 18 / 40;
+        this.boardGrid = boardGrid;
+        this.cells = new TextField[size][size];
+        this.baseStyles = new String[size][size];
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                TextField cell = new TextField();
+                cell.setPrefWidth(cellSize);
+                cell.setPrefHeight(cellSize);
+                String style = "-fx-font-size: " + fontSize + "px; -fx-alignment: center; -fx-border-color: black;";
+
+                int boxRow = row / geometry.getBoxHeight();
+                int boxCol = col / geometry.getBoxWidth();
+                if ((boxRow + boxCol) % 2 == 0) {
+                    style += "-fx-background-color: #d0d0d0;";
+                }
+                baseStyles[row][col] = style;
+
+                int finalRow = row;
+                int finalCol = col;
+                cell.setOnKeyPressed((KeyEvent keyEvent) -> {
+                    if (keyEvent.getCode() == KeyCode.ENTER) {
+                        String newValue = cell.getText().trim();
+
+                        int intValue = newValue.matches("[1-9][0-9]?") ? Integer.parseInt(newValue) : 0;
+                        if (intValue < 1 || intValue > model.getBoardSize()) {
+                            cell.setStyle(cell.getStyle() + "-fx-border-color: red; -fx-border-width: 2px;");
+                            showRangeAlert();
+                        } else {
+                            if (validator.isValidMove(model, finalRow, finalCol, intValue)) {
+                                int position = model.getMoveJournal().getPosition();
+                                model.setCell(finalRow, finalCol, intValue);
+                                logMove(GameEventType.MOVE, position);
+                                updateCell(finalRow, finalCol);
+                                if (model.isBoardComplete()) {
+                                    showWinAlert();
+                                    onActionRestartGame();
+                                }
+                            } else {
+                                cell.setStyle(cell.getStyle() + "-fx-border-color: red; -fx-border-width: 2px;");
+                                showInvalidMoveAlert();
+                            }
+                        }
+                    }
+                });
+                cells[row][col] = cell;
+                boardGrid.add(cell, col, row);
+            }
+        }
+    }
+
+    /**
+     * Actualiza todas las celdas de la interfaz con el estado del modelo.
+     */
+    private void refreshAllCells() {
+        for (int row = 0; row < model.getBoardSize(); row++) {
+            for (int col = 0; col < model.getBoardSize(); col++) {
+                updateCell(row, col);
+            }
+        }
+    }
+
+    /**
+     * Actualiza el texto, el estilo y la edición de una celda de la interfaz según el modelo.
+     *
+     * @param row fila de la celda.
+     * @param col columna de la celda.
+     */
+    private void updateCell(int row, int col) {
+        TextField cell = cells[row][col];
+        CellModel cellModel = model.getCell(row, col);
+        int value = cellModel.getValue();
+        String style = baseStyles[row][col];
+        boolean disabled = false;
+        if (value != 0) {
+            if (cellModel.isLocked()) {
+                // Celdas bloqueadas (originales del tablero)
+                disabled = true;
+                style += "-fx-text-fill: black; -fx-font-weight: bold; -fx-opacity: 1;";
+            } else if (cellModel.isHighlighted()) {
+                // Celdas resaltadas (pistas), deshabilitadas para que no se puedan editar
+                disabled = true;
+                style += "-fx-text-fill: green; -fx-font-weight: bold; -fx-opacity: 1;";
+            } else {
+                // Valores ingresados por el usuario (no resaltados, no bloqueados)
+                style += "-fx-text-fill: blue;";
+            }
+        }
+        cell.setText(value != 0 ? String.valueOf(value) : "");
+        cell.setStyle(style);
+        cell.setDisable(disabled);
+    }
+
+    /**
+     * Oyente del modelo que lleva cada cambio a la interfaz, en el hilo de JavaFX.
+     */
+    private final class BoardRenderer implements BoardListener {
+        @Override
+        public void cellValueChanged(int row, int col, int oldValue, int newValue) {
+            onFxThread(() -> updateCell(row, col));
+        }
+
+        @Override
+        public void cellStateChanged(int row, int col) {
+            onFxThread(() -> updateCell(row, col));
+        }
+
+        @Override
+        public void boardChanged() {
+            onFxThread(GameController.this::refreshAllCells);
+        }
+
+        /**
+         * Ejecuta la actualización ahora si ya se está en el hilo de JavaFX, o la programa
+         * en ese hilo si el cambio llegó desde otro. Antes de construir el tablero no hace nada.
+         */
+        private void onFxThread(Runnable update) {
+            if (cells == null) {
+                return;
+            }
+            if (Platform.isFxApplicationThread()) {
+                update.run();
+            } else {
+                Platform.runLater(update);
+            }
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.sudoku_game.views;
+
+import javafx.geometry.Pos;
+import javafx.scene.Scene;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.VBox;
+import javafx.stage.Stage;
+import com.example.sudoku_game.controllers.GameController;
+import com.example.sudoku_game.models.BoardGeometry;
+
+/**
+ * Vista del juego Sudoku.
+ * Esta clase crea la interfaz gráfica del juego, incluyendo el tablero de Sudoku
+ * y los botones para reiniciar el juego, obtener pistas y deshacer o rehacer jugadas.
+ *
+ * @author Nicolle Paz
+ * @version 1.0.0
+ */
+public class GameView {
+    /** Tamaño en píxeles de cada celda en el tablero clásico de 6x6 */
+    private static final int DEFAULT_CELL_SIZE = 40;
+
+    /** Ancho máximo aproximado del tablero en píxeles, para que los tableros grandes quepan en pantalla */
+    private static final int MAX_BOARD_WIDTH = 700;
+
+    private Stage stage;
+    private BoardGeometry geometry;
+    private GameController controller;
+    private GridPane boardGrid;
+    private Label statusLabel;
+
+    /**
+     * Constructor de la vista del juego con el tablero clásico de 6x6.
+     * Inicializa el controlador y la interfaz de usuario.
+     *
+     * @param stage la ventana principal donde se mostrará la vista del juego.
+     */
+    public GameView(Stage stage) {
+        this(stage, BoardGeometry.SIX_BY_SIX);
+    }
+
+    /**
+     * Constructor de la vista del juego para un tablero con la geometría dada.
+     * Inicializa el controlador y la interfaz de usuario.
+     *
+     * @param stage la ventana principal donde se mostrará la vista del juego.
+     * @param geometry geometría del tablero que se va a jugar.
+     */
+    public GameView(Stage stage, BoardGeometry geometry) {
+        this.stage = stage;
+        this.geometry = geometry;
+        this.controller = new GameController(this, geometry);
+        initializeUI();
+    }
+
+    /**
+     * Calcula el tamaño en píxeles de cada celda para una geometría de tablero.
+     * Los tableros grandes usan celdas más pequeñas para que el tablero quepa en pantalla.
+     *
+     * @param geometry geometría del tablero.
+     * @return el tamaño de cada celda en píxeles.
+     */
+    public static int getCellSize(BoardGeometry geometry) {
+        return Math.min(DEFAULT_CELL_SIZE, MAX_BOARD_WIDTH / geometry.getSize());
+    }
+
+    /**
+     * Inicializa la interfaz gráfica del juego.
+     * Crea y organiza los elementos visuales del tablero de Sudoku y los botones de acción.
+     */
+    private void initializeUI() {
+        VBox root = new VBox(10);
+        root.setAlignment(Pos.CENTER);
+
+        boardGrid = new GridPane();
+        boardGrid.setAlignment(Pos.CENTER);
+        controller.populateBoard(boardGrid);
+
+        Button RestartButton = new Button("Reiniciar");
+        RestartButton.setOnAction(e -> controller.onActionRestartGame());
+
+        Button HintButton = new Button("Pista");
+        HintButton.setOnAction(e -> controller.onActionHintButton());
+
+        Button UndoButton = new Button("Deshacer");
+        UndoButton.setOnAction(e -> controller.onActionUndoButton());
+
+        Button RedoButton = new Button("Rehacer");
+        RedoButton.setOnAction(e -> controller.onActionRedoButton());
+
+        HBox buttonsBox = new HBox(10); // Espacio horizontal entre botones
+        buttonsBox.setAlignment(Pos.CENTER);
+        buttonsBox.getChildren().addAll(RestartButton, HintButton, UndoButton, RedoButton);
+
+        // Texto con la técnica de la última pista
+        statusLabel = new Label();
+
+        root.getChildren().addAll(boardGrid, buttonsBox, statusLabel);
+        int boardWidth = geometry.getSize() * getCellSize(geometry);
+        Scene scene = new Scene(root, Math.max(400, boardWidth + 130), Math.max(350, boardWidth + 110));
+        stage.setTitle("Sudoku");
+        stage.setScene(scene);
+
+        // Guardar la partida y cerrar el diario al cerrar la ventana
+        stage.setOnCloseRequest(e -> controller.onCloseRequest());
+    }
+
+    /**
+     * Obtiene la cuadrícula del tablero de Sudoku.
+     *
+     * @return el objeto GridPane que representa el tablero de Sudoku.
+     */
+    public GridPane getBoardGrid() {
+        return boardGrid;
+    }
+
+    /**
+     * Muestra un texto informativo debajo de los botones.
+     *
+     * @param text el texto a mostrar, o una cadena vacía para ocultarlo.
+     */
+    public void setStatusText(String text) {
+        statusLabel.setText(text);
+    }
+}
\ No newline at end of file
@@ -20,15 +20,14 @@ import java.io.IOException;
 public class MenuView extends Stage {
     /**
      * Constructor de la vista del menú principal.
-     * Carga el archivo FXML correspondiente al menú y muestra la ventana del menú.
+     * Usa la interfaz cargada de antemano con {@link #preload()} o, si no se cargó,
+     * carga el archivo FXML correspondiente al menú.
      *
      * @throws IOException si ocurre un error al cargar el archivo FXML.
      */
     public MenuView() throws IOException {
-        FXMLLoader fxmlLoader = new FXMLLoader(
-                Main.class.getResource("menu-view.fxml")
-        );
-        Parent root = fxmlLoader.load();
+        Parent root = MenuViewHolder.PRELOADED_ROOT != null ? MenuViewHolder.PRELOADED_ROOT : loadRoot();
+        MenuViewHolder.PRELOADED_ROOT = null;
         Scene scene = new Scene(root, 373, 247);
         this.setTitle("Menú");
         this.setScene(scene);
@@ -51,11 +50,38 @@ public class MenuView extends Stage {
         }
     }
 
+    /**
+     * Carga de antemano el archivo FXML del menú, para que crear la vista después solo
+     * tenga que construir la ventana. Se puede llamar fuera del hilo de JavaFX, por ejemplo
+     * desde {@code Application.init()}, ya que la interfaz cargada aún no está en ninguna escena.
+     *
+     * @throws IOException si ocurre un error al cargar el archivo FXML.
+     */
+    public static void preload() throws IOException {
+        MenuViewHolder.PRELOADED_ROOT = loadRoot();
+    }
+
+    /**
+     * Carga la interfaz del menú desde su archivo FXML.
+     *
+     * @return el nodo raíz del menú.
+     * @throws IOException si ocurre un error al cargar el archivo FXML.
+     */
+    private static Parent loadRoot() throws IOException {
+        FXMLLoader fxmlLoader = new FXMLLoader(
+                Main.class.getResource("menu-view.fxml")
+        );
+        return fxmlLoader.load();
+    }
+
     /**
      * Clase interna que mantiene la instancia única de MenuView.
      * Esta clase es utilizada para implementar el patrón Singleton.
      */
     private static class MenuViewHolder {
         private static MenuView INSTANCE;
+
+        /** Interfaz del menú cargada con {@link #preload()}, pendiente de usar */
+        private static volatile Parent PRELOADED_ROOT;
     }
 }
\ No newline at end of file
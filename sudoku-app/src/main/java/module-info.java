@@ -1,8 +1,9 @@
 module com.example.sudoku_game {
     requires javafx.controls;
     requires javafx.fxml;
+    requires com.example.sudoku_game.core;
 
 
     opens com.example.sudoku_game.controllers to javafx.fxml;
     exports com.example.sudoku_game;
-}
\ No newline at end of file
+}
@@ -0,0 +1,112 @@
+package com.example.sudoku_game.generator;
+
+import com.example.sudoku_game.models.BoardGeometry;
+import com.example.sudoku_game.models.PuzzleMode;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Generador masivo de puzzles que reparte el trabajo entre todos los núcleos
+ * mediante fork-join.
+ * El rango de puzzles pedido se divide recursivamente en mitades; en cada división
+ * la mitad izquierda recibe un {@link SplittableRandom} derivado con {@code split()},
+ * de modo que cada trabajador tiene su propia fuente de aleatoriedad sin compartir estado.
+ * Como la forma de las divisiones solo depende del rango, una misma semilla produce
+ * los mismos puzzles con cualquier número de hilos.
+ *
+ * @author Juan Pablo Escamilla
+ */
+public class BulkPuzzleGenerator implements AutoCloseable {
+    /** Número de puzzles a partir del cual una tarea ya no se divide */
+    private static final int BATCH_SIZE = 64;
+
+    private final BoardGeometry geometry;
+    private final PuzzleMode mode;
+    private final ForkJoinPool pool;
+
+    /**
+     * Crea un generador masivo que usa todos los núcleos disponibles.
+     *
+     * @param geometry Geometría de los tableros a generar
+     * @param mode Modo de creación de los puzzles
+     */
+    public BulkPuzzleGenerator(BoardGeometry geometry, PuzzleMode mode) {
+        this(geometry, mode, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Crea un generador masivo con un número fijo de hilos.
+     *
+     * @param geometry Geometría de los tableros a generar
+     * @param mode Modo de creación de los puzzles
+     * @param parallelism Número de hilos trabajadores
+     */
+    public BulkPuzzleGenerator(BoardGeometry geometry, PuzzleMode mode, int parallelism) {
+        this.geometry = geometry;
+        this.mode = mode;
+        this.pool = new ForkJoinPool(parallelism);
+    }
+
+    /**
+     * Genera una cantidad de puzzles en paralelo.
+     *
+     * @param count Número de puzzles a generar
+     * @param seed Semilla a partir de la que se derivan las fuentes de aleatoriedad de los trabajadores
+     * @return Arreglo con los puzzles generados
+     */
+    public PuzzleRecord[] generate(int count, long seed) {
+        PuzzleRecord[] result = new PuzzleRecord[count];
+        pool.invoke(new GenerateTask(result, 0, count, new SplittableRandom(seed)));
+        return result;
+    }
+
+    /**
+     * Obtiene el número de hilos trabajadores.
+     *
+     * @return Número de hilos del generador
+     */
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    /**
+     * Detiene los hilos trabajadores.
+     */
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    /**
+     * Tarea que genera los puzzles de un rango del arreglo de resultados.
+     */
+    private final class GenerateTask extends RecursiveAction {
+        private final PuzzleRecord[] result;
+        private final int from;
+        private final int to;
+        private final SplittableRandom random;
+
+        GenerateTask(PuzzleRecord[] result, int from, int to, SplittableRandom random) {
+            this.result = result;
+            this.from = from;
+            this.to = to;
+            this.random = random;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= BATCH_SIZE) {
+                PuzzleGenerator generator = new PuzzleGenerator(geometry, mode, random);
+                for (int i = from; i < to; i++) {
+                    result[i] = generator.generate();
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new GenerateTask(result, from, middle, random.split()),
+                    new GenerateTask(result, middle, to, random));
+        }
+    }
+}
@@ -0,0 +1,409 @@
+package com.example.sudoku_game.generator;
+
+import com.example.sudoku_game.models.BoardGeometry;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Motor de transformaciones de simetría sobre cuadrículas de Sudoku.
+ * Las siguientes operaciones convierten una cuadrícula válida en otra cuadrícula válida
+ * equivalente, y un puzzle con solución única en otro puzzle con solución única y la
+ * misma dificultad: permutar los dígitos, intercambiar filas dentro de una banda,
+ * intercambiar bandas, intercambiar columnas dentro de una pila, intercambiar pilas y,
+ * si las cajas son cuadradas, trasponer.
+ * Derivar un puzzle nuevo así cuesta microsegundos, frente a repetir la búsqueda completa.
+ * Las cuadrículas son arreglos de bytes recorridos por filas. Las transformaciones se
+ * aplican en el sitio sobre arreglos de trabajo reservados al crear el motor, por lo que
+ * no reservan memoria; a cambio, cada instancia solo se debe usar desde un hilo.
+ *
+ * @author Juan Pablo Escamilla
+ */
+public class GridTransformer {
+    /** Número máximo de combinaciones de filas y columnas que se recorren para la forma canónica */
+    private static final long MAX_CANONICAL_COMBINATIONS = 4_000_000L;
+
+    private final BoardGeometry geometry;
+    private final int size;
+    private final int boxHeight;
+    private final int boxWidth;
+    private final boolean square;
+
+    private final int[] digitMap;
+    private final int[] rowOrder;
+    private final int[] colOrder;
+    private final int[] bandOrder;
+    private final int[] stackOrder;
+    private final byte[] scratch;
+
+    private int[][] rowPermutations;
+    private int[][] colPermutations;
+    private byte[] candidate;
+
+    /**
+     * Crea un motor de transformaciones para la geometría dada.
+     *
+     * @param geometry Geometría de las cuadrículas a transformar
+     */
+    public GridTransformer(BoardGeometry geometry) {
+        this.geometry = geometry;
+        this.size = geometry.getSize();
+        this.boxHeight = geometry.getBoxHeight();
+        this.boxWidth = geometry.getBoxWidth();
+        this.square = boxHeight == boxWidth;
+        this.digitMap = new int[size + 1];
+        this.rowOrder = new int[size];
+        this.colOrder = new int[size];
+        this.bandOrder = new int[size / boxHeight];
+        this.stackOrder = new int[size / boxWidth];
+        this.scratch = new byte[size * size];
+    }
+
+    /**
+     * Aplica la misma transformación aleatoria a un puzzle y a su solución, en el sitio.
+     * La transformación combina una permutación de dígitos, una permutación de filas que
+     * respeta las bandas, una permutación de columnas que respeta las pilas y, con cajas
+     * cuadradas, una trasposición opcional.
+     *
+     * @param puzzle Puzzle a transformar (0 en las celdas vacías)
+     * @param solution Solución del puzzle, que se transforma igual
+     * @param random Fuente de aleatoriedad
+     */
+    public void transform(byte[] puzzle, byte[] solution, SplittableRandom random) {
+        // Permutación de dígitos (el 0 se mantiene)
+        digitMap[0] = 0;
+        for (int digit = 1; digit <= size; digit++) {
+            digitMap[digit] = digit;
+        }
+        shuffle(digitMap, 1, size, random);
+
+        // Orden de filas: bandas permutadas y filas permutadas dentro de cada banda
+        randomOrder(rowOrder, bandOrder, boxHeight, random);
+        randomOrder(colOrder, stackOrder, boxWidth, random);
+        boolean transpose = square && random.nextBoolean();
+
+        apply(puzzle, transpose);
+        apply(solution, transpose);
+    }
+
+    /**
+     * Deriva un puzzle nuevo a partir de otro, sin modificar el original.
+     *
+     * @param seed Puzzle de partida
+     * @param random Fuente de aleatoriedad
+     * @return Un puzzle equivalente al de partida con sus celdas transformadas
+     */
+    public PuzzleRecord derive(PuzzleRecord seed, SplittableRandom random) {
+        byte[] puzzle = seed.getPuzzle().clone();
+        byte[] solution = seed.getSolution().clone();
+        transform(puzzle, solution, random);
+        return new PuzzleRecord(geometry, puzzle, solution);
+    }
+
+    /**
+     * Intercambia dos filas de la misma banda.
+     *
+     * @param grid Cuadrícula a modificar
+     * @param first Índice de la primera fila
+     * @param second Índice de la segunda fila
+     * @throws IllegalArgumentException si las filas pertenecen a bandas distintas
+     */
+    public void swapRows(byte[] grid, int first, int second) {
+        if (first / boxHeight != second / boxHeight) {
+            throw new IllegalArgumentException("Las filas " + first + " y " + second + " no están en la misma banda");
+        }
+        swapRowRange(grid, first, second, 1);
+    }
+
+    /**
+     * Intercambia dos bandas completas (grupos de filas que forman una fila de cajas).
+     *
+     * @param grid Cuadrícula a modificar
+     * @param first Índice de la primera banda
+     * @param second Índice de la segunda banda
+     */
+    public void swapBands(byte[] grid, int first, int second) {
+        swapRowRange(grid, first * boxHeight, second * boxHeight, boxHeight);
+    }
+
+    /**
+     * Intercambia dos columnas de la misma pila.
+     *
+     * @param grid Cuadrícula a modificar
+     * @param first Índice de la primera columna
+     * @param second Índice de la segunda columna
+     * @throws IllegalArgumentException si las columnas pertenecen a pilas distintas
+     */
+    public void swapColumns(byte[] grid, int first, int second) {
+        if (first / boxWidth != second / boxWidth) {
+            throw new IllegalArgumentException("Las columnas " + first + " y " + second + " no están en la misma pila");
+        }
+        swapColumnRange(grid, first, second, 1);
+    }
+
+    /**
+     * Intercambia dos pilas completas (grupos de columnas que forman una columna de cajas).
+     *
+     * @param grid Cuadrícula a modificar
+     * @param first Índice de la primera pila
+     * @param second Índice de la segunda pila
+     */
+    public void swapStacks(byte[] grid, int first, int second) {
+        swapColumnRange(grid, first * boxWidth, second * boxWidth, boxWidth);
+    }
+
+    /**
+     * Renombra los dígitos de una cuadrícula.
+     *
+     * @param grid Cuadrícula a modificar
+     * @param mapping Arreglo de tamaño + 1 donde {@code mapping[d]} es el nuevo valor del dígito {@code d};
+     *                {@code mapping[0]} debe ser 0
+     */
+    public void permuteDigits(byte[] grid, int[] mapping) {
+        for (int i = 0; i < grid.length; i++) {
+            grid[i] = (byte) mapping[grid[i]];
+        }
+    }
+
+    /**
+     * Calcula la forma canónica de una cuadrícula: la menor, en orden lexicográfico, de
+     * todas las cuadrículas equivalentes por permutaciones de filas, columnas y dígitos
+     * (y trasposición con cajas cuadradas). Dos cuadrículas son equivalentes si y solo si
+     * tienen la misma forma canónica, lo que permite eliminar duplicados.
+     * El número de combinaciones crece muy rápido con el tamaño del tablero, por lo que
+     * solo está disponible hasta tableros de 9x9.
+     *
+     * @param grid Cuadrícula de entrada (puzzle o solución), que no se modifica
+     * @param out Arreglo donde se escribe la forma canónica
+     * @throws UnsupportedOperationException si la geometría tiene demasiadas combinaciones
+     */
+    public void canonicalize(byte[] grid, byte[] out) {
+        if (rowPermutations == null) {
+            prepareCanonicalSearch();
+        }
+        boolean first = true;
+        for (int transposed = 0; transposed < (square ? 2 : 1); transposed++) {
+            for (int[] rows : rowPermutations) {
+                for (int[] cols : colPermutations) {
+                    if (first) {
+                        relabel(grid, rows, cols, transposed == 1, out, null);
+                        first = false;
+                    } else if (relabel(grid, rows, cols, transposed == 1, candidate, out)) {
+                        System.arraycopy(candidate, 0, out, 0, out.length);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Calcula la forma canónica de una cuadrícula en un arreglo nuevo.
+     *
+     * @param grid Cuadrícula de entrada, que no se modifica
+     * @return La forma canónica de la cuadrícula
+     * @throws UnsupportedOperationException si la geometría tiene demasiadas combinaciones
+     */
+    public byte[] canonicalForm(byte[] grid) {
+        byte[] out = new byte[grid.length];
+        canonicalize(grid, out);
+        return out;
+    }
+
+    /**
+     * Escribe en {@code target} la cuadrícula con las filas y columnas reordenadas y los
+     * dígitos renombrados por orden de aparición. Si se indica {@code best}, abandona en
+     * cuanto el resultado es mayor que {@code best}.
+     *
+     * @return {@code true} si el resultado es estrictamente menor que {@code best}
+     */
+    private boolean relabel(byte[] grid, int[] rows, int[] cols, boolean transpose, byte[] target, byte[] best) {
+        Arrays.fill(digitMap, 0);
+        int next = 0;
+        int comparison = best == null ? -1 : 0;
+        for (int r = 0, k = 0; r < size; r++) {
+            for (int c = 0; c < size; c++, k++) {
+                int value = transpose ? grid[rows[c] * size + cols[r]] : grid[rows[r] * size + cols[c]];
+                if (value != 0 && digitMap[value] == 0) {
+                    digitMap[value] = ++next;
+                }
+                int mapped = digitMap[value];
+                target[k] = (byte) mapped;
+                if (comparison == 0) {
+                    if (mapped > best[k]) {
+                        return false;
+                    }
+                    if (mapped < best[k]) {
+                        comparison = -1;
+                    }
+                }
+            }
+        }
+        return comparison < 0;
+    }
+
+    /**
+     * Precalcula todas las permutaciones de filas y columnas que respetan bandas y pilas.
+     */
+    private void prepareCanonicalSearch() {
+        long rowCount = permutationCount(size / boxHeight, boxHeight);
+        long colCount = permutationCount(size / boxWidth, boxWidth);
+        if (rowCount * colCount * (square ? 2 : 1) > MAX_CANONICAL_COMBINATIONS) {
+            throw new UnsupportedOperationException("Forma canónica no disponible para tableros de " + geometry);
+        }
+        rowPermutations = blockPermutations(size / boxHeight, boxHeight);
+        colPermutations = blockPermutations(size / boxWidth, boxWidth);
+        candidate = new byte[size * size];
+    }
+
+    private static long permutationCount(int blocks, int blockSize) {
+        long count = factorial(blocks);
+        for (int i = 0; i < blocks; i++) {
+            count *= factorial(blockSize);
+        }
+        return count;
+    }
+
+    private static long factorial(int n) {
+        long result = 1;
+        for (int i = 2; i <= n; i++) {
+            result *= i;
+        }
+        return result;
+    }
+
+    /**
+     * Genera todas las permutaciones de {@code blocks * blockSize} índices que mueven bloques
+     * completos y reordenan los índices dentro de cada bloque.
+     */
+    private static int[][] blockPermutations(int blocks, int blockSize) {
+        int[][] blockOrders = permutations(blocks);
+        int[][] innerOrders = permutations(blockSize);
+        int total = (int) permutationCount(blocks, blockSize);
+        int[][] result = new int[total][];
+        int[] choice = new int[blocks];
+        int index = 0;
+        for (int[] blockOrder : blockOrders) {
+            Arrays.fill(choice, 0);
+            while (true) {
+                int[] permutation = new int[blocks * blockSize];
+                for (int b = 0; b < blocks; b++) {
+                    int[] inner = innerOrders[choice[b]];
+                    for (int i = 0; i < blockSize; i++) {
+                        permutation[b * blockSize + i] = blockOrder[b] * blockSize + inner[i];
+                    }
+                }
+                result[index++] = permutation;
+
+                // Siguiente combinación de permutaciones internas (contador en base blockSize!)
+                int b = 0;
+                while (b < blocks && ++choice[b] == innerOrders.length) {
+                    choice[b++] = 0;
+                }
+                if (b == blocks) {
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    private static int[][] permutations(int n) {
+        int[][] result = new int[(int) factorial(n)][];
+        int[] current = new int[n];
+        for (int i = 0; i < n; i++) {
+            current[i] = i;
+        }
+        for (int index = 0; index < result.length; index++) {
+            result[index] = current.clone();
+            nextPermutation(current);
+        }
+        return result;
+    }
+
+    /**
+     * Avanza a la siguiente permutación en orden lexicográfico.
+     */
+    private static void nextPermutation(int[] values) {
+        int i = values.length - 2;
+        while (i >= 0 && values[i] >= values[i + 1]) {
+            i--;
+        }
+        if (i < 0) {
+            return;
+        }
+        int j = values.length - 1;
+        while (values[j] <= values[i]) {
+            j--;
+        }
+        int tmp = values[i];
+        values[i] = values[j];
+        values[j] = tmp;
+        for (int a = i + 1, b = values.length - 1; a < b; a++, b--) {
+            tmp = values[a];
+            values[a] = values[b];
+            values[b] = tmp;
+        }
+    }
+
+    /**
+     * Construye un orden aleatorio de índices que permuta los bloques y los índices dentro de cada bloque.
+     */
+    private void randomOrder(int[] order, int[] blockOrder, int blockSize, SplittableRandom random) {
+        for (int b = 0; b < blockOrder.length; b++) {
+            blockOrder[b] = b;
+        }
+        shuffle(blockOrder, 0, blockOrder.length, random);
+        for (int b = 0; b < blockOrder.length; b++) {
+            int start = b * blockSize;
+            for (int i = 0; i < blockSize; i++) {
+                order[start + i] = blockOrder[b] * blockSize + i;
+            }
+            shuffle(order, start, blockSize, random);
+        }
+    }
+
+    /**
+     * Mezcla {@code length} posiciones de un arreglo a partir de {@code start} (Fisher-Yates).
+     */
+    private static void shuffle(int[] values, int start, int length, SplittableRandom random) {
+        for (int i = length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = values[start + i];
+            values[start + i] = values[start + j];
+            values[start + j] = tmp;
+        }
+    }
+
+    /**
+     * Aplica {@link #digitMap}, {@link #rowOrder} y {@link #colOrder} (y la trasposición) a una cuadrícula.
+     */
+    private void apply(byte[] grid, boolean transpose) {
+        System.arraycopy(grid, 0, scratch, 0, grid.length);
+        for (int r = 0, k = 0; r < size; r++) {
+            for (int c = 0; c < size; c++, k++) {
+                int value = transpose ? scratch[rowOrder[c] * size + colOrder[r]] : scratch[rowOrder[r] * size + colOrder[c]];
+                grid[k] = (byte) digitMap[value];
+            }
+        }
+    }
+
+    private void swapRowRange(byte[] grid, int first, int second, int count) {
+        for (int i = first * size, j = second * size; i < (first + count) * size; i++, j++) {
+            byte tmp = grid[i];
+            grid[i] = grid[j];
+            grid[j] = tmp;
+        }
+    }
+
+    private void swapColumnRange(byte[] grid, int first, int second, int count) {
+        for (int row = 0; row < size; row++) {
+            for (int i = 0; i < count; i++) {
+                int a = row * size + first + i;
+                int b = row * size + second + i;
+                byte tmp = grid[a];
+                grid[a] = grid[b];
+                grid[b] = tmp;
+            }
+        }
+    }
+}
@@ -0,0 +1,379 @@
+package com.example.sudoku_game.generator;
+
+import com.example.sudoku_game.metrics.Counter;
+import com.example.sudoku_game.metrics.Histogram;
+import com.example.sudoku_game.metrics.Metrics;
+import com.example.sudoku_game.models.BoardGeometry;
+import com.example.sudoku_game.models.PuzzleMode;
+import com.example.sudoku_game.solver.DancingLinksSolver;
+import com.example.sudoku_game.solver.Difficulty;
+import com.example.sudoku_game.solver.GradeResult;
+import com.example.sudoku_game.solver.LogicalSolver;
+import com.example.sudoku_game.solver.SolverEngine;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Generador de puzzles sobre representaciones primitivas, sin objetos {@code CellModel}.
+ * Llena una solución con backtracking eligiendo la celda con menos candidatos, revela un
+ * número fijo de celdas por caja y, en modo {@link PuzzleMode#UNIQUE}, revela celdas
+ * adicionales hasta que la solución es única. {@code BoardModel} genera sus puzzles con
+ * esta clase y los carga con {@code loadPuzzle}.
+ * Cada instancia usa su propio {@link SplittableRandom} y arreglos de trabajo reutilizables,
+ * por lo que no se debe compartir entre hilos: cada hilo debe crear su propio generador.
+ *
+ * @author Juan Pablo Escamilla
+ */
+public class PuzzleGenerator {
+    /** Número máximo de retrocesos por intento de generación antes de reiniciar la búsqueda */
+    private static final int BACKTRACKS_PER_ATTEMPT = 20000;
+
+    /** Número máximo de intentos de generación de una solución */
+    private static final int MAX_GENERATION_ATTEMPTS = 50;
+
+    /** Número máximo de puzzles que se generan buscando uno de la dificultad pedida */
+    private static final int MAX_DIFFICULTY_ATTEMPTS = 1000;
+
+    private static final Histogram GENERATION_TIME = Metrics.histogram("generator.generateSolution");
+    private static final Counter BACKTRACKS = Metrics.counter("generator.backtracks");
+
+    private final BoardGeometry geometry;
+    private final PuzzleMode mode;
+    private final SplittableRandom random;
+    private final SolverEngine solver = new DancingLinksSolver();
+    private final LogicalSolver logicalSolver = new LogicalSolver();
+
+    private final int size;
+    private final int cells;
+    private final byte[] grid;
+    private final int[] boxOf;
+    private final int[] rowMasks;
+    private final int[] colMasks;
+    private final int[] boxMasks;
+    private final int[] positions;
+    private int backtracks;
+    private int lastAttempts;
+    private long lastBacktracks;
+    private GradeResult lastGrade;
+
+    /**
+     * Crea un generador para la geometría y el modo dados.
+     *
+     * @param geometry Geometría de los tableros a generar
+     * @param mode Modo de creación del puzzle a partir de la solución
+     * @param random Fuente de aleatoriedad, de uso exclusivo de este generador
+     */
+    public PuzzleGenerator(BoardGeometry geometry, PuzzleMode mode, SplittableRandom random) {
+        this.geometry = geometry;
+        this.mode = mode;
+        this.random = random;
+        this.size = geometry.getSize();
+        this.cells = geometry.getCellCount();
+        this.grid = new byte[cells];
+        this.boxOf = new int[cells];
+        this.rowMasks = new int[size];
+        this.colMasks = new int[size];
+        this.boxMasks = new int[size];
+        this.positions = new int[cells];
+        for (int cell = 0; cell < cells; cell++) {
+            boxOf[cell] = geometry.getBoxIndex(cell / size, cell % size);
+        }
+    }
+
+    /**
+     * Genera un nuevo puzzle con su solución. La búsqueda de la solución se reinicia si
+     * agota su presupuesto de retrocesos, hasta {@link #MAX_GENERATION_ATTEMPTS} veces.
+     *
+     * @return El puzzle generado
+     * @throws IllegalStateException si no se generó ninguna solución en todos los intentos
+     */
+    public PuzzleRecord generate() {
+        long start = Metrics.startTimer();
+        boolean generated = false;
+        lastAttempts = 0;
+        lastBacktracks = 0;
+        while (!generated && lastAttempts < MAX_GENERATION_ATTEMPTS) {
+            Arrays.fill(grid, (byte) 0);
+            Arrays.fill(rowMasks, 0);
+            Arrays.fill(colMasks, 0);
+            Arrays.fill(boxMasks, 0);
+            backtracks = 0;
+            generated = fill();
+            BACKTRACKS.add(backtracks);
+            lastAttempts++;
+            lastBacktracks += backtracks;
+        }
+        GENERATION_TIME.recordSince(start);
+        if (!generated) {
+            throw new IllegalStateException("No se pudo generar una solución de Sudoku válida para " + geometry);
+        }
+        return makePuzzle(grid.clone());
+    }
+
+    /**
+     * Crea un puzzle a partir de una solución ya completa, por ejemplo una tomada de un
+     * {@link SolutionCatalog}, con el mismo proceso que {@link #generate()}.
+     *
+     * @param solution Solución completa, indexada por {@code fila * tamaño + columna}; no se copia
+     * @return El puzzle creado
+     */
+    public PuzzleRecord fromSolution(byte[] solution) {
+        lastAttempts = 0;
+        lastBacktracks = 0;
+        return makePuzzle(solution);
+    }
+
+    /**
+     * Revela las celdas del puzzle a partir de la solución según el modo del generador.
+     */
+    private PuzzleRecord makePuzzle(byte[] solution) {
+        byte[] puzzle = new byte[cells];
+        revealPerBox(puzzle, solution);
+        if (mode == PuzzleMode.UNIQUE) {
+            ensureUniqueSolution(puzzle, solution);
+        }
+        return new PuzzleRecord(geometry, puzzle, solution);
+    }
+
+    /**
+     * Genera un puzzle cuya dificultad, calificada con el {@link LogicalSolver}, sea la pedida.
+     * Si un puzzle generado resulta más fácil, en modo {@link PuzzleMode#UNIQUE} se le quitan
+     * pistas mientras la solución siga siendo única hasta llegar a la dificultad (ver
+     * {@link #digHoles(PuzzleRecord, Difficulty)}); si no se llega, se prueba con otro puzzle.
+     *
+     * @param difficulty Dificultad buscada
+     * @return El puzzle generado, o {@code null} si la dificultad no se alcanza en tableros de
+     *         esta geometría (ver {@link #canReach(BoardGeometry, Difficulty)}) o no se encontró
+     *         ningún puzzle en {@link #MAX_DIFFICULTY_ATTEMPTS} intentos
+     */
+    public PuzzleRecord generate(Difficulty difficulty) {
+        if (!canReach(geometry, difficulty)) {
+            return null;
+        }
+        for (int attempt = 0; attempt < MAX_DIFFICULTY_ATTEMPTS; attempt++) {
+            PuzzleRecord record = generate();
+            lastGrade = logicalSolver.grade(record.getPuzzle(), geometry);
+            if (lastGrade.getDifficulty() == difficulty) {
+                return record;
+            }
+            if (mode == PuzzleMode.UNIQUE && lastGrade.getDifficulty().compareTo(difficulty) < 0) {
+                PuzzleRecord dug = digHoles(record, difficulty);
+                if (dug != null) {
+                    return dug;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Indica si se pueden generar puzzles de una dificultad en tableros de una geometría.
+     * En unidades pequeñas las técnicas más difíciles casi nunca son el paso más difícil
+     * necesario: en unidades de 6 celdas un trío solo hace falta con la unidad entera vacía,
+     * y en unidades de 4 celdas todo puzzle con solución única se resuelve con candidatos
+     * únicos. Buscar esas dificultades solo agotaría los intentos.
+     *
+     * @param geometry Geometría del tablero
+     * @param difficulty Dificultad buscada
+     * @return {@code true} si {@link #generate(Difficulty)} puede encontrar puzzles de esa dificultad
+     */
+    public static boolean canReach(BoardGeometry geometry, Difficulty difficulty) {
+        int size = geometry.getSize();
+        if (difficulty == Difficulty.EASY) {
+            return true;
+        }
+        if (difficulty == Difficulty.HARD || difficulty == Difficulty.EXPERT) {
+            return size > 6;
+        }
+        return size > 4;
+    }
+
+    /**
+     * Quita pistas de un puzzle con solución única, en orden aleatorio, hasta que se califique
+     * con la dificultad pedida. Una pista se quita solo si la solución sigue siendo única
+     * ({@code countSolutions(..., 2) == 1}) y el puzzle no pasa a ser más difícil de lo pedido;
+     * si no, se vuelve a poner y se prueba con la siguiente.
+     *
+     * @return El puzzle con la dificultad pedida, o {@code null} si se probaron todas las pistas sin llegar a ella
+     */
+    private PuzzleRecord digHoles(PuzzleRecord record, Difficulty difficulty) {
+        byte[] puzzle = record.getPuzzle().clone();
+        byte[] solution = record.getSolution();
+        int[][] board = new int[size][size];
+        int clues = 0;
+        for (int cell = 0; cell < cells; cell++) {
+            board[cell / size][cell % size] = puzzle[cell];
+            if (puzzle[cell] != 0) {
+                positions[clues++] = cell;
+            }
+        }
+
+        for (int next = 0; next < clues; next++) {
+            int j = next + random.nextInt(clues - next);
+            int cell = positions[j];
+            positions[j] = positions[next];
+            positions[next] = cell;
+
+            puzzle[cell] = 0;
+            board[cell / size][cell % size] = 0;
+            if (solver.countSolutions(board, geometry, 2) == 1) {
+                GradeResult grade = logicalSolver.grade(puzzle, geometry);
+                int comparison = grade.getDifficulty().compareTo(difficulty);
+                if (comparison == 0) {
+                    lastGrade = grade;
+                    return new PuzzleRecord(geometry, puzzle, solution);
+                }
+                if (comparison < 0) {
+                    continue; // Todavía más fácil: la pista queda quitada
+                }
+            }
+            puzzle[cell] = solution[cell];
+            board[cell / size][cell % size] = solution[cell];
+        }
+        return null;
+    }
+
+    /**
+     * Obtiene la calificación del último puzzle generado con {@link #generate(Difficulty)}.
+     *
+     * @return La calificación, o {@code null} si todavía no se ha calificado ningún puzzle
+     */
+    public GradeResult getLastGrade() {
+        return lastGrade;
+    }
+
+    /**
+     * Obtiene el número de intentos de la última solución generada con {@link #generate()}.
+     *
+     * @return Número de intentos, o 0 si la solución no se generó con backtracking
+     */
+    public int getLastAttempts() {
+        return lastAttempts;
+    }
+
+    /**
+     * Obtiene el número de retrocesos de la última solución generada, sumando todos sus intentos.
+     *
+     * @return Número de retrocesos
+     */
+    public long getLastBacktracks() {
+        return lastBacktracks;
+    }
+
+    /**
+     * Llena la cuadrícula con backtracking, eligiendo en cada paso la celda vacía con
+     * menos candidatos y probando sus candidatos en orden aleatorio.
+     *
+     * @return {@code true} si se completó la cuadrícula, {@code false} si se agotó el presupuesto
+     */
+    private boolean fill() {
+        int best = -1;
+        int bestCandidates = 0;
+        int bestCount = size + 1;
+        for (int cell = 0; cell < cells && bestCount > 1; cell++) {
+            if (grid[cell] != 0) {
+                continue;
+            }
+            int candidates = candidates(cell);
+            int count = Integer.bitCount(candidates);
+            if (count == 0) {
+                return false;
+            }
+            if (count < bestCount) {
+                best = cell;
+                bestCandidates = candidates;
+                bestCount = count;
+            }
+        }
+        if (best < 0) {
+            return true;
+        }
+
+        int row = best / size;
+        int col = best % size;
+        int box = boxOf[best];
+        int remaining = bestCandidates;
+        while (remaining != 0) {
+            // Elegir un candidato restante al azar
+            int pick = random.nextInt(Integer.bitCount(remaining));
+            int bit = remaining;
+            for (int i = 0; i < pick; i++) {
+                bit &= bit - 1;
+            }
+            bit = Integer.lowestOneBit(bit);
+            remaining &= ~bit;
+
+            grid[best] = (byte) (Integer.numberOfTrailingZeros(bit) + 1);
+            rowMasks[row] |= bit;
+            colMasks[col] |= bit;
+            boxMasks[box] |= bit;
+
+            if (fill()) {
+                return true;
+            }
+
+            grid[best] = 0;
+            rowMasks[row] &= ~bit;
+            colMasks[col] &= ~bit;
+            boxMasks[box] &= ~bit;
+            if (++backtracks > BACKTRACKS_PER_ATTEMPT) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private int candidates(int cell) {
+        int used = rowMasks[cell / size] | colMasks[cell % size] | boxMasks[boxOf[cell]];
+        return ~used & ((1 << size) - 1);
+    }
+
+    /**
+     * Revela al azar {@link BoardGeometry#getCluesPerBox()} celdas de cada caja.
+     */
+    private void revealPerBox(byte[] puzzle, byte[] solution) {
+        int boxWidth = geometry.getBoxWidth();
+        int clues = Math.min(geometry.getCluesPerBox(), size);
+        for (int box = 0; box < size; box++) {
+            int rowStart = geometry.getBoxRowStart(box);
+            int colStart = geometry.getBoxColStart(box);
+            for (int i = 0; i < size; i++) {
+                positions[i] = (rowStart + i / boxWidth) * size + colStart + i % boxWidth;
+            }
+            // Fisher-Yates parcial: las primeras posiciones quedan elegidas al azar
+            for (int i = 0; i < clues; i++) {
+                int j = i + random.nextInt(size - i);
+                int tmp = positions[i];
+                positions[i] = positions[j];
+                positions[j] = tmp;
+                puzzle[positions[i]] = solution[positions[i]];
+            }
+        }
+    }
+
+    /**
+     * Revela celdas al azar hasta que el puzzle tenga exactamente una solución.
+     */
+    private void ensureUniqueSolution(byte[] puzzle, byte[] solution) {
+        int[][] board = new int[size][size];
+        int hidden = 0;
+        for (int cell = 0; cell < cells; cell++) {
+            board[cell / size][cell % size] = puzzle[cell];
+            if (puzzle[cell] == 0) {
+                positions[hidden++] = cell;
+            }
+        }
+
+        int next = 0;
+        while (next < hidden && solver.countSolutions(board, geometry, 2) > 1) {
+            int j = next + random.nextInt(hidden - next);
+            int cell = positions[j];
+            positions[j] = positions[next];
+            positions[next++] = cell;
+
+            puzzle[cell] = solution[cell];
+            board[cell / size][cell % size] = solution[cell];
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.example.sudoku_game.generator;
+
+import com.example.sudoku_game.models.BoardGeometry;
+import com.example.sudoku_game.models.PuzzleMode;
+import com.example.sudoku_game.solver.Difficulty;
+
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * Identificador de un puzzle: la geometría del tablero, la dificultad pedida y una semilla
+ * de 64 bits. El mismo identificador genera siempre el mismo puzzle con solución única,
+ * así que basta con guardarlo o compartirlo para volver a tener el puzzle, y sirve de clave
+ * para guardar puzzles en caché.
+ * <p>
+ * El puzzle se genera con un {@link PuzzleGenerator} que toma toda su aleatoriedad de un
+ * {@link SplittableRandom} creado con la semilla. Su algoritmo (SplitMix64) es el mismo en
+ * todas las versiones de Java desde la 8 y no depende de la plataforma, y el generador no
+ * usa nada más que dependa del azar o del orden de una colección. Un cambio en el proceso
+ * del generador sí cambia el puzzle de cada identificador.
+ * <p>
+ * Como texto, un identificador se escribe {@code altoxancho-dificultad-semilla}, con la
+ * dificultad en minúsculas ({@code any} si no se pide ninguna) y la semilla en 16 cifras
+ * hexadecimales, por ejemplo {@code 3x3-easy-00000000075bcd15}. No hay identificadores de las
+ * dificultades que no se alcanzan en la geometría del tablero, así que pedir uno falla
+ * enseguida en lugar de agotar los intentos del generador.
+ *
+ * @author Juan Pablo Escamilla
+ */
+public final class PuzzleId {
+    /** Texto de la dificultad de un identificador que acepta cualquier dificultad */
+    private static final String ANY_DIFFICULTY = "any";
+
+    private final BoardGeometry geometry;
+    private final Difficulty difficulty;
+    private final long seed;
+
+    /**
+     * Crea un identificador.
+     *
+     * @param geometry Geometría del tablero
+     * @param difficulty Dificultad del puzzle, o {@code null} para aceptar el primero que se genere
+     * @param seed Semilla de la generación
+     * @throws IllegalArgumentException si la dificultad no se alcanza en tableros de esa geometría
+     *         (ver {@link PuzzleGenerator#canReach(BoardGeometry, Difficulty)})
+     */
+    public PuzzleId(BoardGeometry geometry, Difficulty difficulty, long seed) {
+        if (difficulty != null && !PuzzleGenerator.canReach(geometry, difficulty)) {
+            throw new IllegalArgumentException("No se generan puzzles de dificultad " + difficulty + " en tableros de " + geometry);
+        }
+        this.geometry = geometry;
+        this.difficulty = difficulty;
+        this.seed = seed;
+    }
+
+    /**
+     * Crea un identificador con una semilla al azar.
+     *
+     * @param geometry Geometría del tablero
+     * @param difficulty Dificultad del puzzle, o {@code null} para cualquiera
+     * @return Un identificador nuevo
+     * @throws IllegalArgumentException si la dificultad no se alcanza en tableros de esa geometría
+     */
+    public static PuzzleId random(BoardGeometry geometry, Difficulty difficulty) {
+        return new PuzzleId(geometry, difficulty, new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Obtiene el identificador del puzzle del día: todos los equipos obtienen el mismo
+     * para la misma fecha, geometría y dificultad.
+     *
+     * @param date Fecha del puzzle
+     * @param geometry Geometría del tablero
+     * @param difficulty Dificultad del puzzle, o {@code null} para cualquiera
+     * @return El identificador del puzzle de esa fecha
+     * @throws IllegalArgumentException si la dificultad no se alcanza en tableros de esa geometría
+     */
+    public static PuzzleId daily(LocalDate date, BoardGeometry geometry, Difficulty difficulty) {
+        // Mezclar el número de día para que días seguidos no tengan semillas seguidas
+        return new PuzzleId(geometry, difficulty, new SplittableRandom(date.toEpochDay()).nextLong());
+    }
+
+    /**
+     * Lee un identificador escrito con {@link #toString()}.
+     *
+     * @param text Identificador como {@code altoxancho-dificultad-semilla}
+     * @return El identificador leído
+     * @throws IllegalArgumentException si el texto no es un identificador válido
+     */
+    public static PuzzleId parse(String text) {
+        String[] parts = text.split("-");
+        int separator = parts.length == 3 ? parts[0].indexOf('x') : -1;
+        if (separator < 0 || parts[2].isEmpty() || parts[2].length() > 16) {
+            throw new IllegalArgumentException("Identificador de puzzle no válido: " + text);
+        }
+        try {
+            BoardGeometry geometry = new BoardGeometry(Integer.parseInt(parts[0].substring(0, separator)),
+                    Integer.parseInt(parts[0].substring(separator + 1)));
+            Difficulty difficulty = parts[1].equals(ANY_DIFFICULTY) ? null : Difficulty.valueOf(parts[1].toUpperCase(Locale.ROOT));
+            return new PuzzleId(geometry, difficulty, Long.parseUnsignedLong(parts[2], 16));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Identificador de puzzle no válido: " + text, e);
+        }
+    }
+
+    /**
+     * Genera el puzzle de este identificador. Con dificultad, es el primer puzzle de esa
+     * dificultad que produce la semilla.
+     *
+     * @return El puzzle, con solución única
+     * @throws IllegalStateException si la semilla no produce ningún puzzle de la dificultad
+     *         pedida; como la generación es determinista, el identificador no tiene puzzle
+     */
+    public PuzzleRecord generate() {
+        PuzzleGenerator generator = new PuzzleGenerator(geometry, PuzzleMode.UNIQUE, newRandom());
+        if (difficulty == null) {
+            return generator.generate();
+        }
+        PuzzleRecord puzzle = generator.generate(difficulty);
+        if (puzzle == null) {
+            throw new IllegalStateException("No hay un puzzle de dificultad " + difficulty + " para " + this);
+        }
+        return puzzle;
+    }
+
+    /**
+     * Crea la fuente de aleatoriedad de la que sale el puzzle. Se puede dividir con
+     * {@link SplittableRandom#split()} para repartir trabajo derivado entre varios hilos.
+     *
+     * @return Un {@link SplittableRandom} nuevo, iniciado con la semilla
+     */
+    public SplittableRandom newRandom() {
+        return new SplittableRandom(seed);
+    }
+
+    /**
+     * Obtiene la geometría del tablero.
+     *
+     * @return La geometría del tablero
+     */
+    public BoardGeometry getGeometry() {
+        return geometry;
+    }
+
+    /**
+     * Obtiene la dificultad del puzzle.
+     *
+     * @return La dificultad, o {@code null} si se acepta cualquiera
+     */
+    public Difficulty getDifficulty() {
+        return difficulty;
+    }
+
+    /**
+     * Obtiene la semilla de la generación.
+     *
+     * @return La semilla
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof PuzzleId)) {
+            return false;
+        }
+        PuzzleId id = (PuzzleId) other;
+        return seed == id.seed && difficulty == id.difficulty && geometry.equals(id.geometry);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * geometry.hashCode() + (difficulty == null ? 0 : difficulty.ordinal() + 1)) + Long.hashCode(seed);
+    }
+
+    /**
+     * Escribe el identificador como texto, que {@link #parse(String)} vuelve a leer.
+     *
+     * @return Identificador como {@code altoxancho-dificultad-semilla}
+     */
+    @Override
+    public String toString() {
+        String hex = Long.toHexString(seed);
+        return geometry.getBoxHeight() + "x" + geometry.getBoxWidth() + "-"
+                + (difficulty == null ? ANY_DIFFICULTY : difficulty.name().toLowerCase(Locale.ROOT)) + "-"
+                + "0".repeat(16 - hex.length()) + hex;
+    }
+}
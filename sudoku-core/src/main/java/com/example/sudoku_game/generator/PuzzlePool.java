@@ -0,0 +1,190 @@
+package com.example.sudoku_game.generator;
+
+import com.example.sudoku_game.models.BoardGeometry;
+import com.example.sudoku_game.models.PuzzleMode;
+
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Reserva acotada de puzzles pre-generados que un hilo en segundo plano mantiene llena.
+ * Al empezar o reiniciar una partida se toma un puzzle de la reserva sin esperar.
+ * <p>
+ * Cuando la cola de la reserva está llena, el hilo guarda además unas pocas bases de
+ * repuesto que nunca se entregan tal cual. Si la cola está vacía, se deriva un puzzle de una
+ * de ellas con {@link GridTransformer}, lo que cuesta microsegundos. Las bases se usan por
+ * turnos, así que el jugador nunca recibe una copia transformada del puzzle que acaba de
+ * resolver ni dos derivaciones seguidas de la misma base. Si todavía no hay bases, el puzzle
+ * se genera en el momento, en el hilo que lo pide. Los contadores de aciertos y fallos
+ * indican con qué frecuencia la cola estuvo vacía.
+ *
+ * @author Juan Pablo Escamilla
+ */
+public class PuzzlePool implements AutoCloseable {
+    /** Número de puzzles que mantiene cada reserva compartida */
+    public static final int DEFAULT_CAPACITY = 8;
+
+    /** Número de bases de repuesto para derivar puzzles cuando la cola está vacía */
+    static final int SPARE_BASES = 4;
+
+    /** Reservas compartidas por la aplicación, una por geometría */
+    private static final Map<BoardGeometry, PuzzlePool> SHARED = new ConcurrentHashMap<>();
+
+    private final BoardGeometry geometry;
+    private final BlockingQueue<PuzzleRecord> queue;
+    private final PuzzleGenerator fallbackGenerator;
+    private final GridTransformer transformer;
+    private final SplittableRandom derivationRandom;
+    private final Thread producer;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /** Bases de repuesto, que nunca se entregan; se usan con el cerrojo de {@code fallbackGenerator} */
+    private final PuzzleRecord[] spares = new PuzzleRecord[SPARE_BASES];
+    private int spareCount;
+    private int nextSpare;
+    private PuzzleRecord lastBase;
+
+    /**
+     * Crea una reserva y arranca el hilo que la llena.
+     *
+     * @param geometry Geometría de los puzzles
+     * @param mode Modo de creación de los puzzles
+     * @param capacity Número máximo de puzzles guardados
+     */
+    public PuzzlePool(BoardGeometry geometry, PuzzleMode mode, int capacity) {
+        SplittableRandom random = new SplittableRandom();
+        this.geometry = geometry;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.fallbackGenerator = new PuzzleGenerator(geometry, mode, random.split());
+        this.transformer = new GridTransformer(geometry);
+        this.derivationRandom = random.split();
+        PuzzleGenerator backgroundGenerator = new PuzzleGenerator(geometry, mode, random);
+        this.producer = new Thread(() -> fill(backgroundGenerator), "sudoku-puzzle-pool-" + geometry.getSize());
+        this.producer.setDaemon(true);
+        this.producer.start();
+    }
+
+    /**
+     * Obtiene la reserva compartida de puzzles con solución única para una geometría,
+     * creándola la primera vez que se pide.
+     *
+     * @param geometry Geometría de los puzzles
+     * @return La reserva compartida para esa geometría
+     */
+    public static PuzzlePool shared(BoardGeometry geometry) {
+        return SHARED.computeIfAbsent(geometry, g -> new PuzzlePool(g, PuzzleMode.UNIQUE, DEFAULT_CAPACITY));
+    }
+
+    /**
+     * Bucle del hilo productor: genera puzzles y espera mientras la reserva está llena.
+     */
+    private void fill(PuzzleGenerator generator) {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                try {
+                    PuzzleRecord puzzle = generator.generate();
+                    if (!queue.offer(puzzle) && !addSpare(puzzle)) {
+                        queue.put(puzzle);
+                    }
+                } catch (IllegalStateException e) {
+                    // Intentos agotados: se prueba con la siguiente solución
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Guarda un puzzle como base de repuesto si aún hay sitio.
+     *
+     * @return {@code true} si se guardó
+     */
+    private boolean addSpare(PuzzleRecord puzzle) {
+        synchronized (fallbackGenerator) {
+            if (spareCount == SPARE_BASES) {
+                return false;
+            }
+            spares[spareCount++] = puzzle;
+            return true;
+        }
+    }
+
+    /**
+     * Toma un puzzle de la reserva. Si está vacía, lo deriva de la siguiente base de repuesto
+     * o, si no hay ninguna, lo genera en el hilo actual.
+     *
+     * @return Un puzzle nuevo
+     */
+    public PuzzleRecord take() {
+        PuzzleRecord puzzle = queue.poll();
+        if (puzzle != null) {
+            hits.incrementAndGet();
+            return puzzle;
+        }
+        misses.incrementAndGet();
+        synchronized (fallbackGenerator) {
+            PuzzleRecord base = spareCount == 0 ? null : spares[nextSpare % spareCount];
+            if (base == null || base == lastBase) {
+                // Sin bases, o con una sola que ya se usó en la derivación anterior
+                return fallbackGenerator.generate();
+            }
+            nextSpare = nextSpare % spareCount + 1;
+            lastBase = base;
+            return transformer.derive(base, derivationRandom);
+        }
+    }
+
+    /**
+     * Obtiene el número de bases de repuesto guardadas.
+     *
+     * @return Número de bases, de 0 a {@link #SPARE_BASES}
+     */
+    int getSpareCount() {
+        synchronized (fallbackGenerator) {
+            return spareCount;
+        }
+    }
+
+    /**
+     * Obtiene el número de puzzles guardados en este momento.
+     *
+     * @return Número de puzzles disponibles sin esperar
+     */
+    public int size() {
+        return queue.size();
+    }
+
+    /**
+     * Obtiene el número de veces que se tomó un puzzle ya generado.
+     *
+     * @return Número de aciertos
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Obtiene el número de veces que la reserva estaba vacía y hubo que derivar o generar en el momento.
+     *
+     * @return Número de fallos
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Detiene el hilo que llena la reserva. Si era la reserva compartida de su geometría,
+     * deja de serlo, y la próxima llamada a {@link #shared(BoardGeometry)} crea otra.
+     */
+    @Override
+    public void close() {
+        SHARED.remove(geometry, this);
+        producer.interrupt();
+    }
+}
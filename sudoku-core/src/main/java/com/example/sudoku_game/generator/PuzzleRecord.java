@@ -0,0 +1,79 @@
+package com.example.sudoku_game.generator;
+
+import com.example.sudoku_game.models.BoardGeometry;
+
+/**
+ * Puzzle generado junto con su solución, en una representación compacta.
+ * Las cuadrículas se guardan como arreglos de bytes recorridos por filas
+ * ({@code índice = fila * tamaño + columna}), con 0 en las celdas vacías del puzzle.
+ * Los arreglos no se copian: quien crea el registro no debe modificarlos después.
+ *
+ * @author Juan Pablo Escamilla
+ */
+public final class PuzzleRecord {
+    private final BoardGeometry geometry;
+    private final byte[] puzzle;
+    private final byte[] solution;
+
+    /**
+     * Crea un registro de puzzle.
+     *
+     * @param geometry Geometría del tablero
+     * @param puzzle Celdas iniciales del puzzle, recorridas por filas
+     * @param solution Solución completa, recorrida por filas
+     */
+    public PuzzleRecord(BoardGeometry geometry, byte[] puzzle, byte[] solution) {
+        this.geometry = geometry;
+        this.puzzle = puzzle;
+        this.solution = solution;
+    }
+
+    /**
+     * Obtiene la geometría del tablero.
+     *
+     * @return La geometría del tablero
+     */
+    public BoardGeometry getGeometry() {
+        return geometry;
+    }
+
+    /**
+     * Obtiene las celdas iniciales del puzzle.
+     *
+     * @return Arreglo recorrido por filas, con 0 en las celdas vacías
+     */
+    public byte[] getPuzzle() {
+        return puzzle;
+    }
+
+    /**
+     * Obtiene la solución del puzzle.
+     *
+     * @return Arreglo recorrido por filas con la solución completa
+     */
+    public byte[] getSolution() {
+        return solution;
+    }
+
+    /**
+     * Obtiene el valor inicial de una celda del puzzle.
+     *
+     * @param row Índice de la fila
+     * @param col Índice de la columna
+     * @return Valor de la celda, o 0 si está vacía
+     */
+    public int getPuzzleValue(int row, int col) {
+        return puzzle[row * geometry.getSize() + col];
+    }
+
+    /**
+     * Obtiene el valor de una celda en la solución.
+     *
+     * @param row Índice de la fila
+     * @param col Índice de la columna
+     * @return Valor de la celda en la solución
+     */
+    public int getSolutionValue(int row, int col) {
+        return solution[row * geometry.getSize() + col];
+    }
+}
@@ -0,0 +1,304 @@
+package com.example.sudoku_game.generator;
+
+import com.example.sudoku_game.models.BoardGeometry;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+/**
+ * Catálogo con todas las soluciones válidas de un tablero de 6x6 con cajas de 2x3
+ * (28.200.960 cuadrículas), indexadas de 0 a {@link #GRID_COUNT} - 1.
+ * Renombrando los dígitos, toda cuadrícula se puede llevar a una única cuadrícula base
+ * cuya primera fila es 1 2 3 4 5 6, así que solo se guardan las 39.168 bases y la
+ * cuadrícula número N se obtiene en O(1) aplicando a la base {@code N / 720} la
+ * permutación de dígitos número {@code N % 720}.
+ * Cada base ocupa un registro fijo de 8 bytes con el rango de la permutación de cada una
+ * de sus filas 2 a 6, por lo que el archivo completo ocupa unos 300 KB y se puede mapear
+ * en memoria. Las bases se enumeran en paralelo, pero siempre en el mismo orden
+ * (lexicográfico), de modo que un índice identifica siempre la misma cuadrícula.
+ *
+ * @author Juan Pablo Escamilla
+ */
+public class SolutionCatalog {
+    /** Geometría de las cuadrículas del catálogo */
+    public static final BoardGeometry GEOMETRY = BoardGeometry.SIX_BY_SIX;
+
+    /** Número de cuadrículas base (con la primera fila 1 2 3 4 5 6) */
+    public static final int BASE_COUNT = 39_168;
+
+    /** Número de permutaciones de los 6 dígitos */
+    public static final int PERMUTATION_COUNT = 720;
+
+    /** Número total de soluciones de 6x6 */
+    public static final long GRID_COUNT = (long) BASE_COUNT * PERMUTATION_COUNT;
+
+    /** Identificador del formato de archivo ("S6CT") */
+    private static final int MAGIC = 0x53364354;
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 16;
+    private static final int RECORD_BYTES = Long.BYTES;
+
+    private static final int SIZE = 6;
+
+    /** Permutaciones de los índices 0 a 5 en orden lexicográfico */
+    private static final byte[][] PERMUTATIONS = buildPermutations();
+
+    private final LongBuffer records;
+
+    private SolutionCatalog(LongBuffer records) {
+        this.records = records;
+    }
+
+    /**
+     * Enumera en paralelo todas las cuadrículas base y construye el catálogo en memoria.
+     *
+     * @return Un catálogo con todas las soluciones de 6x6
+     */
+    public static SolutionCatalog build() {
+        long[] bases = IntStream.range(0, PERMUTATION_COUNT)
+                .parallel()
+                .mapToObj(SolutionCatalog::enumerateFromSecondRow)
+                .flatMapToLong(Arrays::stream)
+                .toArray();
+        if (bases.length != BASE_COUNT) {
+            throw new IllegalStateException("Se esperaban " + BASE_COUNT + " cuadrículas base y se encontraron " + bases.length);
+        }
+        return new SolutionCatalog(LongBuffer.wrap(bases));
+    }
+
+    /**
+     * Abre un catálogo guardado con {@link #write(Path)}, mapeándolo en memoria en modo lectura.
+     *
+     * @param path Ruta del archivo
+     * @return El catálogo guardado en el archivo
+     * @throws IOException si el archivo no se puede leer o no tiene el formato esperado
+     */
+    public static SolutionCatalog open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long expectedSize = HEADER_BYTES + (long) BASE_COUNT * RECORD_BYTES;
+            if (channel.size() != expectedSize) {
+                throw new IOException("Tamaño de catálogo inesperado: " + channel.size() + " bytes");
+            }
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, expectedSize);
+            if (mapped.getInt(0) != MAGIC || mapped.getInt(4) != VERSION || mapped.getInt(8) != BASE_COUNT) {
+                throw new IOException("El archivo " + path + " no es un catálogo de soluciones válido");
+            }
+            return new SolutionCatalog(mapped.position(HEADER_BYTES).slice().asLongBuffer());
+        }
+    }
+
+    /**
+     * Guarda el catálogo en un archivo: una cabecera de 16 bytes seguida de un registro
+     * de 8 bytes por cuadrícula base.
+     *
+     * @param path Ruta del archivo
+     * @throws IOException si no se puede escribir el archivo
+     */
+    public void write(Path path) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + BASE_COUNT * RECORD_BYTES);
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(BASE_COUNT).putInt(0);
+        for (int i = 0; i < BASE_COUNT; i++) {
+            buffer.putLong(records.get(i));
+        }
+        buffer.flip();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    /**
+     * Obtiene el número de cuadrículas del catálogo.
+     *
+     * @return {@link #GRID_COUNT}
+     */
+    public long size() {
+        return GRID_COUNT;
+    }
+
+    /**
+     * Escribe la cuadrícula número {@code index} en un arreglo, recorrida por filas.
+     *
+     * @param index Índice de la cuadrícula, de 0 a {@link #GRID_COUNT} - 1
+     * @param out Arreglo de 36 posiciones donde se escriben los dígitos (1 a 6)
+     * @throws IndexOutOfBoundsException si el índice está fuera de rango
+     */
+    public void getGrid(long index, byte[] out) {
+        Objects.checkIndex(index, GRID_COUNT);
+        long record = records.get((int) (index / PERMUTATION_COUNT));
+        byte[] digits = PERMUTATIONS[(int) (index % PERMUTATION_COUNT)];
+
+        // La primera fila de la base es 1 2 3 4 5 6, así que queda igual a la permutación de dígitos
+        for (int col = 0; col < SIZE; col++) {
+            out[col] = (byte) (digits[col] + 1);
+        }
+        for (int row = 1; row < SIZE; row++) {
+            byte[] rowPermutation = PERMUTATIONS[(int) (record % PERMUTATION_COUNT)];
+            record /= PERMUTATION_COUNT;
+            for (int col = 0; col < SIZE; col++) {
+                out[row * SIZE + col] = (byte) (digits[rowPermutation[col]] + 1);
+            }
+        }
+    }
+
+    /**
+     * Obtiene la cuadrícula número {@code index} en un arreglo nuevo.
+     *
+     * @param index Índice de la cuadrícula, de 0 a {@link #GRID_COUNT} - 1
+     * @return Arreglo de 36 posiciones con los dígitos de la cuadrícula, recorrida por filas
+     * @throws IndexOutOfBoundsException si el índice está fuera de rango
+     */
+    public byte[] getGrid(long index) {
+        byte[] out = new byte[SIZE * SIZE];
+        getGrid(index, out);
+        return out;
+    }
+
+    /**
+     * Enumera, en orden lexicográfico, las cuadrículas base cuya segunda fila es la
+     * permutación dada. Devuelve un arreglo vacío si esa segunda fila no es compatible
+     * con la primera.
+     */
+    private static long[] enumerateFromSecondRow(int secondRow) {
+        int[] grid = new int[SIZE * SIZE];
+        int[] rowMasks = new int[SIZE];
+        int[] colMasks = new int[SIZE];
+        int[] boxMasks = new int[SIZE];
+        for (int row = 0; row < 2; row++) {
+            byte[] permutation = PERMUTATIONS[row == 0 ? 0 : secondRow];
+            for (int col = 0; col < SIZE; col++) {
+                int bit = 1 << permutation[col];
+                int box = GEOMETRY.getBoxIndex(row, col);
+                if ((colMasks[col] & bit) != 0 || (boxMasks[box] & bit) != 0) {
+                    return new long[0];
+                }
+                grid[row * SIZE + col] = permutation[col];
+                rowMasks[row] |= bit;
+                colMasks[col] |= bit;
+                boxMasks[box] |= bit;
+            }
+        }
+        long[][] found = {new long[64]};
+        int count = fill(grid, 2 * SIZE, rowMasks, colMasks, boxMasks, found, 0);
+        return Arrays.copyOf(found[0], count);
+    }
+
+    /**
+     * Rellena las celdas desde {@code cell} probando los dígitos en orden creciente
+     * y guarda el registro de cada cuadrícula completa.
+     *
+     * @return Número de registros guardados en {@code found[0]}
+     */
+    private static int fill(int[] grid, int cell, int[] rowMasks, int[] colMasks, int[] boxMasks,
+                            long[][] found, int count) {
+        if (cell == grid.length) {
+            if (count == found[0].length) {
+                found[0] = Arrays.copyOf(found[0], count * 2);
+            }
+            found[0][count] = encode(grid);
+            return count + 1;
+        }
+        int row = cell / SIZE;
+        int col = cell % SIZE;
+        int box = GEOMETRY.getBoxIndex(row, col);
+        int free = ~(rowMasks[row] | colMasks[col] | boxMasks[box]) & ((1 << SIZE) - 1);
+        for (int mask = free; mask != 0; mask &= mask - 1) {
+            int digit = Integer.numberOfTrailingZeros(mask);
+            int bit = 1 << digit;
+            grid[cell] = digit;
+            rowMasks[row] |= bit;
+            colMasks[col] |= bit;
+            boxMasks[box] |= bit;
+            count = fill(grid, cell + 1, rowMasks, colMasks, boxMasks, found, count);
+            rowMasks[row] &= ~bit;
+            colMasks[col] &= ~bit;
+            boxMasks[box] &= ~bit;
+        }
+        return count;
+    }
+
+    /**
+     * Codifica las filas 2 a 6 de una cuadrícula base como dígitos en base 720.
+     */
+    private static long encode(int[] grid) {
+        long record = 0;
+        for (int row = SIZE - 1; row >= 1; row--) {
+            record = record * PERMUTATION_COUNT + rank(grid, row * SIZE);
+        }
+        return record;
+    }
+
+    /**
+     * Calcula la posición, en orden lexicográfico, de la permutación guardada en una fila.
+     */
+    private static int rank(int[] grid, int start) {
+        int rank = 0;
+        for (int i = 0; i < SIZE; i++) {
+            int smaller = 0;
+            for (int j = i + 1; j < SIZE; j++) {
+                if (grid[start + j] < grid[start + i]) {
+                    smaller++;
+                }
+            }
+            rank = rank * (SIZE - i) + smaller;
+        }
+        return rank;
+    }
+
+    private static byte[][] buildPermutations() {
+        byte[][] result = new byte[PERMUTATION_COUNT][];
+        byte[] current = {0, 1, 2, 3, 4, 5};
+        for (int index = 0; index < PERMUTATION_COUNT; index++) {
+            result[index] = current.clone();
+
+            // Siguiente permutación en orden lexicográfico
+            int i = SIZE - 2;
+            while (i >= 0 && current[i] >= current[i + 1]) {
+                i--;
+            }
+            if (i < 0) {
+                break;
+            }
+            int j = SIZE - 1;
+            while (current[j] <= current[i]) {
+                j--;
+            }
+            byte tmp = current[i];
+            current[i] = current[j];
+            current[j] = tmp;
+            for (int a = i + 1, b = SIZE - 1; a < b; a++, b--) {
+                tmp = current[a];
+                current[a] = current[b];
+                current[b] = tmp;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Genera el catálogo y lo guarda en un archivo.
+     * Uso: {@code SolutionCatalog [ruta]} (por defecto {@code soluciones-6x6.bin}).
+     *
+     * @param args Ruta opcional del archivo de salida
+     * @throws IOException si no se puede escribir el archivo
+     */
+    public static void main(String[] args) throws IOException {
+        Path path = Paths.get(args.length > 0 ? args[0] : "soluciones-6x6.bin");
+        long start = System.nanoTime();
+        SolutionCatalog catalog = build();
+        catalog.write(path);
+        System.out.printf("%d soluciones (%d bases) guardadas en %s en %.1f ms%n",
+                catalog.size(), BASE_COUNT, path, (System.nanoTime() - start) / 1_000_000.0);
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.sudoku_game.interfaces;
+
+import com.example.sudoku_game.metrics.Counter;
+import com.example.sudoku_game.metrics.Metrics;
+import com.example.sudoku_game.models.BoardModel;
+import com.example.sudoku_game.models.CellModel;
+
+/**
+ * Implementación de la interfaz de validación basada en las máscaras de bits
+ * que mantiene {@link BoardModel} para cada fila, columna y caja.
+ * En lugar de recorrer las celdas de la fila, la columna y la caja, cada consulta
+ * se responde con unas pocas operaciones de bits.
+ * Al igual que {@link ValidationClass}, nunca modifica el tablero; las máscaras
+ * las actualiza el propio tablero en el hilo que cambia los valores de las celdas.
+ *
+ * @author Juan Pablo Escamilla
+ */
+public class BitmaskValidation implements ValidationInterface {
+    private static final Counter VALID_MOVE_CALLS = Metrics.counter("validation.isValidMove");
+
+    /**
+     * Implementación que verifica si un valor se puede colocar en una posición específica
+     * consultando las máscaras de la fila, la columna y la caja de la celda.
+     * Si la celda ya contiene ese mismo valor, solo es válido si no se repite en otra celda.
+     */
+    @Override
+    public boolean isValidMove(BoardModel board, int row, int col, int value) {
+        VALID_MOVE_CALLS.increment();
+        // Si el valor es 0 (celda vacía), siempre es válido
+        if (value == 0) {
+            return true;
+        }
+
+        // Verificar si el valor está en el rango permitido
+        if (value < 1 || value > board.getBoardSize()) {
+            return false;
+        }
+
+        int bit = 1 << (value - 1);
+        if (board.getCell(row, col).getValue() == value) {
+            // La propia celda cuenta una aparición: el valor es válido si no está repetido
+            return (board.getDuplicateMask(row, col) & bit) == 0;
+        }
+
+        int used = board.getRowMask(row) | board.getColumnMask(col) | board.getBoxMask(board.getBoxIndex(row, col));
+        return (used & bit) == 0;
+    }
+
+    /**
+     * Implementación que verifica si el tablero completo es válido en tiempo constante.
+     * El tablero está completo y es válido si y solo si todas las celdas tienen valor y
+     * ningún dígito se repite en ninguna fila, columna o caja; ambos contadores los
+     * mantiene el tablero con cada jugada.
+     */
+    @Override
+    public boolean isValidBoard(BoardModel board) {
+        return board.getFilledCellCount() == board.getGeometry().getCellCount()
+                && board.getDuplicateCount() == 0;
+    }
+
+    /**
+     * Implementación que detecta si una celda específica tiene conflictos
+     * consultando la máscara de dígitos repetidos de sus unidades.
+     */
+    @Override
+    public boolean hasConflict(BoardModel board, int row, int col) {
+        CellModel cell = board.getCell(row, col);
+        int value = cell.getValue();
+
+        // Si la celda está vacía o bloqueada, no hay conflicto
+        if (value == 0 || cell.isLocked()) {
+            return false;
+        }
+
+        return (board.getDuplicateMask(row, col) & (1 << (value - 1))) != 0;
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.sudoku_game.interfaces;
+
+/**
+ * Interfaz para recibir los cambios de un tablero de Sudoku.
+ * Los cambios sueltos (una jugada, una pista, el bloqueo o resaltado de una celda)
+ * se notifican celda a celda; los cambios de todo el tablero (generar un juego nuevo,
+ * cargar un puzzle) se notifican con un único aviso al terminar, sin avisos por celda.
+ *
+ * @author Juan Pablo Escamilla
+ */
+public interface BoardListener {
+
+    /**
+     * Se invoca cuando cambia el valor de una celda.
+     *
+     * @param row Fila de la celda
+     * @param col Columna de la celda
+     * @param oldValue Valor anterior (0 si estaba vacía)
+     * @param newValue Valor nuevo (0 si quedó vacía)
+     */
+    void cellValueChanged(int row, int col, int oldValue, int newValue);
+
+    /**
+     * Se invoca cuando cambia el estado de bloqueo o de resaltado de una celda.
+     * Por defecto no hace nada, ya que solo interesa a quien dibuja el tablero.
+     *
+     * @param row Fila de la celda
+     * @param col Columna de la celda
+     */
+    default void cellStateChanged(int row, int col) {
+    }
+
+    /**
+     * Se invoca cuando el contenido de todo el tablero se ha reemplazado.
+     * Quien escucha debe volver a leer el tablero completo.
+     */
+    void boardChanged();
+}
@@ -1,75 +1,74 @@
 package com.example.sudoku_game.interfaces;
 
+import com.example.sudoku_game.metrics.Counter;
+import com.example.sudoku_game.metrics.Metrics;
+import com.example.sudoku_game.models.BoardGeometry;
 import com.example.sudoku_game.models.BoardModel;
 import com.example.sudoku_game.models.CellModel;
 
 /**
- * Implementación estándar de la interfaz de validación para el Sudoku 6x6
+ * Implementación estándar de la interfaz de validación para el Sudoku.
+ * Las dimensiones del tablero y de sus cajas se toman de la geometría del tablero validado.
+ * Todas las comprobaciones son de solo lectura: nunca modifican las celdas del tablero,
+ * por lo que se pueden ejecutar desde varios hilos a la vez sobre el mismo {@link BoardModel},
+ * por ejemplo desde un hilo en segundo plano mientras el hilo de JavaFX dibuja el tablero.
+ * Si otro hilo modifica el tablero durante una comprobación, el resultado corresponde
+ * a alguno de los estados por los que pasó cada celda.
  * @author Juan Pablo Escamilla
  */
 public class ValidationClass implements ValidationInterface {
-
-    /* Tamaño del tablero, altura y anchura de cada caja del sudoku. */
-    private static final int BOARD_SIZE = 6;
-    private static final int BOX_HEIGHT = 2;
-    private static final int BOX_WIDTH = 3;
+    private static final Counter VALID_MOVE_CALLS = Metrics.counter("validation.isValidMove");
 
     /**
      * Implementación que verifica si un valor se puede colocar en una posición específica
-     * comprobando filas, columnas y cajas de 2x3.
+     * comprobando filas, columnas y cajas.
+     * La propia celda se omite en la comprobación, lo que permite validar correctamente
+     * al reemplazar un valor existente sin modificar el tablero.
      */
     @Override
     public boolean isValidMove(BoardModel board, int row, int col, int value) {
+        VALID_MOVE_CALLS.increment();
+        BoardGeometry geometry = board.getGeometry();
+        int boardSize = geometry.getSize();
+        int boxHeight = geometry.getBoxHeight();
+        int boxWidth = geometry.getBoxWidth();
+
         // Si el valor es 0 (celda vacía), siempre es válido
         if (value == 0) {
             return true;
         }
 
-        // Verificar si el valor está en el rango permitido (1-6)
-        if (value < 1 || value > BOARD_SIZE) {
+        // Verificar si el valor está en el rango permitido (1 al tamaño del tablero)
+        if (value < 1 || value > boardSize) {
             return false;
         }
 
-        // Guardar el valor actual y establecerlo temporalmente a 0
-        // Esto permite validar correctamente al reemplazar un valor existente
-        int currentValue = board.getCell(row, col).getValue();
-        board.getCell(row, col).setValue(0);
-
         // Verificar si el valor ya existe en la misma fila
-        for (int c = 0; c < BOARD_SIZE; c++) {
-            if (board.getCell(row, c).getValue() == value) {
-                // Restaurar el valor original antes de retornar
-                board.getCell(row, col).setValue(currentValue);
+        for (int c = 0; c < boardSize; c++) {
+            if (c != col && board.getCell(row, c).getValue() == value) {
                 return false;
             }
         }
 
         // Verificar si el valor ya existe en la misma columna
-        for (int r = 0; r < BOARD_SIZE; r++) {
-            if (board.getCell(r, col).getValue() == value) {
-                // Restaurar el valor original antes de retornar
-                board.getCell(row, col).setValue(currentValue);
+        for (int r = 0; r < boardSize; r++) {
+            if (r != row && board.getCell(r, col).getValue() == value) {
                 return false;
             }
         }
 
-        // Verificar si el valor ya existe en la misma caja 2x3
-        int boxRowStart = (row / BOX_HEIGHT) * BOX_HEIGHT;
-        int boxColStart = (col / BOX_WIDTH) * BOX_WIDTH;
+        // Verificar si el valor ya existe en la misma caja
+        int boxRowStart = (row / boxHeight) * boxHeight;
+        int boxColStart = (col / boxWidth) * boxWidth;
 
-        for (int r = boxRowStart; r < boxRowStart + BOX_HEIGHT; r++) {
-            for (int c = boxColStart; c < boxColStart + BOX_WIDTH; c++) {
-                if (board.getCell(r, c).getValue() == value) {
-                    // Restaurar el valor original antes de retornar
-                    board.getCell(row, col).setValue(currentValue);
+        for (int r = boxRowStart; r < boxRowStart + boxHeight; r++) {
+            for (int c = boxColStart; c < boxColStart + boxWidth; c++) {
+                if ((r != row || c != col) && board.getCell(r, c).getValue() == value) {
                     return false;
                 }
             }
         }
 
-        // Restaurar el valor original antes de retornar
-        board.getCell(row, col).setValue(currentValue);
-
         // Si pasa todas las verificaciones, el movimiento es válido
         return true;
     }
@@ -81,9 +80,11 @@ public class ValidationClass implements ValidationInterface {
      */
     @Override
     public boolean isValidBoard(BoardModel board) {
+        int boardSize = board.getBoardSize();
+
         // Verificar que cada celda tenga un valor válido
-        for (int row = 0; row < BOARD_SIZE; row++) {
-            for (int col = 0; col < BOARD_SIZE; col++) {
+        for (int row = 0; row < boardSize; row++) {
+            for (int col = 0; col < boardSize; col++) {
                 int value = board.getCell(row, col).getValue();
 
                 // Si la celda está vacía, el tablero no está completo
@@ -91,19 +92,8 @@ public class ValidationClass implements ValidationInterface {
                     return false;
                 }
 
-                // Guardar el valor actual
-                int currentValue = value;
-
-                // Temporalmente establecer la celda a vacía para validar
-                board.getCell(row, col).setValue(0);
-
                 // Verificar si el valor es válido en esa posición
-                boolean isValid = isValidMove(board, row, col, currentValue);
-
-                // Restaurar el valor original
-                board.getCell(row, col).setValue(currentValue);
-
-                if (!isValid) {
+                if (!isValidMove(board, row, col, value)) {
                     return false;
                 }
             }
@@ -126,25 +116,16 @@ public class ValidationClass implements ValidationInterface {
             return false;
         }
 
-        // Temporalmente quitar el valor para validar
-        int originalValue = value;
-        cell.setValue(0);
-
-        // Verificar si el valor original causa conflicto
-        boolean isValid = isValidMove(board, row, col, originalValue);
-
-        // Restaurar el valor
-        cell.setValue(originalValue);
-
-        // Si no es válido, hay conflicto
-        return !isValid;
+        // Si el valor de la celda no es válido en su posición, hay conflicto
+        return !isValidMove(board, row, col, value);
     }
 
     /**
      * Método auxiliar para verificar si una fila contiene el valor especificado
      */
     private boolean rowContains(BoardModel board, int row, int value) {
-        for (int col = 0; col < BOARD_SIZE; col++) {
+        int boardSize = board.getBoardSize();
+        for (int col = 0; col < boardSize; col++) {
             if (board.getCell(row, col).getValue() == value) {
                 return true;
             }
@@ -161,7 +142,8 @@ public class ValidationClass implements ValidationInterface {
      * @return {@code true} si el valor existe en la columna, {@code false} en caso contrario
      */
     private boolean colContains(BoardModel board, int col, int value) {
-        for (int row = 0; row < BOARD_SIZE; row++) {
+        int boardSize = board.getBoardSize();
+        for (int row = 0; row < boardSize; row++) {
             if (board.getCell(row, col).getValue() == value) {
                 return true;
             }
@@ -179,11 +161,14 @@ public class ValidationClass implements ValidationInterface {
      * @return {@code true} si el valor existe en la caja, {@code false} en caso contrario
      */
     private boolean boxContains(BoardModel board, int boxRow, int boxCol, int value) {
-        int rowStart = boxRow * BOX_HEIGHT;
-        int colStart = boxCol * BOX_WIDTH;
-
-        for (int row = rowStart; row < rowStart + BOX_HEIGHT; row++) {
-            for (int col = colStart; col < colStart + BOX_WIDTH; col++) {
+        BoardGeometry geometry = board.getGeometry();
+        int boxHeight = geometry.getBoxHeight();
+        int boxWidth = geometry.getBoxWidth();
+        int rowStart = boxRow * boxHeight;
+        int colStart = boxCol * boxWidth;
+
+        for (int row = rowStart; row < rowStart + boxHeight; row++) {
+            for (int col = colStart; col < colStart + boxWidth; col++) {
                 if (board.getCell(row, col).getValue() == value) {
                     return true;
                 }
@@ -200,10 +185,15 @@ public class ValidationClass implements ValidationInterface {
      * @return {@code true} si todas las restricciones se cumplen, {@code false} en caso contrario
      */
     public boolean checkAllConstraints(BoardModel board) {
+        BoardGeometry geometry = board.getGeometry();
+        int boardSize = geometry.getSize();
+        int boxHeight = geometry.getBoxHeight();
+        int boxWidth = geometry.getBoxWidth();
+
         // Verificar filas
-        for (int row = 0; row < BOARD_SIZE; row++) {
-            boolean[] seen = new boolean[BOARD_SIZE + 1];
-            for (int col = 0; col < BOARD_SIZE; col++) {
+        for (int row = 0; row < boardSize; row++) {
+            boolean[] seen = new boolean[boardSize + 1];
+            for (int col = 0; col < boardSize; col++) {
                 int value = board.getCell(row, col).getValue();
                 if (value != 0) {
                     if (seen[value]) {
@@ -215,9 +205,9 @@ public class ValidationClass implements ValidationInterface {
         }
 
         // Verificar columnas
-        for (int col = 0; col < BOARD_SIZE; col++) {
-            boolean[] seen = new boolean[BOARD_SIZE + 1];
-            for (int row = 0; row < BOARD_SIZE; row++) {
+        for (int col = 0; col < boardSize; col++) {
+            boolean[] seen = new boolean[boardSize + 1];
+            for (int row = 0; row < boardSize; row++) {
                 int value = board.getCell(row, col).getValue();
                 if (value != 0) {
                     if (seen[value]) {
@@ -228,12 +218,12 @@ public class ValidationClass implements ValidationInterface {
             }
         }
 
-        // Verificar cajas 2x3
-        for (int boxRow = 0; boxRow < BOARD_SIZE / BOX_HEIGHT; boxRow++) {
-            for (int boxCol = 0; boxCol < BOARD_SIZE / BOX_WIDTH; boxCol++) {
-                boolean[] seen = new boolean[BOARD_SIZE + 1];
-                for (int row = boxRow * BOX_HEIGHT; row < (boxRow + 1) * BOX_HEIGHT; row++) {
-                    for (int col = boxCol * BOX_WIDTH; col < (boxCol + 1) * BOX_WIDTH; col++) {
+        // Verificar cajas
+        for (int boxRow = 0; boxRow < boardSize / boxHeight; boxRow++) {
+            for (int boxCol = 0; boxCol < boardSize / boxWidth; boxCol++) {
+                boolean[] seen = new boolean[boardSize + 1];
+                for (int row = boxRow * boxHeight; row < (boxRow + 1) * boxHeight; row++) {
+                    for (int col = boxCol * boxWidth; col < (boxCol + 1) * boxWidth; col++) {
                         int value = board.getCell(row, col).getValue();
                         if (value != 0) {
                             if (seen[value]) {
@@ -35,8 +35,8 @@ public interface ValidationInterface {
      * de las reglas del Sudoku.
      *
      * @param board El tablero de Sudoku
-     * @param row Fila de la celda a verificar (0-5)
-     * @param col Columna de la celda a verificar (0-5)
+     * @param row Fila de la celda a verificar (0 a tamaño - 1)
+     * @param col Columna de la celda a verificar (0 a tamaño - 1)
      * @return {@code true} si hay conflicto, {@code false} en caso contrario
      */
     boolean hasConflict(BoardModel board, int row, int col);
@@ -0,0 +1,26 @@
+package com.example.sudoku_game.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Evento de Java Flight Recorder emitido al dibujar el tablero en la interfaz
+ * ({@code GameController.populateBoard}).
+ *
+ * @author Juan Pablo Escamilla
+ */
+@Name("com.example.sudoku_game.BoardRender")
+@Label("Dibujado del tablero")
+@Category({"Sudoku", "Interfaz"})
+@Description("Creación o actualización de los campos de texto del tablero")
+public class BoardRenderEvent extends Event {
+    @Label("Tamaño del tablero")
+    public int boardSize;
+
+    @Label("Reconstruido")
+    @Description("Se crearon de nuevo los campos de texto, en lugar de solo actualizar sus valores")
+    public boolean rebuilt;
+}
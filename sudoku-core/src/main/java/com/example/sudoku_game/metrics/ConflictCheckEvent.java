@@ -0,0 +1,29 @@
+package com.example.sudoku_game.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Evento de Java Flight Recorder emitido al actualizar el resaltado de conflictos
+ * ({@code LogicModel.checkConflicts} y después de cada jugada).
+ *
+ * @author Juan Pablo Escamilla
+ */
+@Name("com.example.sudoku_game.ConflictCheck")
+@Label("Comprobación de conflictos")
+@Category({"Sudoku", "Motor"})
+@Description("Actualización del resaltado de las celdas que entraron o salieron de conflicto")
+public class ConflictCheckEvent extends Event {
+    @Label("Tamaño del tablero")
+    public int boardSize;
+
+    @Label("Celdas revisadas")
+    @Description("Celdas cuyo estado de conflicto cambió desde la comprobación anterior")
+    public int changedCells;
+
+    @Label("Celdas en conflicto")
+    public int conflictingCells;
+}
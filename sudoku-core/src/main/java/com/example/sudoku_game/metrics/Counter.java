@@ -0,0 +1,62 @@
+package com.example.sudoku_game.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Contador de eventos del {@link Metrics registro de métricas}.
+ * Usa un {@link LongAdder}, que reparte los incrementos entre varias celdas cuando hay
+ * hilos compitiendo, así que contar no bloquea ni invalida la misma línea de caché en
+ * todos los núcleos. Si las métricas están desactivadas, los incrementos no hacen nada.
+ *
+ * @author Juan Pablo Escamilla
+ */
+public final class Counter {
+    private final String name;
+    private final LongAdder count = new LongAdder();
+
+    Counter(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Suma uno al contador.
+     */
+    public void increment() {
+        if (Metrics.ENABLED) {
+            count.increment();
+        }
+    }
+
+    /**
+     * Suma una cantidad al contador.
+     *
+     * @param amount Cantidad a sumar
+     */
+    public void add(long amount) {
+        if (Metrics.ENABLED) {
+            count.add(amount);
+        }
+    }
+
+    /**
+     * Obtiene el valor actual del contador.
+     *
+     * @return Suma de todos los incrementos
+     */
+    public long get() {
+        return count.sum();
+    }
+
+    /**
+     * Obtiene el nombre del contador.
+     *
+     * @return Nombre con el que se registró
+     */
+    public String getName() {
+        return name;
+    }
+
+    void reset() {
+        count.reset();
+    }
+}
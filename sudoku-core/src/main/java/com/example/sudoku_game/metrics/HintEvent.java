@@ -0,0 +1,29 @@
+package com.example.sudoku_game.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Evento de Java Flight Recorder emitido al pedir una pista ({@code BoardModel.getHint}).
+ *
+ * @author Juan Pablo Escamilla
+ */
+@Name("com.example.sudoku_game.Hint")
+@Label("Pista")
+@Category({"Sudoku", "Motor"})
+@Description("Búsqueda y colocación de una pista")
+public class HintEvent extends Event {
+    @Label("Tamaño del tablero")
+    public int boardSize;
+
+    @Label("Proporcionada")
+    @Description("Se colocó una pista; no la hay si quedan una o ninguna celda vacía")
+    public boolean provided;
+
+    @Label("Técnica")
+    @Description("Técnica lógica que forzó la pista, o vacío si se tomó de la solución")
+    public String technique;
+}
@@ -0,0 +1,118 @@
+package com.example.sudoku_game.metrics;
+
+/**
+ * Resumen de un {@link Histogram} en un momento dado.
+ *
+ * @author Juan Pablo Escamilla
+ */
+public final class HistogramSummary {
+    private final String name;
+    private final long count;
+    private final double mean;
+    private final long p50;
+    private final long p90;
+    private final long p99;
+    private final long p999;
+    private final long max;
+
+    /**
+     * Crea un resumen.
+     *
+     * @param name Nombre del histograma
+     * @param count Número de valores registrados
+     * @param mean Media de los valores
+     * @param p50 Percentil 50
+     * @param p90 Percentil 90
+     * @param p99 Percentil 99
+     * @param p999 Percentil 99.9
+     * @param max Valor máximo
+     */
+    public HistogramSummary(String name, long count, double mean, long p50, long p90, long p99, long p999, long max) {
+        this.name = name;
+        this.count = count;
+        this.mean = mean;
+        this.p50 = p50;
+        this.p90 = p90;
+        this.p99 = p99;
+        this.p999 = p999;
+        this.max = max;
+    }
+
+    /**
+     * Obtiene el nombre del histograma.
+     *
+     * @return Nombre del histograma
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Obtiene el número de valores registrados.
+     *
+     * @return Número de valores
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Obtiene la media de los valores registrados.
+     *
+     * @return Media, o 0 si no hay valores
+     */
+    public double getMean() {
+        return mean;
+    }
+
+    /**
+     * Obtiene la mediana.
+     *
+     * @return Percentil 50
+     */
+    public long getP50() {
+        return p50;
+    }
+
+    /**
+     * Obtiene el percentil 90.
+     *
+     * @return Percentil 90
+     */
+    public long getP90() {
+        return p90;
+    }
+
+    /**
+     * Obtiene el percentil 99.
+     *
+     * @return Percentil 99
+     */
+    public long getP99() {
+        return p99;
+    }
+
+    /**
+     * Obtiene el percentil 99.9.
+     *
+     * @return Percentil 99.9
+     */
+    public long getP999() {
+        return p999;
+    }
+
+    /**
+     * Obtiene el mayor valor registrado.
+     *
+     * @return Valor máximo
+     */
+    public long getMax() {
+        return max;
+    }
+
+    @Override
+    public String toString() {
+        return "HistogramSummary{name=" + name + ", count=" + count + ", mean=" + mean + ", p50=" + p50
+                + ", p99=" + p99 + ", p999=" + p999 + ", max=" + max + "}";
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.sudoku_game.metrics;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Valores de todas las métricas del {@link Metrics registro} en un momento dado,
+ * ordenadas por nombre, con su exportación como texto legible o como JSON.
+ * Los histogramas miden duraciones en nanosegundos.
+ *
+ * @author Juan Pablo Escamilla
+ */
+public final class MetricsSnapshot {
+    private final Instant timestamp;
+    private final Map<String, Long> counters;
+    private final Map<String, HistogramSummary> histograms;
+
+    MetricsSnapshot(Instant timestamp, Map<String, Long> counters, Map<String, HistogramSummary> histograms) {
+        this.timestamp = timestamp;
+        this.counters = Collections.unmodifiableMap(counters);
+        this.histograms = Collections.unmodifiableMap(histograms);
+    }
+
+    /**
+     * Obtiene el momento en que se tomaron los valores.
+     *
+     * @return Instante de la instantánea
+     */
+    public Instant getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Obtiene los valores de los contadores.
+     *
+     * @return Valor de cada contador, por nombre
+     */
+    public Map<String, Long> getCounters() {
+        return counters;
+    }
+
+    /**
+     * Obtiene los resúmenes de los histogramas.
+     *
+     * @return Resumen de cada histograma, por nombre
+     */
+    public Map<String, HistogramSummary> getHistograms() {
+        return histograms;
+    }
+
+    /**
+     * Escribe las métricas como una tabla de texto, con las duraciones en microsegundos.
+     *
+     * @return Texto de varias líneas
+     */
+    public String toText() {
+        StringBuilder out = new StringBuilder();
+        out.append("Métricas (").append(timestamp).append(Metrics.ENABLED ? ")" : ", desactivadas)").append('\n');
+        for (Map.Entry<String, Long> counter : counters.entrySet()) {
+            out.append(String.format("  %-28s %12d%n", counter.getKey(), counter.getValue()));
+        }
+        if (!histograms.isEmpty()) {
+            out.append(String.format("  %-28s %8s %10s %10s %10s %10s %10s %10s%n",
+                    "duración (µs)", "n", "media", "p50", "p90", "p99", "p99.9", "máx"));
+        }
+        for (HistogramSummary h : histograms.values()) {
+            out.append(String.format("  %-28s %8d %10.1f %10.1f %10.1f %10.1f %10.1f %10.1f%n",
+                    h.getName(), h.getCount(), h.getMean() / 1e3, h.getP50() / 1e3, h.getP90() / 1e3,
+                    h.getP99() / 1e3, h.getP999() / 1e3, h.getMax() / 1e3));
+        }
+        return out.toString();
+    }
+
+    /**
+     * Escribe las métricas como un objeto JSON, con las duraciones en nanosegundos.
+     *
+     * @return {@code {"timestamp", "enabled", "counters": {...}, "histograms": {nombre: {"count", "mean",
+     *         "p50", "p90", "p99", "p999", "max"}}}}
+     */
+    public String toJson() {
+        StringBuilder out = new StringBuilder(256);
+        out.append("{\"timestamp\":\"").append(timestamp).append("\",\"enabled\":").append(Metrics.ENABLED);
+        out.append(",\"counters\":{");
+        String separator = "";
+        for (Map.Entry<String, Long> counter : counters.entrySet()) {
+            out.append(separator).append('"').append(counter.getKey()).append("\":").append(counter.getValue());
+            separator = ",";
+        }
+        out.append("},\"histograms\":{");
+        separator = "";
+        for (HistogramSummary h : histograms.values()) {
+            out.append(separator).append('"').append(h.getName()).append("\":{")
+                    .append("\"count\":").append(h.getCount())
+                    .append(",\"mean\":").append(Math.round(h.getMean()))
+                    .append(",\"p50\":").append(h.getP50())
+                    .append(",\"p90\":").append(h.getP90())
+                    .append(",\"p99\":").append(h.getP99())
+                    .append(",\"p999\":").append(h.getP999())
+                    .append(",\"max\":").append(h.getMax())
+                    .append('}');
+            separator = ",";
+        }
+        return out.append("}}").toString();
+    }
+
+    @Override
+    public String toString() {
+        return toText();
+    }
+}
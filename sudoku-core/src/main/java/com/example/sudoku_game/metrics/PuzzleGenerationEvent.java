@@ -0,0 +1,47 @@
+package com.example.sudoku_game.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Evento de Java Flight Recorder emitido al generar el puzzle de un tablero
+ * ({@code BoardModel.initializeBoard}). Su duración es la de toda la generación, también
+ * cuando falla.
+ *
+ * @author Juan Pablo Escamilla
+ */
+@Name("com.example.sudoku_game.PuzzleGeneration")
+@Label("Generación de puzzle")
+@Category({"Sudoku", "Motor"})
+@Description("Generación de la solución y del puzzle de un tablero")
+public class PuzzleGenerationEvent extends Event {
+    @Label("Tamaño del tablero")
+    public int boardSize;
+
+    @Label("Semilla")
+    @Description("Semilla de la partida, con la que se puede repetir la generación")
+    public long seed;
+
+    @Label("Intentos")
+    @Description("Búsquedas de solución empezadas, contando los reinicios por agotar los retrocesos")
+    public int attempts;
+
+    @Label("Retrocesos")
+    @Description("Retrocesos de todas las búsquedas de solución")
+    public long backtracks;
+
+    @Label("Desde el catálogo")
+    @Description("La solución se tomó del catálogo de soluciones en lugar de buscarla")
+    public boolean fromCatalog;
+
+    @Label("Fallida")
+    @Description("No se encontró ninguna solución tras agotar los intentos y el tablero no cambió")
+    public boolean failed;
+
+    @Label("Pistas")
+    @Description("Celdas reveladas en el puzzle")
+    public int clues;
+}
@@ -0,0 +1,158 @@
+package com.example.sudoku_game.models;
+
+/**
+ * Descriptor de la geometría de un tablero de Sudoku.
+ * Un tablero de tamaño N se divide en cajas de R filas por C columnas, con N = R * C,
+ * y cada fila, columna y caja debe contener los números del 1 al N sin repetir.
+ * La geometría se comparte entre el modelo, el validador, el generador y la vista,
+ * de modo que el mismo código sirve para cualquier distribución de cajas.
+ *
+ * @author Juan Pablo Escamilla
+ */
+public final class BoardGeometry {
+    /** Tamaño máximo soportado: los dígitos se representan en máscaras de bits de tipo int */
+    public static final int MAX_SIZE = 25;
+
+    /** Tablero clásico del juego: 6x6 con cajas de 2x3 */
+    public static final BoardGeometry SIX_BY_SIX = new BoardGeometry(2, 3);
+
+    /** Tablero de 9x9 con cajas de 3x3 */
+    public static final BoardGeometry NINE_BY_NINE = new BoardGeometry(3, 3);
+
+    /** Tablero de 12x12 con cajas de 3x4 */
+    public static final BoardGeometry TWELVE_BY_TWELVE = new BoardGeometry(3, 4);
+
+    /** Tablero de 16x16 con cajas de 4x4 */
+    public static final BoardGeometry SIXTEEN_BY_SIXTEEN = new BoardGeometry(4, 4);
+
+    /** Tablero de 25x25 con cajas de 5x5 */
+    public static final BoardGeometry TWENTY_FIVE_BY_TWENTY_FIVE = new BoardGeometry(5, 5);
+
+    private final int boxHeight;
+    private final int boxWidth;
+    private final int size;
+
+    /**
+     * Crea una geometría a partir de las dimensiones de sus cajas.
+     *
+     * @param boxHeight Número de filas de cada caja
+     * @param boxWidth Número de columnas de cada caja
+     * @throws IllegalArgumentException si las dimensiones no son positivas o el tablero
+     *         resultante supera {@link #MAX_SIZE}
+     */
+    public BoardGeometry(int boxHeight, int boxWidth) {
+        if (boxHeight < 1 || boxWidth < 1 || boxHeight * boxWidth > MAX_SIZE) {
+            throw new IllegalArgumentException("Dimensiones de caja no soportadas: " + boxHeight + "x" + boxWidth);
+        }
+        this.boxHeight = boxHeight;
+        this.boxWidth = boxWidth;
+        this.size = boxHeight * boxWidth;
+    }
+
+    /**
+     * Obtiene el tamaño del tablero (número de filas, columnas y dígitos).
+     *
+     * @return El tamaño del tablero
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Obtiene la altura de cada caja.
+     *
+     * @return Número de filas de cada caja
+     */
+    public int getBoxHeight() {
+        return boxHeight;
+    }
+
+    /**
+     * Obtiene la anchura de cada caja.
+     *
+     * @return Número de columnas de cada caja
+     */
+    public int getBoxWidth() {
+        return boxWidth;
+    }
+
+    /**
+     * Obtiene el número total de celdas del tablero.
+     *
+     * @return El número de celdas (tamaño al cuadrado)
+     */
+    public int getCellCount() {
+        return size * size;
+    }
+
+    /**
+     * Calcula el índice de la caja que contiene una celda, numerando las cajas por filas.
+     *
+     * @param row Índice de la fila
+     * @param col Índice de la columna
+     * @return Índice de la caja (0 a tamaño - 1)
+     */
+    public int getBoxIndex(int row, int col) {
+        return (row / boxHeight) * (size / boxWidth) + col / boxWidth;
+    }
+
+    /**
+     * Obtiene la primera fila de una caja.
+     *
+     * @param box Índice de la caja
+     * @return Índice de la fila superior de la caja
+     */
+    public int getBoxRowStart(int box) {
+        return (box / (size / boxWidth)) * boxHeight;
+    }
+
+    /**
+     * Obtiene la primera columna de una caja.
+     *
+     * @param box Índice de la caja
+     * @return Índice de la columna izquierda de la caja
+     */
+    public int getBoxColStart(int box) {
+        return (box % (size / boxWidth)) * boxWidth;
+    }
+
+    /**
+     * Número de valores mostrados por caja al crear el puzzle.
+     * En el tablero clásico de 6x6 se muestran 2 por caja; en tableros mayores se
+     * muestra una proporción similar de las celdas de cada caja. A partir de 16x16 se
+     * muestra algo más de la mitad, porque con cerca del 40% de pistas los tableros
+     * grandes caen en la zona en la que la búsqueda se vuelve extremadamente costosa.
+     *
+     * @return Número de celdas reveladas en cada caja
+     */
+    public int getCluesPerBox() {
+        return Math.max(2, Math.round(size * (size > 12 ? 0.55f : 0.4f)));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof BoardGeometry)) {
+            return false;
+        }
+        BoardGeometry geometry = (BoardGeometry) other;
+        return boxHeight == geometry.boxHeight && boxWidth == geometry.boxWidth;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * boxHeight + boxWidth;
+    }
+
+    /**
+     * Representación textual de la geometría, por ejemplo {@code 6x6 (2x3)}.
+     *
+     * @return String con el tamaño del tablero y de sus cajas
+     */
+    @Override
+    public String toString() {
+        return size + "x" + size + " (" + boxHeight + "x" + boxWidth + ")";
+    }
+}
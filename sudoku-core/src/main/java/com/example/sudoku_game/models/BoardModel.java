@@ -0,0 +1,748 @@
+package com.example.sudoku_game.models;
+import com.example.sudoku_game.generator.PuzzleGenerator;
+import com.example.sudoku_game.generator.PuzzleRecord;
+import com.example.sudoku_game.generator.SolutionCatalog;
+import com.example.sudoku_game.interfaces.BitmaskValidation;
+import com.example.sudoku_game.interfaces.BoardListener;
+import com.example.sudoku_game.interfaces.ValidationInterface;
+import com.example.sudoku_game.metrics.Histogram;
+import com.example.sudoku_game.metrics.HintEvent;
+import com.example.sudoku_game.metrics.Metrics;
+import com.example.sudoku_game.metrics.PuzzleGenerationEvent;
+import com.example.sudoku_game.solver.Step;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Modelo que representa el tablero de Sudoku.
+ * Esta clase se encarga de la gestión del tablero, incluyendo la generación
+ * del juego, validación de movimientos y proporcionando pistas.
+ * Las dimensiones del tablero y de sus cajas vienen dadas por un {@link BoardGeometry};
+ * por defecto el tablero es de 6x6, dividido en cajas de 2x3, con 2 números mostrados
+ * por caja al inicio del juego y con solución única (ver {@link PuzzleMode}).
+ *
+ * @author Juan Pablo Escamilla
+ */
+public class BoardModel {
+    private static final Histogram INITIALIZE_TIME = Metrics.histogram("board.initialize");
+    private static final Histogram HINT_TIME = Metrics.histogram("board.getHint");
+
+    private final BoardGeometry geometry;
+    private final int boardSize;
+    private CellModel[][] board;
+    private SplittableRandom seeds;
+    private SplittableRandom random;
+    private long gameSeed;
+    private int[][] solution;
+    private ValidationInterface validator;
+    private ConstraintIndex index;
+    private PuzzleMode puzzleMode = PuzzleMode.UNIQUE;
+    private long lastGenerationNanos;
+    private SolutionCatalog solutionCatalog;
+    private final List<BoardListener> listeners = new ArrayList<>();
+    private int bulkUpdateDepth;
+    private final HintEngine hintEngine;
+    private final MoveJournal journal = new MoveJournal();
+    private boolean replayingMove;
+    private Step lastHint;
+
+    /**
+     * Constructor que inicializa un nuevo tablero de Sudoku de 6x6.
+     * Crea un nuevo tablero vacío, establece el validador predeterminado
+     * y genera un nuevo juego.
+     */
+    public BoardModel() {
+        this(BoardGeometry.SIX_BY_SIX);
+    }
+
+    /**
+     * Constructor que inicializa un nuevo tablero de Sudoku con la geometría dada.
+     * Crea un nuevo tablero vacío, establece el validador predeterminado
+     * y genera un nuevo juego.
+     *
+     * @param geometry Geometría del tablero (tamaño y dimensiones de las cajas)
+     */
+    public BoardModel(BoardGeometry geometry) {
+        this(geometry, true);
+    }
+
+    /**
+     * Constructor que inicializa un nuevo tablero de Sudoku con la geometría dada,
+     * generando o no un juego. Sin generar, el tablero queda vacío, listo para cargar un
+     * puzzle ya generado ({@link #loadPuzzle(PuzzleRecord)}), restaurar una partida
+     * ({@link #loadPackedBoard(PackedBoard, int[][])}) o generar uno con {@link #generateBoard()},
+     * sin pagar antes una generación que se descartaría.
+     *
+     * @param geometry Geometría del tablero (tamaño y dimensiones de las cajas)
+     * @param generate {@code true} para generar un juego, {@code false} para dejar el tablero vacío
+     */
+    public BoardModel(BoardGeometry geometry, boolean generate) {
+        this.geometry = geometry;
+        this.boardSize = geometry.getSize();
+        seeds = new SplittableRandom();
+        board = new CellModel[boardSize][boardSize];
+        index = new ConstraintIndex(geometry);
+        validator = new BitmaskValidation(); // Validación con las máscaras del índice de restricciones
+        if (generate) {
+            initializeBoard();
+        } else {
+            // Las pistas tomadas de la solución de un puzzle cargado también necesitan azar
+            gameSeed = seeds.nextLong();
+            random = new SplittableRandom(gameSeed);
+            createCells();
+        }
+        hintEngine = new HintEngine(this);
+    }
+
+    /**
+     * Inicializa el tablero creando objetos CellModel para cada celda y generando un nuevo juego.
+     * El puzzle lo genera un {@link PuzzleGenerator} y se carga con {@link #loadPuzzle(PuzzleRecord)}:
+     *   - La solución se toma del catálogo de soluciones si se estableció uno, o se genera con backtracking</li>
+     *   - El puzzle muestra exactamente 2 números por caja (en 6x6)</li>
+     *   - En modo {@link PuzzleMode#UNIQUE}, se revelan celdas hasta que la solución es única</li>
+
+     */
+    public void initializeBoard() {
+        initializeBoard(seeds.nextLong());
+    }
+
+    /**
+     * Inicializa el tablero generando el juego de una semilla (ver {@link #initializeBoard()}).
+     */
+    private void initializeBoard(long seed) {
+        long start = System.nanoTime();
+        PuzzleGenerationEvent event = new PuzzleGenerationEvent();
+        event.begin();
+
+        // Cada partida usa su propia semilla, que queda registrada en el evento de JFR
+        gameSeed = seed;
+        random = new SplittableRandom(gameSeed);
+
+        // Crear los objetos CellModel si no existen
+        createCells();
+
+        PuzzleGenerator generator = new PuzzleGenerator(geometry, puzzleMode, random);
+        PuzzleRecord puzzle = null;
+        try {
+            puzzle = solutionCatalog != null
+                    ? generator.fromSolution(solutionCatalog.getGrid(random.nextLong(solutionCatalog.size())))
+                    : generator.generate();
+        } catch (IllegalStateException e) {
+            System.err.println("Error: No se pudo generar una solución de Sudoku válida.");
+        }
+        if (puzzle != null) {
+            loadPuzzle(puzzle);
+        }
+
+        // Los intentos fallidos también se miden: son los más lentos
+        lastGenerationNanos = System.nanoTime() - start;
+        INITIALIZE_TIME.record(lastGenerationNanos);
+        event.end();
+        if (event.shouldCommit()) {
+            event.boardSize = boardSize;
+            event.seed = gameSeed;
+            event.attempts = generator.getLastAttempts();
+            event.backtracks = generator.getLastBacktracks();
+            event.fromCatalog = solutionCatalog != null;
+            event.failed = puzzle == null;
+            event.clues = puzzle == null ? 0 : index.filledCells();
+            event.commit();
+        }
+    }
+
+    /**
+     * Crea los objetos CellModel de cada celda, vacíos y editables, si no existen.
+     */
+    private void createCells() {
+        if (board[0][0] != null) {
+            return;
+        }
+        for (int row = 0; row < boardSize; row++) {
+            for (int col = 0; col < boardSize; col++) {
+                board[row][col] = new CellModel(row, col, boardSize, this);
+            }
+        }
+    }
+
+    /**
+     * Limpia completamente el tablero.
+     * Establece todos los valores de las celdas a 0 y las marca como no bloqueadas (editables).
+     */
+    public void clearBoard() {
+        beginBulkUpdate();
+        try {
+            for (int row = 0; row < boardSize; row++) {
+                for (int col = 0; col < boardSize; col++) {
+                    board[row][col].setValue(0);
+                    board[row][col].setLocked(false); // Equivalente a setEditable(true)
+                }
+            }
+        } finally {
+            endBulkUpdate();
+        }
+    }
+
+    /**
+     * Reinicia la fuente de semillas del tablero con una semilla fija, de modo que
+     * los siguientes tableros generados y pistas sean reproducibles. Lo usan los benchmarks.
+     *
+     * @param seed Semilla de la fuente de semillas de partida
+     */
+    void setRandomSeed(long seed) {
+        seeds = new SplittableRandom(seed);
+    }
+
+    /**
+     * Obtiene la semilla de la partida actual, de la que salen la solución, el puzzle y
+     * las pistas tomadas de la solución.
+     *
+     * @return Semilla de la última generación
+     */
+    public long getGameSeed() {
+        return gameSeed;
+    }
+
+    /**
+     * Genera un nuevo tablero de Sudoku.
+     * Este método es un wrapper para {@link #initializeBoard()}.
+     */
+    public void generateBoard() {
+        // Inicializar el tablero
+        initializeBoard();
+    }
+
+    /**
+     * Genera el tablero de una semilla, por ejemplo la de {@link #getGameSeed()} o la de un
+     * evento de generación de JFR. Con la misma geometría, el mismo modo y el mismo catálogo
+     * de soluciones (o sin catálogo), la misma semilla da siempre el mismo puzzle.
+     * Para puzzles que se comparten entre equipos, ver {@code PuzzleId}.
+     *
+     * @param seed Semilla de la partida
+     */
+    public void generateBoard(long seed) {
+        initializeBoard(seed);
+    }
+
+    /**
+     * Carga en el tablero un puzzle ya generado, por ejemplo tomado de una reserva de puzzles.
+     * Las celdas iniciales del puzzle se bloquean, el resto quedan vacías y editables,
+     * y la solución del registro pasa a ser la solución del tablero.
+     *
+     * @param puzzle Puzzle a cargar, con la misma geometría que el tablero
+     * @throws IllegalArgumentException si la geometría del puzzle no coincide con la del tablero
+     */
+    public void loadPuzzle(PuzzleRecord puzzle) {
+        if (!geometry.equals(puzzle.getGeometry())) {
+            throw new IllegalArgumentException("El puzzle es de " + puzzle.getGeometry() + " y el tablero de " + geometry);
+        }
+        solution = new int[boardSize][boardSize];
+        beginBulkUpdate();
+        try {
+            for (int row = 0; row < boardSize; row++) {
+                for (int col = 0; col < boardSize; col++) {
+                    int value = puzzle.getPuzzleValue(row, col);
+                    board[row][col].setLocked(false);
+                    board[row][col].setHighlighted(false);
+                    board[row][col].setValue(value);
+                    board[row][col].setLocked(value != 0);
+                    solution[row][col] = puzzle.getSolutionValue(row, col);
+                }
+            }
+        } finally {
+            endBulkUpdate();
+        }
+    }
+
+    /**
+     * Copia el estado actual de las celdas (valores, bloqueo y resaltado) a un tablero compacto.
+     *
+     * @return Un {@link PackedBoard} con el estado de las celdas
+     */
+    public PackedBoard toPackedBoard() {
+        PackedBoard packed = new PackedBoard(geometry);
+        for (int row = 0; row < boardSize; row++) {
+            for (int col = 0; col < boardSize; col++) {
+                CellModel cell = board[row][col];
+                packed.setValue(row, col, cell.getValue());
+                packed.setLocked(row, col, cell.isLocked());
+                packed.setHighlighted(row, col, cell.isHighlighted());
+            }
+        }
+        return packed;
+    }
+
+    /**
+     * Restaura una partida: el estado de las celdas guardado en un tablero compacto y la
+     * solución de su puzzle. No se genera ni se resuelve nada.
+     *
+     * @param packed Tablero compacto con la misma geometría que el tablero
+     * @param solution Solución del puzzle, indexada por {@code [fila][columna]}
+     * @throws IllegalArgumentException si la geometría no coincide con la del tablero
+     */
+    public void loadPackedBoard(PackedBoard packed, int[][] solution) {
+        loadPackedBoard(packed);
+        this.solution = solution;
+    }
+
+    /**
+     * Restaura en las celdas el estado guardado en un tablero compacto.
+     * La solución del tablero no cambia.
+     *
+     * @param packed Tablero compacto con la misma geometría que el tablero
+     * @throws IllegalArgumentException si la geometría no coincide con la del tablero
+     */
+    public void loadPackedBoard(PackedBoard packed) {
+        if (!geometry.equals(packed.getGeometry())) {
+            throw new IllegalArgumentException("El tablero compacto es de " + packed.getGeometry() + " y el tablero de " + geometry);
+        }
+        beginBulkUpdate();
+        try {
+            for (int row = 0; row < boardSize; row++) {
+                for (int col = 0; col < boardSize; col++) {
+                    board[row][col].setValue(packed.getValue(row, col));
+                    board[row][col].setLocked(packed.isLocked(row, col));
+                    board[row][col].setHighlighted(packed.isHighlighted(row, col));
+                }
+            }
+        } finally {
+            endBulkUpdate();
+        }
+    }
+
+    /**
+     * Verifica si el tablero está completo y correcto.
+     * Utiliza el validador para comprobar si el estado actual del tablero es válido.
+     *
+     * @return {@code true} si el tablero está completo y es válido, {@code false} en caso contrario
+     */
+    public boolean isBoardComplete() {
+        return validator.isValidBoard(this);
+    }
+
+    /**
+     * Obtiene la celda en la posición especificada.
+     *
+     * @param row Índice de la fila
+     * @param col Índice de la columna
+     * @return La celda en la posición [row][col]
+     */
+    public CellModel getCell(int row, int col) {
+        return board[row][col];
+    }
+
+    /**
+     * Establece el valor de una celda si no está bloqueada.
+     *
+     * @param row Índice de la fila
+     * @param col Índice de la columna
+     * @param value Valor a establecer en la celda
+     */
+    public void setCell(int row, int col, int value) {
+        if (!board[row][col].isLocked()) {
+            board[row][col].setValue(value);
+        }
+    }
+
+    /**
+     * Actualiza el índice de restricciones cuando cambia el valor de una celda, registra
+     * la jugada en el historial y avisa a los oyentes, salvo durante un cambio de todo el tablero.
+     * Lo invoca {@link CellModel#setValue(int)} en cada cambio efectivo de valor.
+     *
+     * @param row Índice de la fila
+     * @param col Índice de la columna
+     * @param oldValue Valor anterior de la celda
+     * @param newValue Valor nuevo de la celda
+     */
+    void onCellValueChanged(int row, int col, int oldValue, int newValue) {
+        index.update(row, col, oldValue, newValue);
+        if (bulkUpdateDepth == 0) {
+            if (!replayingMove) {
+                journal.record(row * boardSize + col, oldValue, newValue);
+            }
+            for (BoardListener listener : listeners) {
+                listener.cellValueChanged(row, col, oldValue, newValue);
+            }
+        }
+    }
+
+    /**
+     * Avisa a los oyentes de que cambió el bloqueo o el resaltado de una celda, salvo
+     * durante un cambio de todo el tablero.
+     * Lo invocan {@link CellModel#setLocked(boolean)} y {@link CellModel#setHighlighted(boolean)}.
+     *
+     * @param row Índice de la fila
+     * @param col Índice de la columna
+     */
+    void onCellStateChanged(int row, int col) {
+        if (bulkUpdateDepth == 0) {
+            for (BoardListener listener : listeners) {
+                listener.cellStateChanged(row, col);
+            }
+        }
+    }
+
+    /**
+     * Registra un oyente que recibirá los cambios del tablero.
+     *
+     * @param listener Oyente a registrar
+     */
+    public void addBoardListener(BoardListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Elimina un oyente registrado con {@link #addBoardListener(BoardListener)}.
+     *
+     * @param listener Oyente a eliminar
+     */
+    public void removeBoardListener(BoardListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Empieza un cambio de todo el tablero: hasta el {@link #endBulkUpdate()} correspondiente
+     * no se avisa a los oyentes de los cambios de cada celda. Los cambios pueden anidarse.
+     */
+    private void beginBulkUpdate() {
+        bulkUpdateDepth++;
+    }
+
+    /**
+     * Termina un cambio de todo el tablero y, si era el más externo, vacía el historial
+     * de jugadas y avisa a los oyentes de que el tablero se ha reemplazado.
+     */
+    private void endBulkUpdate() {
+        if (--bulkUpdateDepth == 0) {
+            journal.clear();
+            for (BoardListener listener : listeners) {
+                listener.boardChanged();
+            }
+        }
+    }
+
+    /**
+     * Deshace la última jugada (del usuario o una pista).
+     *
+     * @return {@code true} si se deshizo una jugada, {@code false} si no había ninguna
+     */
+    public boolean undo() {
+        if (!journal.canUndo()) {
+            return false;
+        }
+        int entry = journal.undo();
+        applyMove(MoveJournal.cellOf(entry), MoveJournal.oldValueOf(entry));
+        return true;
+    }
+
+    /**
+     * Vuelve a aplicar la última jugada deshecha.
+     *
+     * @return {@code true} si se rehízo una jugada, {@code false} si no había ninguna
+     */
+    public boolean redo() {
+        if (!journal.canRedo()) {
+            return false;
+        }
+        int entry = journal.redo();
+        applyMove(MoveJournal.cellOf(entry), MoveJournal.newValueOf(entry));
+        return true;
+    }
+
+    /**
+     * Lleva el tablero al estado que tenía después de un número de jugadas, deshaciendo o
+     * rehaciendo las jugadas intermedias, en tiempo proporcional a la distancia.
+     *
+     * @param move Número de jugadas (0 es el tablero inicial)
+     * @throws IllegalArgumentException si el número no está entre 0 y el total de jugadas registradas
+     */
+    public void jumpToMove(int move) {
+        if (move < 0 || move > journal.getSize()) {
+            throw new IllegalArgumentException("Jugada fuera del historial: " + move);
+        }
+        while (journal.getPosition() > move) {
+            undo();
+        }
+        while (journal.getPosition() < move) {
+            redo();
+        }
+    }
+
+    /**
+     * Obtiene el historial de jugadas del tablero actual.
+     *
+     * @return El historial, que se vacía cada vez que se reemplaza el tablero
+     */
+    public MoveJournal getMoveJournal() {
+        return journal;
+    }
+
+    /**
+     * Pone un valor de una jugada del historial sin registrarla de nuevo.
+     * La celda deja de estar resaltada, ya que el valor deja de ser una pista.
+     */
+    private void applyMove(int cell, int value) {
+        CellModel target = board[cell / boardSize][cell % boardSize];
+        replayingMove = true;
+        try {
+            target.setValue(value);
+        } finally {
+            replayingMove = false;
+        }
+        target.setHighlighted(false);
+    }
+
+    /**
+     * Obtiene la máscara de dígitos presentes en una fila.
+     * El dígito {@code d} corresponde al bit {@code d - 1}.
+     *
+     * @param row Índice de la fila
+     * @return Máscara de bits con los dígitos presentes en la fila
+     */
+    public int getRowMask(int row) {
+        return index.rowMask(row);
+    }
+
+    /**
+     * Obtiene la máscara de dígitos presentes en una columna.
+     *
+     * @param col Índice de la columna
+     * @return Máscara de bits con los dígitos presentes en la columna
+     */
+    public int getColumnMask(int col) {
+        return index.columnMask(col);
+    }
+
+    /**
+     * Obtiene la máscara de dígitos presentes en una caja.
+     *
+     * @param box Índice de la caja (ver {@link #getBoxIndex(int, int)})
+     * @return Máscara de bits con los dígitos presentes en la caja
+     */
+    public int getBoxMask(int box) {
+        return index.boxMask(box);
+    }
+
+    /**
+     * Obtiene el índice de la caja que contiene una celda, numerando las cajas por filas.
+     *
+     * @param row Índice de la fila
+     * @param col Índice de la columna
+     * @return Índice de la caja
+     */
+    public int getBoxIndex(int row, int col) {
+        return index.boxIndex(row, col);
+    }
+
+    /**
+     * Obtiene los dígitos que aparecen más de una vez en la fila, la columna o la caja de una celda.
+     *
+     * @param row Índice de la fila
+     * @param col Índice de la columna
+     * @return Máscara de bits con los dígitos repetidos en las unidades de la celda
+     */
+    public int getDuplicateMask(int row, int col) {
+        return index.duplicateMask(row, col);
+    }
+
+    /**
+     * Obtiene el índice de restricciones del tablero, para las clases del paquete que derivan
+     * su estado de él. El índice ya está actualizado cuando se avisa a los oyentes de un cambio.
+     *
+     * @return El índice de restricciones
+     */
+    ConstraintIndex getConstraintIndex() {
+        return index;
+    }
+
+    /**
+     * Obtiene el número de celdas con valor, mantenido con cada cambio del tablero.
+     *
+     * @return Número de celdas llenas
+     */
+    public int getFilledCellCount() {
+        return index.filledCells();
+    }
+
+    /**
+     * Obtiene el número de repeticiones del tablero, mantenido con cada cambio: cuántos pares
+     * (fila, columna o caja; dígito) tienen el dígito dos o más veces en esa unidad.
+     *
+     * @return 0 si ningún dígito se repite en ninguna fila, columna o caja
+     */
+    public int getDuplicateCount() {
+        return index.duplicateDigits();
+    }
+
+    /**
+     * Obtiene la máscara con todos los dígitos del tablero (del 1 al tamaño del tablero).
+     *
+     * @return Máscara de bits con todos los dígitos posibles
+     */
+    public int getFullMask() {
+        return index.fullMask();
+    }
+
+    /**
+     * Obtiene el tamaño del tablero.
+     *
+     * @return El tamaño del tablero (número de filas/columnas)
+     */
+    public int getBoardSize() {
+        return boardSize;
+    }
+
+    /**
+     * Obtiene la geometría del tablero.
+     *
+     * @return El descriptor con el tamaño del tablero y las dimensiones de sus cajas
+     */
+    public BoardGeometry getGeometry() {
+        return geometry;
+    }
+
+
+    /**
+     * Obtiene la solución del tablero.
+     *
+     * @return Una matriz con la solución completa del tablero
+     */
+    public int[][] getSolution() {
+        return solution;
+    }
+
+    /**
+     * Obtiene el modo en que se crean los puzzles.
+     *
+     * @return El modo de creación de puzzles
+     */
+    public PuzzleMode getPuzzleMode() {
+        return puzzleMode;
+    }
+
+    /**
+     * Establece el modo en que se crean los puzzles a partir del siguiente tablero generado.
+     *
+     * @param puzzleMode El modo de creación de puzzles
+     */
+    public void setPuzzleMode(PuzzleMode puzzleMode) {
+        this.puzzleMode = puzzleMode;
+    }
+
+    /**
+     * Obtiene el tiempo que tardó la última generación de tablero, incluyendo la solución,
+     * la creación del puzzle y la comprobación de unicidad.
+     *
+     * @return Duración de la última generación en nanosegundos
+     */
+    public long getLastGenerationNanos() {
+        return lastGenerationNanos;
+    }
+
+    /**
+     * Establece el catálogo de soluciones del que se toman las soluciones de los siguientes
+     * tableros generados. Con catálogo, la solución se elige de manera uniforme entre todas
+     * las posibles y sin búsqueda; sin catálogo ({@code null}) se genera con backtracking.
+     *
+     * @param solutionCatalog El catálogo de soluciones, o {@code null} para no usarlo
+     * @throws IllegalArgumentException si la geometría del catálogo no coincide con la del tablero
+     */
+    public void setSolutionCatalog(SolutionCatalog solutionCatalog) {
+        if (solutionCatalog != null && !geometry.equals(SolutionCatalog.GEOMETRY)) {
+            throw new IllegalArgumentException("El catálogo es de " + SolutionCatalog.GEOMETRY + " y el tablero de " + geometry);
+        }
+        this.solutionCatalog = solutionCatalog;
+    }
+
+    /**
+     * Permite cambiar el validador por otro que implemente la misma interfaz.
+     *
+     * @param validator Un objeto que implementa ValidationInterface
+     */
+    public void setValidator(ValidationInterface validator) {
+        this.validator = validator;
+    }
+
+    /**
+     * Proporciona una pista rellenando automáticamente una celda vacía.
+     * La pista es la siguiente celda cuyo valor está forzado por la lógica a partir de los
+     * valores actuales del tablero, incluidos los ingresados por el usuario (ver {@link HintEngine});
+     * la técnica que lo fuerza queda disponible en {@link #getLastHint()}.
+     * Si la lógica no llega a ninguna celda (por ejemplo, porque el usuario ingresó un valor
+     * equivocado), se rellena una celda vacía al azar con el valor de la solución.
+     * En ambos casos la celda queda resaltada y no se completa el tablero automáticamente.
+     *
+     * @return {@code true} si se proporcionó una pista, {@code false} si no hay celdas vacías disponibles
+     * o si solo queda una celda por llenar
+     */
+    public boolean getHint() {
+        long start = Metrics.startTimer();
+        HintEvent event = new HintEvent();
+        event.begin();
+        boolean provided = provideHint();
+        HINT_TIME.recordSince(start);
+        event.end();
+        if (event.shouldCommit()) {
+            event.boardSize = boardSize;
+            event.provided = provided;
+            event.technique = provided && lastHint != null ? lastHint.getTechnique().name() : "";
+            event.commit();
+        }
+        return provided;
+    }
+
+    private boolean provideHint() {
+        // Si hay 0 o 1 celdas vacías, no damos pista
+        // Esto evita completar automáticamente el tablero
+        if (geometry.getCellCount() - index.filledCells() <= 1) {
+            return false;
+        }
+
+        int row;
+        int col;
+        int value;
+        lastHint = hintEngine.nextHint();
+        if (lastHint != null) {
+            row = lastHint.getCell() / boardSize;
+            col = lastHint.getCell() % boardSize;
+            value = lastHint.getDigit();
+        } else {
+            // Recopilamos todas las celdas vacías (no bloqueadas)
+            List<int[]> emptyCells = new ArrayList<>();
+            for (int r = 0; r < boardSize; r++) {
+                for (int c = 0; c < boardSize; c++) {
+                    CellModel cell = board[r][c];
+                    if (cell.getValue() == 0 && !cell.isLocked()) {
+                        emptyCells.add(new int[]{r, c});
+                    }
+                }
+            }
+            if (emptyCells.isEmpty() || solution == null) {
+                return false;
+            }
+
+            // Elegimos una celda vacía aleatoria y tomamos el valor correcto de la solución
+            int[] randomCell = emptyCells.get(random.nextInt(emptyCells.size()));
+            row = randomCell[0];
+            col = randomCell[1];
+            value = solution[row][col];
+        }
+
+        // Establecemos el valor y lo marcamos como resaltado
+        board[row][col].setValue(value);
+        board[row][col].setHighlighted(true);
+
+        return true;
+    }
+
+    /**
+     * Obtiene el paso lógico de la última pista proporcionada.
+     *
+     * @return El paso con la celda, el dígito y la técnica, o {@code null} si la última pista
+     *         se tomó de la solución o todavía no se ha pedido ninguna
+     */
+    public Step getLastHint() {
+        return lastHint;
+    }
+}
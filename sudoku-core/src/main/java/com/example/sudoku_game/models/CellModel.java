@@ -8,14 +8,21 @@ package com.example.sudoku_game.models;
  * @author Juan Pablo Escamilla
  */
 public class CellModel {
-    /** Índice de fila de la celda en el tablero (0-5) */
+    /** Índice de fila de la celda en el tablero (0 a tamaño - 1) */
     private int row;
 
-    /** Índice de columna de la celda en el tablero (0-5) */
+    /** Índice de columna de la celda en el tablero (0 a tamaño - 1) */
     private int col;
 
-    /** Valor numérico de la celda (0-6, donde 0 representa una celda vacía) */
-    private int value;
+    /** Valor máximo que admite la celda, igual al tamaño del tablero */
+    private final int maxValue;
+
+    /**
+     * Valor numérico de la celda (0 a {@code maxValue}, donde 0 representa una celda vacía).
+     * Es volátil para que los validadores que leen el tablero desde otros hilos
+     * vean siempre el último valor escrito.
+     */
+    private volatile int value;
 
     /** Indica si es una celda inicial que no se puede modificar */
     private boolean locked; // Indica si es una celda inicial que no se puede modificar
@@ -23,26 +30,45 @@ public class CellModel {
     /** Indica si la celda está resaltada, por ejemplo, por conflictos */
     private boolean isHighlighted; // Para resaltar celdas conflictivas
 
+    /** Tablero al que pertenece la celda, notificado en cada cambio de valor o de estado (puede ser null) */
+    private final BoardModel owner;
 
     /**
-     * Constructor que inicializa una celda en una posición específica.
+     * Constructor que inicializa una celda en una posición específica de un tablero de 6x6.
      * Por defecto, la celda está vacía, desbloqueada y no resaltada.
      *
      * @param row Índice de fila de la celda (0-5)
      * @param col Índice de columna de la celda (0-5)
      */
     public CellModel(int row, int col) {
+        this(row, col, BoardGeometry.SIX_BY_SIX.getSize(), null);
+    }
+
+    /**
+     * Constructor que crea una celda perteneciente a un tablero.
+     * El tablero es notificado cada vez que cambia el valor de la celda, para
+     * mantener actualizado su índice de restricciones, y cada vez que cambia su
+     * bloqueo o resaltado, para avisar a quien dibuja el tablero.
+     *
+     * @param row Índice de fila de la celda
+     * @param col Índice de columna de la celda
+     * @param maxValue Valor máximo que admite la celda
+     * @param owner Tablero al que pertenece la celda
+     */
+    CellModel(int row, int col, int maxValue, BoardModel owner) {
         this.row = row;
         this.col = col;
+        this.maxValue = maxValue;
         this.value = 0;
         this.locked = false;
         this.isHighlighted = false;
+        this.owner = owner;
     }
 
     /**
      * Obtiene el índice de fila de la celda.
      *
-     * @return Índice de fila (0-5)
+     * @return Índice de fila (0 a tamaño - 1)
      */
     public int getRow() {
         return row;
@@ -51,7 +77,7 @@ public class CellModel {
     /**
      * Obtiene el índice de columna de la celda.
      *
-     * @return Índice de columna (0-5)
+     * @return Índice de columna (0 a tamaño - 1)
      */
     public int getCol() {
         return col;
@@ -60,8 +86,7 @@ public class CellModel {
     /**
      * Obtiene el valor actual de la celda.
      *
-     * @return Valor numérico (0-6, donde 0 representa una celda vacía)
-
+     * @return Valor numérico (0 a tamaño, donde 0 representa una celda vacía)
      */
     public int getValue() {
         return value;
@@ -71,13 +96,17 @@ public class CellModel {
 
     /**
      * Establece el valor numérico de la celda.
-     * Solo acepta valores entre 0 y 6.
+     * Solo acepta valores entre 0 y el tamaño del tablero.
      *
-     * @param value Nuevo valor para la celda (0-6)
+     * @param value Nuevo valor para la celda (0 a tamaño)
      */
     public void setValue(int value) {
-        if (value >= 0 && value <= 6) {
+        if (value >= 0 && value <= maxValue) {
+            int oldValue = this.value;
             this.value = value;
+            if (owner != null && oldValue != value) {
+                owner.onCellValueChanged(row, col, oldValue, value);
+            }
         }
     }
 
@@ -97,7 +126,11 @@ public class CellModel {
      * @param locked {@code true} para bloquear la celda, {@code false} para desbloquearla
      */
     public void setLocked(boolean locked) {
+        boolean changed = this.locked != locked;
         this.locked = locked;
+        if (owner != null && changed) {
+            owner.onCellStateChanged(row, col);
+        }
     }
 
     /**
@@ -116,7 +149,11 @@ public class CellModel {
      * @param highlighted {@code true} para resaltar la celda, {@code false} para quitar el resaltado
      */
     public void setHighlighted(boolean highlighted) {
+        boolean changed = this.isHighlighted != highlighted;
         this.isHighlighted = highlighted;
+        if (owner != null && changed) {
+            owner.onCellStateChanged(row, col);
+        }
     }
 
     /**
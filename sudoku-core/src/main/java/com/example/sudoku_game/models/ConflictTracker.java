@@ -0,0 +1,188 @@
+package com.example.sudoku_game.models;
+
+import com.example.sudoku_game.interfaces.BoardListener;
+
+/**
+ * Seguimiento incremental de las celdas en conflicto de un tablero.
+ * Una celda está en conflicto si su valor aparece más de una vez en su fila, su columna
+ * o su caja, es decir, si su dígito está en las máscaras de repetidos que mantiene el
+ * {@link ConstraintIndex} del tablero; este seguimiento no lleva cuentas propias. Con cada
+ * cambio de valor solo se vuelven a mirar las celdas de una unidad cuyo dígito acaba de
+ * quedar repetido en ella (o de dejar de estarlo), y se anotan las celdas cuyo estado de
+ * conflicto cambió, para volver a resaltar únicamente esas.
+ * Los cambios de todo el tablero recalculan el estado de todas las celdas.
+ *
+ * @author Juan Pablo Escamilla
+ */
+public final class ConflictTracker implements BoardListener {
+    private final BoardModel board;
+    private final BoardGeometry geometry;
+    private final ConstraintIndex index;
+    private final int size;
+
+    /** Estado de conflicto de cada celda en el último aviso, para saber cuáles cambian */
+    private final boolean[] conflicting;
+
+    /** Celdas cuyo estado de conflicto cambió desde la última consulta, sin repetidos */
+    private final int[] changedCells;
+    private final boolean[] changedFlags;
+    private int changedCount;
+
+    private int conflictCount;
+
+    /**
+     * Crea el seguimiento de conflictos de un tablero y lo registra como oyente del tablero.
+     *
+     * @param board Tablero a seguir
+     */
+    public ConflictTracker(BoardModel board) {
+        this.board = board;
+        this.geometry = board.getGeometry();
+        this.index = board.getConstraintIndex();
+        this.size = geometry.getSize();
+        int cells = geometry.getCellCount();
+        this.conflicting = new boolean[cells];
+        this.changedCells = new int[cells];
+        this.changedFlags = new boolean[cells];
+        rebuild();
+        board.addBoardListener(this);
+    }
+
+    /**
+     * Actualiza el estado de la celda que cambió y el de las celdas de sus unidades que
+     * comparten el valor anterior o el nuevo, si su repetición en la unidad pudo cambiar.
+     */
+    @Override
+    public void cellValueChanged(int row, int col, int oldValue, int newValue) {
+        refreshUnit(row, oldValue, newValue);
+        refreshUnit(size + col, oldValue, newValue);
+        refreshUnit(2 * size + index.boxIndex(row, col), oldValue, newValue);
+        refresh(row * size + col);
+    }
+
+    /**
+     * Recalcula el estado completo a partir del tablero.
+     */
+    @Override
+    public void boardChanged() {
+        rebuild();
+    }
+
+    /**
+     * Verifica si una celda está en conflicto.
+     *
+     * @param row Índice de la fila
+     * @param col Índice de la columna
+     * @return {@code true} si el valor de la celda está repetido en su fila, columna o caja
+     */
+    public boolean isConflicting(int row, int col) {
+        return conflicting[row * size + col];
+    }
+
+    /**
+     * Obtiene el número de celdas en conflicto.
+     *
+     * @return Número de celdas cuyo valor está repetido en alguna de sus unidades
+     */
+    public int getConflictCount() {
+        return conflictCount;
+    }
+
+    /**
+     * Copia las celdas cuyo estado de conflicto cambió desde la última llamada y vacía la lista.
+     * Cada celda se devuelve como su posición {@code fila * n + columna}.
+     *
+     * @param out Arreglo con espacio para todas las celdas del tablero
+     * @return Número de celdas copiadas
+     */
+    public int drainChangedCells(int[] out) {
+        int count = changedCount;
+        for (int i = 0; i < count; i++) {
+            out[i] = changedCells[i];
+            changedFlags[changedCells[i]] = false;
+        }
+        changedCount = 0;
+        return count;
+    }
+
+    private static int bit(int value) {
+        return 1 << (value - 1);
+    }
+
+    /**
+     * Vuelve a mirar las celdas de una unidad afectadas por el cambio de una de sus celdas.
+     */
+    private void refreshUnit(int unit, int oldValue, int newValue) {
+        // Si el valor anterior sigue en la unidad pero ya no repetido, la celda que
+        // queda con él acaba de dejar de estar en conflicto en esta unidad
+        if (oldValue != 0 && (index.unitMask(unit) & ~index.unitDuplicateMask(unit) & bit(oldValue)) != 0) {
+            refreshCells(unit, oldValue);
+        }
+        // Si el valor nuevo está repetido, las demás celdas con él pueden haber entrado en conflicto
+        if (newValue != 0 && (index.unitDuplicateMask(unit) & bit(newValue)) != 0) {
+            refreshCells(unit, newValue);
+        }
+    }
+
+    /**
+     * Vuelve a mirar las celdas de una unidad que tienen un valor.
+     */
+    private void refreshCells(int unit, int value) {
+        for (int i = 0; i < size; i++) {
+            int cell = unitCell(unit, i);
+            if (board.getCell(cell / size, cell % size).getValue() == value) {
+                refresh(cell);
+            }
+        }
+    }
+
+    /**
+     * Obtiene la posición {@code fila * n + columna} de la celda {@code i} de una unidad.
+     */
+    private int unitCell(int unit, int i) {
+        if (unit < size) {
+            return unit * size + i;
+        }
+        if (unit < 2 * size) {
+            return i * size + unit - size;
+        }
+        int box = unit - 2 * size;
+        int boxWidth = geometry.getBoxWidth();
+        return (geometry.getBoxRowStart(box) + i / boxWidth) * size + geometry.getBoxColStart(box) + i % boxWidth;
+    }
+
+    /**
+     * Calcula el estado de conflicto de una celda con las máscaras de repetidos del índice
+     * y, si ya no es el que tenía, lo anota y actualiza el total.
+     */
+    private void refresh(int cell) {
+        int row = cell / size;
+        int col = cell % size;
+        int value = board.getCell(row, col).getValue();
+        boolean now = value != 0 && (index.duplicateMask(row, col) & bit(value)) != 0;
+        if (now == conflicting[cell]) {
+            return;
+        }
+        conflicting[cell] = now;
+        conflictCount += now ? 1 : -1;
+        markChanged(cell);
+    }
+
+    private void markChanged(int cell) {
+        if (!changedFlags[cell]) {
+            changedFlags[cell] = true;
+            changedCells[changedCount++] = cell;
+        }
+    }
+
+    /**
+     * Recalcula el estado de todas las celdas y las anota todas como cambiadas, ya que su
+     * contenido pudo cambiar por completo.
+     */
+    private void rebuild() {
+        for (int cell = 0; cell < conflicting.length; cell++) {
+            refresh(cell);
+            markChanged(cell);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.sudoku_game.models;
+
+/**
+ * Índice de restricciones del tablero basado en máscaras de bits.
+ * Para cada fila, columna y caja lleva la cuenta de cuántas veces aparece cada dígito
+ * y mantiene dos máscaras derivadas: los dígitos presentes en la unidad y los dígitos
+ * repetidos (que aparecen dos o más veces). El dígito {@code d} ocupa el bit {@code d - 1}.
+ * Además cuenta las celdas llenas y los pares unidad-dígito repetidos, de modo que saber
+ * si el tablero está completo y sin repetidos es una comprobación de tiempo constante.
+ * Las unidades se numeran así: filas {@code [0, n)}, columnas {@code [n, 2n)} y cajas {@code [2n, 3n)}.
+ *
+ * @author Juan Pablo Escamilla
+ */
+final class ConstraintIndex {
+    private final BoardGeometry geometry;
+    private final int size;
+    private final int fullMask;
+
+    /** Número de apariciones de cada dígito en cada unidad, indexado por {@code unidad * (n + 1) + dígito} */
+    private final int[] counts;
+
+    /** Dígitos presentes en cada unidad */
+    private final int[] presentMasks;
+
+    /** Dígitos repetidos en cada unidad */
+    private final int[] duplicateMasks;
+
+    /** Número de celdas con valor */
+    private int filledCells;
+
+    /** Número de pares (unidad, dígito) en los que el dígito aparece dos o más veces */
+    private int duplicateDigits;
+
+    /**
+     * Crea un índice vacío para un tablero con la geometría dada.
+     *
+     * @param geometry Geometría del tablero
+     */
+    ConstraintIndex(BoardGeometry geometry) {
+        this.geometry = geometry;
+        this.size = geometry.getSize();
+        this.fullMask = (1 << size) - 1;
+        this.counts = new int[3 * size * (size + 1)];
+        this.presentMasks = new int[3 * size];
+        this.duplicateMasks = new int[3 * size];
+    }
+
+    /**
+     * Registra el cambio de valor de una celda, retirando el valor anterior y añadiendo el nuevo.
+     *
+     * @param row Índice de la fila
+     * @param col Índice de la columna
+     * @param oldValue Valor anterior (0 si estaba vacía)
+     * @param newValue Valor nuevo (0 si queda vacía)
+     */
+    void update(int row, int col, int oldValue, int newValue) {
+        int box = boxIndex(row, col);
+        if (oldValue != 0) {
+            filledCells--;
+            remove(row, oldValue);
+            remove(size + col, oldValue);
+            remove(2 * size + box, oldValue);
+        }
+        if (newValue != 0) {
+            filledCells++;
+            add(row, newValue);
+            add(size + col, newValue);
+            add(2 * size + box, newValue);
+        }
+    }
+
+    private void add(int unit, int value) {
+        int count = ++counts[unit * (size + 1) + value];
+        int bit = 1 << (value - 1);
+        if (count == 1) {
+            presentMasks[unit] |= bit;
+        } else if (count == 2) {
+            duplicateMasks[unit] |= bit;
+            duplicateDigits++;
+        }
+    }
+
+    private void remove(int unit, int value) {
+        int count = --counts[unit * (size + 1) + value];
+        int bit = 1 << (value - 1);
+        if (count == 0) {
+            presentMasks[unit] &= ~bit;
+        } else if (count == 1) {
+            duplicateMasks[unit] &= ~bit;
+            duplicateDigits--;
+        }
+    }
+
+    /**
+     * Calcula el índice de la caja que contiene una celda.
+     *
+     * @param row Índice de la fila
+     * @param col Índice de la columna
+     * @return Índice de la caja, numerando las cajas por filas
+     */
+    int boxIndex(int row, int col) {
+        return geometry.getBoxIndex(row, col);
+    }
+
+    int rowMask(int row) {
+        return presentMasks[row];
+    }
+
+    int columnMask(int col) {
+        return presentMasks[size + col];
+    }
+
+    int boxMask(int box) {
+        return presentMasks[2 * size + box];
+    }
+
+    /**
+     * Dígitos presentes en una unidad, numerada como se indica en la descripción de la clase.
+     */
+    int unitMask(int unit) {
+        return presentMasks[unit];
+    }
+
+    /**
+     * Dígitos repetidos en una unidad, numerada como se indica en la descripción de la clase.
+     */
+    int unitDuplicateMask(int unit) {
+        return duplicateMasks[unit];
+    }
+
+    /**
+     * Dígitos repetidos en alguna de las tres unidades de la celda.
+     */
+    int duplicateMask(int row, int col) {
+        return duplicateMasks[row] | duplicateMasks[size + col] | duplicateMasks[2 * size + boxIndex(row, col)];
+    }
+
+    int fullMask() {
+        return fullMask;
+    }
+
+    int filledCells() {
+        return filledCells;
+    }
+
+    int duplicateDigits() {
+        return duplicateDigits;
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.sudoku_game.models;
+
+import com.example.sudoku_game.interfaces.BoardListener;
+import com.example.sudoku_game.solver.CandidateGrid;
+import com.example.sudoku_game.solver.LogicalSolver;
+import com.example.sudoku_game.solver.Step;
+
+/**
+ * Motor de pistas lógicas de un tablero.
+ * Mantiene una {@link CandidateGrid} con los valores actuales del tablero (los iniciales y
+ * los del jugador) junto con las eliminaciones de candidatos que ya se dedujeron, y a partir
+ * de ella busca la siguiente colocación forzada con el {@link LogicalSolver}.
+ * El estado se actualiza de forma incremental: colocar un dígito solo lo coloca en la
+ * cuadrícula, y las eliminaciones deducidas siguen siendo válidas porque un valor más solo
+ * añade restricciones. Borrar o cambiar un valor sí puede invalidarlas, así que en ese caso
+ * (y cuando cambia todo el tablero) la cuadrícula se reconstruye en la siguiente consulta.
+ * La pista encontrada se guarda hasta el siguiente cambio del tablero.
+ *
+ * @author Juan Pablo Escamilla
+ */
+public final class HintEngine implements BoardListener {
+    private final BoardModel board;
+    private final int size;
+    private final LogicalSolver solver = new LogicalSolver();
+
+    /** Valores actuales y candidatos deducidos, o {@code null} si hay que reconstruirlos */
+    private CandidateGrid grid;
+
+    /** Pista encontrada para el estado actual, o {@code null} si no se ha buscado */
+    private Step cachedHint;
+
+    /**
+     * Crea el motor de pistas de un tablero y lo registra como oyente del tablero.
+     *
+     * @param board Tablero del que se dan pistas
+     */
+    public HintEngine(BoardModel board) {
+        this.board = board;
+        this.size = board.getBoardSize();
+        board.addBoardListener(this);
+    }
+
+    /**
+     * Busca la siguiente colocación forzada por la lógica a partir del estado actual del tablero.
+     *
+     * @return El paso que coloca el dígito, con la técnica más difícil necesaria para deducirlo,
+     *         o {@code null} si el tablero tiene valores contradictorios, no tiene solución o las
+     *         técnicas no bastan; en ese caso {@link BoardModel#getHint()} toma la pista de la solución
+     */
+    public Step nextHint() {
+        if (cachedHint != null) {
+            return cachedHint;
+        }
+        if (grid == null) {
+            rebuild();
+        }
+        // Las eliminaciones se aplican a la cuadrícula guardada para no volver a deducirlas
+        cachedHint = solver.advanceToPlacement(grid);
+        return cachedHint;
+    }
+
+    /**
+     * Coloca el nuevo valor en la cuadrícula, o la marca para reconstruirla si se borró
+     * o cambió un valor.
+     */
+    @Override
+    public void cellValueChanged(int row, int col, int oldValue, int newValue) {
+        cachedHint = null;
+        if (grid == null) {
+            return;
+        }
+        if (oldValue == 0 && newValue != 0) {
+            // Si el dígito ya estaba descartado, la cuadrícula queda contradictoria y no hay pistas
+            grid.place(row * size + col, newValue);
+        } else {
+            grid = null;
+        }
+    }
+
+    /**
+     * Marca la cuadrícula para reconstruirla.
+     */
+    @Override
+    public void boardChanged() {
+        cachedHint = null;
+        grid = null;
+    }
+
+    /**
+     * Crea la cuadrícula con los valores actuales del tablero, sin eliminaciones deducidas.
+     */
+    private void rebuild() {
+        grid = new CandidateGrid(board.getGeometry());
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                int value = board.getCell(row, col).getValue();
+                if (value != 0) {
+                    grid.place(row * size + col, value);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package com.example.sudoku_game.models;
+import com.example.sudoku_game.interfaces.ValidationInterface;
+import com.example.sudoku_game.metrics.ConflictCheckEvent;
+import com.example.sudoku_game.metrics.Histogram;
+import com.example.sudoku_game.metrics.Metrics;
+import com.example.sudoku_game.persistence.EventJournal;
+import com.example.sudoku_game.persistence.GameEventType;
+import com.example.sudoku_game.persistence.SavedGame;
+
+/**
+ * Modelo que contiene la lógica del juego Sudoku.
+ * Esta clase actúa como intermediario entre la interfaz de usuario y el modelo del tablero,
+ * gestionando el estado del juego, validando movimientos y controlando el flujo del juego.
+ *
+ * @author Juan Pablo Escamilla
+ */
+public class LogicModel {
+    private static final Histogram MOVE_TIME = Metrics.histogram("logic.setCellValue");
+
+    private BoardModel board;
+    private ValidationInterface validator;
+    private boolean gameInProgress;
+    private final ConflictTracker conflicts;
+    private final int[] changedCells;
+    private EventJournal eventJournal;
+
+    /**
+     * Constructor que inicializa un nuevo modelo de lógica del juego.
+     * Crea un nuevo tablero de 6x6 y establece el estado del juego como no iniciado.
+     */
+    public LogicModel() {
+        this(BoardGeometry.SIX_BY_SIX);
+    }
+
+    /**
+     * Constructor que inicializa un nuevo modelo de lógica del juego con la geometría dada.
+     * Crea un nuevo tablero vacío y establece el estado del juego como no iniciado;
+     * el puzzle se genera al llamar a {@link #startNewGame()}.
+     *
+     * @param geometry Geometría del tablero
+     */
+    public LogicModel(BoardGeometry geometry) {
+        this.board = new BoardModel(geometry, false);
+        this.gameInProgress = false;
+        this.conflicts = new ConflictTracker(board);
+        this.changedCells = new int[geometry.getCellCount()];
+    }
+
+    /**
+     * Establece el validador para comprobar movimientos.
+     *
+     * @param validator El validador a utilizar
+     */
+    public void setValidator(ValidationInterface validator) {
+        this.validator = validator;
+    }
+
+    /**
+     * Establece el diario en el que se registran los juegos nuevos y las jugadas.
+     *
+     * @param eventJournal El diario, o {@code null} para no registrar nada
+     */
+    public void setEventJournal(EventJournal eventJournal) {
+        this.eventJournal = eventJournal;
+    }
+
+    /**
+     * Inicia un nuevo juego.
+     * Genera un nuevo tablero y establece el estado del juego como en progreso.
+     */
+    public void startNewGame() {
+        board.generateBoard();
+        gameInProgress = true;
+        if (eventJournal != null && board.getSolution() != null) {
+            eventJournal.logSnapshot(GameEventType.NEW_GAME, SavedGame.of(board, 0));
+        }
+    }
+
+    /**
+     * Establece un valor en una celda específica del tablero.
+     * Comprueba si el movimiento es válido antes de establecer el valor. Si el valor
+     * no es válido, resalta la celda para indicar un error. Después del movimiento
+     * actualiza el resaltado solo de las celdas que entraron o salieron de conflicto.
+     * Si el tablero se completa después del movimiento, finaliza el juego.
+     *
+     * @param row Índice de la fila
+     * @param col Índice de la columna
+     * @param value Valor a establecer (0 para borrar el valor)
+     * @return {@code true} si el valor se estableció correctamente, {@code false} en caso contrario
+     */
+    public boolean setCellValue(int row, int col, int value) {
+        long start = Metrics.startTimer();
+        boolean applied = applyCellValue(row, col, value);
+        MOVE_TIME.recordSince(start);
+        return applied;
+    }
+
+    private boolean applyCellValue(int row, int col, int value) {
+        if (!gameInProgress || board.getCell(row, col).isLocked()) return false;
+
+        if (validator != null && value != 0) {
+            if (!validator.isValidMove(board, row, col, value)) {
+                board.getCell(row, col).setHighlighted(true);
+                return false;
+            }
+        }
+
+        int oldValue = board.getCell(row, col).getValue();
+        board.getCell(row, col).setValue(value);
+        board.getCell(row, col).setHighlighted(conflicts.isConflicting(row, col));
+        if (eventJournal != null && oldValue != value) {
+            eventJournal.logCellChange(GameEventType.MOVE, row * board.getBoardSize() + col, oldValue, value);
+        }
+        applyConflictHighlights();
+
+        if (board.isBoardComplete()) gameCompleted();
+        return true;
+    }
+
+    /**
+     * Deshace la última jugada y actualiza el resaltado de conflictos.
+     *
+     * @return {@code true} si se deshizo una jugada, {@code false} si no había ninguna
+     */
+    public boolean undo() {
+        return replay(board.getMoveJournal().getPosition() - 1);
+    }
+
+    /**
+     * Vuelve a aplicar la última jugada deshecha y actualiza el resaltado de conflictos.
+     *
+     * @return {@code true} si se rehízo una jugada, {@code false} si no había ninguna
+     */
+    public boolean redo() {
+        return replay(board.getMoveJournal().getPosition() + 1);
+    }
+
+    /**
+     * Lleva el tablero al estado que tenía después de un número de jugadas y actualiza
+     * el resaltado de conflictos.
+     *
+     * @param move Número de jugadas (0 es el tablero inicial)
+     * @return {@code true} si el tablero cambió, {@code false} si el número está fuera del historial
+     */
+    public boolean jumpToMove(int move) {
+        return replay(move);
+    }
+
+    private boolean replay(int move) {
+        MoveJournal journal = board.getMoveJournal();
+        if (move < 0 || move > journal.getSize() || move == journal.getPosition()) {
+            return false;
+        }
+        int from = journal.getPosition();
+        board.jumpToMove(move);
+        // Las celdas de las jugadas recorridas pierden el resaltado; se vuelve a calcular
+        int size = board.getBoardSize();
+        for (int i = Math.min(from, move); i < Math.max(from, move); i++) {
+            int cell = MoveJournal.cellOf(journal.get(i));
+            board.getCell(cell / size, cell % size).setHighlighted(conflicts.isConflicting(cell / size, cell % size));
+        }
+        if (eventJournal != null) {
+            // Registrar las jugadas en el orden en que se deshicieron o rehicieron
+            for (int i = from - 1; i >= move; i--) {
+                int entry = journal.get(i);
+                eventJournal.logCellChange(GameEventType.UNDO, MoveJournal.cellOf(entry), MoveJournal.newValueOf(entry), MoveJournal.oldValueOf(entry));
+            }
+            for (int i = from; i < move; i++) {
+                int entry = journal.get(i);
+                eventJournal.logCellChange(GameEventType.REDO, MoveJournal.cellOf(entry), MoveJournal.oldValueOf(entry), MoveJournal.newValueOf(entry));
+            }
+        }
+        applyConflictHighlights();
+        gameInProgress = !board.isBoardComplete();
+        return true;
+    }
+
+    /**
+     * Método interno que se llama cuando el juego se completa.
+     */
+    private void gameCompleted() {
+        gameInProgress = false;
+    }
+
+    /**
+     * Calcula la puntuación basada en el tiempo empleado.
+     * La puntuación se calcula como 2000 menos el doble del tiempo en segundos,
+     * con un mínimo de 0 puntos.
+     * @param timeInSeconds Tiempo empleado en segundos
+     * @return La puntuación calculada
+     */
+    private int calculateScore(int timeInSeconds) {
+        return Math.max(0, 2000 - (timeInSeconds * 2));
+    }
+
+    /**
+     * Verifica conflictos en el tablero y resalta las celdas con valores inválidos.
+     * Las celdas no bloqueadas cuyo valor está repetido en su fila, columna o caja se
+     * resaltan. Los conflictos se mantienen al día con cada cambio del tablero (ver
+     * {@link ConflictTracker}), así que solo se actualizan las celdas cuyo estado de
+     * conflicto cambió desde la última comprobación.
+     */
+    public void checkConflicts() {
+        applyConflictHighlights();
+    }
+
+    /**
+     * Actualiza el resaltado de las celdas cuyo estado de conflicto cambió.
+     */
+    private void applyConflictHighlights() {
+        ConflictCheckEvent event = new ConflictCheckEvent();
+        event.begin();
+        int size = board.getBoardSize();
+        int count = conflicts.drainChangedCells(changedCells);
+        for (int i = 0; i < count; i++) {
+            int row = changedCells[i] / size;
+            int col = changedCells[i] % size;
+            CellModel cell = board.getCell(row, col);
+            if (!cell.isLocked()) {
+                cell.setHighlighted(conflicts.isConflicting(row, col));
+            }
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.boardSize = size;
+            event.changedCells = count;
+            event.conflictingCells = conflicts.getConflictCount();
+            event.commit();
+        }
+    }
+
+    /**
+     * Obtiene el seguimiento de conflictos del tablero.
+     *
+     * @return El seguimiento de las celdas en conflicto
+     */
+    public ConflictTracker getConflicts() {
+        return conflicts;
+    }
+
+    /**
+     * Obtiene el modelo del tablero.
+     *
+     * @return El modelo del tablero actual
+     */
+    public BoardModel getBoard() {
+        return board;
+    }
+
+    /**
+     * Verifica si hay un juego en progreso.
+     *
+     * @return {@code true} si hay un juego en progreso, {@code false} en caso contrario
+     */
+    public boolean isGameInProgress() {
+        return gameInProgress;
+    }
+
+    /**
+     * Establece el estado del juego como finalizado.
+     */
+    public void endGame() {
+        gameInProgress = false;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,156 @@
+package com.example.sudoku_game.models;
+
+import java.util.Arrays;
+
+/**
+ * Historial de jugadas de un tablero, para deshacer y rehacer sin límite de profundidad.
+ * Cada jugada se guarda como un único {@code int} con el índice de la celda
+ * ({@code fila * n + columna}), el valor anterior y el valor nuevo, así que el historial
+ * ocupa 4 bytes por jugada y nunca copia el tablero. La posición actual separa las jugadas
+ * aplicadas de las que se pueden rehacer; un estado pasado se identifica solo por su
+ * número de jugada, y para volver a él se deshacen o rehacen las jugadas intermedias.
+ * Registrar una jugada nueva después de deshacer descarta las jugadas que se podían rehacer.
+ *
+ * @author Juan Pablo Escamilla
+ */
+public final class MoveJournal {
+    /** Bits reservados a cada valor de celda (hasta 31, suficiente para tableros de 25x25) */
+    private static final int VALUE_BITS = 5;
+    private static final int VALUE_MASK = (1 << VALUE_BITS) - 1;
+
+    /** Capacidad al registrar la primera jugada; un historial vacío no reserva memoria */
+    private static final int INITIAL_CAPACITY = 16;
+
+    private int[] entries = new int[0];
+    private int size;
+    private int position;
+
+    /**
+     * Registra una jugada en la posición actual, descartando las jugadas que se podían rehacer.
+     *
+     * @param cell Índice de la celda
+     * @param oldValue Valor anterior (0 si estaba vacía)
+     * @param newValue Valor nuevo (0 si quedó vacía)
+     */
+    public void record(int cell, int oldValue, int newValue) {
+        if (position == entries.length) {
+            entries = Arrays.copyOf(entries, Math.max(INITIAL_CAPACITY, entries.length * 2));
+        }
+        entries[position++] = (cell << (2 * VALUE_BITS)) | (oldValue << VALUE_BITS) | newValue;
+        size = position;
+    }
+
+    /**
+     * Vacía el historial.
+     */
+    public void clear() {
+        size = 0;
+        position = 0;
+    }
+
+    /**
+     * Indica si hay alguna jugada que deshacer.
+     *
+     * @return {@code true} si la posición actual no es el inicio del historial
+     */
+    public boolean canUndo() {
+        return position > 0;
+    }
+
+    /**
+     * Indica si hay alguna jugada que rehacer.
+     *
+     * @return {@code true} si hay jugadas deshechas después de la posición actual
+     */
+    public boolean canRedo() {
+        return position < size;
+    }
+
+    /**
+     * Retrocede una jugada.
+     *
+     * @return La jugada deshecha, que hay que revertir en el tablero
+     * @throws IllegalStateException si no hay jugadas que deshacer
+     */
+    public int undo() {
+        if (!canUndo()) {
+            throw new IllegalStateException("No hay jugadas que deshacer");
+        }
+        return entries[--position];
+    }
+
+    /**
+     * Avanza una jugada.
+     *
+     * @return La jugada rehecha, que hay que volver a aplicar en el tablero
+     * @throws IllegalStateException si no hay jugadas que rehacer
+     */
+    public int redo() {
+        if (!canRedo()) {
+            throw new IllegalStateException("No hay jugadas que rehacer");
+        }
+        return entries[position++];
+    }
+
+    /**
+     * Obtiene una jugada del historial sin moverse a ella.
+     *
+     * @param move Número de la jugada, de 0 a {@link #getSize()} - 1
+     * @return La jugada empaquetada
+     * @throws IndexOutOfBoundsException si la jugada no está en el historial
+     */
+    public int get(int move) {
+        if (move < 0 || move >= size) {
+            throw new IndexOutOfBoundsException("Jugada fuera del historial: " + move);
+        }
+        return entries[move];
+    }
+
+    /**
+     * Obtiene el número de jugadas aplicadas, que identifica el estado actual del tablero.
+     *
+     * @return Posición actual en el historial
+     */
+    public int getPosition() {
+        return position;
+    }
+
+    /**
+     * Obtiene el número total de jugadas registradas, incluidas las que se pueden rehacer.
+     *
+     * @return Número de jugadas del historial
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Obtiene el índice de la celda de una jugada.
+     *
+     * @param entry Jugada empaquetada
+     * @return Índice de la celda ({@code fila * n + columna})
+     */
+    public static int cellOf(int entry) {
+        return entry >>> (2 * VALUE_BITS);
+    }
+
+    /**
+     * Obtiene el valor anterior de una jugada.
+     *
+     * @param entry Jugada empaquetada
+     * @return Valor de la celda antes de la jugada
+     */
+    public static int oldValueOf(int entry) {
+        return (entry >>> VALUE_BITS) & VALUE_MASK;
+    }
+
+    /**
+     * Obtiene el valor nuevo de una jugada.
+     *
+     * @param entry Jugada empaquetada
+     * @return Valor de la celda después de la jugada
+     */
+    public static int newValueOf(int entry) {
+        return entry & VALUE_MASK;
+    }
+}
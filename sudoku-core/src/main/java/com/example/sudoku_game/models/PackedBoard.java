@@ -0,0 +1,258 @@
+package com.example.sudoku_game.models;
+
+import java.util.Arrays;
+
+/**
+ * Estado compacto de un tablero de Sudoku, pensado para guardar millones de tableros
+ * en memoria en los procesos de resolución y generación.
+ * En lugar de un objeto {@link CellModel} por celda, los valores se guardan en un único
+ * arreglo de bytes recorrido por filas, y los estados de bloqueo y resaltado en dos
+ * conjuntos de bits dentro de un mismo arreglo de {@code long}. Un tablero de 6x6 ocupa
+ * así dos arreglos pequeños, y copiarlo, compararlo o calcular su hash recorre memoria contigua.
+ * Para la interfaz, {@link #getCell(int, int)} ofrece una vista compatible con {@link CellModel}
+ * que lee y escribe directamente en este estado.
+ *
+ * @author Juan Pablo Escamilla
+ */
+public final class PackedBoard {
+    private final BoardGeometry geometry;
+    private final int size;
+    private final int words;
+
+    /** Valores de las celdas (0 a tamaño, donde 0 representa una celda vacía) */
+    private final byte[] values;
+
+    /** Bits de celdas bloqueadas en las primeras {@code words} posiciones y de celdas resaltadas en las siguientes */
+    private final long[] flags;
+
+    /**
+     * Crea un tablero compacto vacío, sin celdas bloqueadas ni resaltadas.
+     *
+     * @param geometry Geometría del tablero
+     */
+    public PackedBoard(BoardGeometry geometry) {
+        this.geometry = geometry;
+        this.size = geometry.getSize();
+        this.words = (geometry.getCellCount() + Long.SIZE - 1) / Long.SIZE;
+        this.values = new byte[geometry.getCellCount()];
+        this.flags = new long[2 * words];
+    }
+
+    private PackedBoard(PackedBoard other) {
+        this.geometry = other.geometry;
+        this.size = other.size;
+        this.words = other.words;
+        this.values = other.values.clone();
+        this.flags = other.flags.clone();
+    }
+
+    /**
+     * Crea una copia independiente de este tablero.
+     *
+     * @return Un tablero con los mismos valores y estados
+     */
+    public PackedBoard copy() {
+        return new PackedBoard(this);
+    }
+
+    /**
+     * Obtiene la geometría del tablero.
+     *
+     * @return El descriptor con el tamaño del tablero y las dimensiones de sus cajas
+     */
+    public BoardGeometry getGeometry() {
+        return geometry;
+    }
+
+    /**
+     * Obtiene el valor de una celda.
+     *
+     * @param row Índice de la fila
+     * @param col Índice de la columna
+     * @return Valor de la celda (0 si está vacía)
+     */
+    public int getValue(int row, int col) {
+        return values[row * size + col];
+    }
+
+    /**
+     * Establece el valor de una celda. Solo acepta valores entre 0 y el tamaño del tablero.
+     *
+     * @param row Índice de la fila
+     * @param col Índice de la columna
+     * @param value Nuevo valor de la celda
+     */
+    public void setValue(int row, int col, int value) {
+        if (value >= 0 && value <= size) {
+            values[row * size + col] = (byte) value;
+        }
+    }
+
+    /**
+     * Verifica si una celda está bloqueada.
+     *
+     * @param row Índice de la fila
+     * @param col Índice de la columna
+     * @return {@code true} si la celda está bloqueada
+     */
+    public boolean isLocked(int row, int col) {
+        return getFlag(0, row * size + col);
+    }
+
+    /**
+     * Establece el estado de bloqueo de una celda.
+     *
+     * @param row Índice de la fila
+     * @param col Índice de la columna
+     * @param locked {@code true} para bloquear la celda
+     */
+    public void setLocked(int row, int col, boolean locked) {
+        setFlag(0, row * size + col, locked);
+    }
+
+    /**
+     * Verifica si una celda está resaltada.
+     *
+     * @param row Índice de la fila
+     * @param col Índice de la columna
+     * @return {@code true} si la celda está resaltada
+     */
+    public boolean isHighlighted(int row, int col) {
+        return getFlag(words, row * size + col);
+    }
+
+    /**
+     * Establece el estado de resaltado de una celda.
+     *
+     * @param row Índice de la fila
+     * @param col Índice de la columna
+     * @param highlighted {@code true} para resaltar la celda
+     */
+    public void setHighlighted(int row, int col, boolean highlighted) {
+        setFlag(words, row * size + col, highlighted);
+    }
+
+    /**
+     * Obtiene una vista de una celda compatible con {@link CellModel}.
+     * La vista no guarda estado propio: sus lecturas y escrituras van a este tablero.
+     *
+     * @param row Índice de la fila
+     * @param col Índice de la columna
+     * @return Una celda respaldada por este tablero
+     */
+    public CellModel getCell(int row, int col) {
+        return new CellView(this, row, col);
+    }
+
+    private boolean getFlag(int offset, int cell) {
+        return (flags[offset + (cell >>> 6)] & (1L << cell)) != 0;
+    }
+
+    private void setFlag(int offset, int cell, boolean set) {
+        if (set) {
+            flags[offset + (cell >>> 6)] |= 1L << cell;
+        } else {
+            flags[offset + (cell >>> 6)] &= ~(1L << cell);
+        }
+    }
+
+    /**
+     * Compara este tablero con otro objeto.
+     * Dos tableros son iguales si tienen la misma geometría, los mismos valores y los mismos estados.
+     *
+     * @param o Objeto a comparar
+     * @return {@code true} si representan el mismo estado de tablero
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PackedBoard)) {
+            return false;
+        }
+        PackedBoard other = (PackedBoard) o;
+        return geometry.equals(other.geometry)
+                && Arrays.equals(values, other.values)
+                && Arrays.equals(flags, other.flags);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(values) + Arrays.hashCode(flags);
+    }
+
+    /**
+     * Representación textual del tablero: una línea por fila, con un punto en las celdas vacías.
+     *
+     * @return Texto con los valores del tablero
+     */
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                int value = getValue(row, col);
+                if (col > 0) {
+                    text.append(' ');
+                }
+                text.append(value == 0 ? "." : String.valueOf(value));
+            }
+            text.append('\n');
+        }
+        return text.toString();
+    }
+
+    /**
+     * Celda compatible con {@link CellModel} que delega en un {@link PackedBoard}.
+     */
+    private static final class CellView extends CellModel {
+        private final PackedBoard board;
+
+        CellView(PackedBoard board, int row, int col) {
+            super(row, col, board.size, null);
+            this.board = board;
+        }
+
+        @Override
+        public int getValue() {
+            return board.getValue(getRow(), getCol());
+        }
+
+        @Override
+        public void setValue(int value) {
+            board.setValue(getRow(), getCol(), value);
+        }
+
+        @Override
+        public boolean isLocked() {
+            return board.isLocked(getRow(), getCol());
+        }
+
+        @Override
+        public void setLocked(boolean locked) {
+            board.setLocked(getRow(), getCol(), locked);
+        }
+
+        @Override
+        public boolean isHighlighted() {
+            return board.isHighlighted(getRow(), getCol());
+        }
+
+        @Override
+        public void setHighlighted(boolean highlighted) {
+            board.setHighlighted(getRow(), getCol(), highlighted);
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return getValue() == 0;
+        }
+
+        @Override
+        public String toString() {
+            int value = getValue();
+            return value == 0 ? " " : String.valueOf(value);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.sudoku_game.models;
+
+/**
+ * Modo en que {@link BoardModel} crea el puzzle a partir de una solución completa.
+ *
+ * @author Juan Pablo Escamilla
+ */
+public enum PuzzleMode {
+    /**
+     * Muestra 2 números al azar por caja (en 6x6), sin comprobar cuántas soluciones tiene el puzzle.
+     */
+    TWO_PER_BOX,
+
+    /**
+     * Muestra 2 números al azar por caja (en 6x6) y revela celdas adicionales hasta que
+     * el puzzle tiene exactamente una solución.
+     */
+    UNIQUE
+}
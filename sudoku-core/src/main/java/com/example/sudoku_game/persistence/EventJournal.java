@@ -0,0 +1,514 @@
+package com.example.sudoku_game.persistence;
+
+import com.example.sudoku_game.metrics.Counter;
+import com.example.sudoku_game.metrics.Metrics;
+import com.example.sudoku_game.models.BoardGeometry;
+import com.example.sudoku_game.models.PackedBoard;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Diario binario de solo anexado con los eventos de las partidas: juegos nuevos,
+ * reanudaciones, jugadas, pistas y jugadas deshechas o rehechas, cada uno con su hora.
+ * Cada registro tiene el formato (big-endian):
+ * <pre>
+ *   int   longitud de la carga útil
+ *   byte  código del tipo (ver {@link GameEventType#getCode()})
+ *   long  hora del evento en milisegundos desde la época
+ *   ...   carga útil: celda (short), valor anterior (byte) y valor nuevo (byte),
+ *         o una instantánea del tablero en el formato de {@link GameSaveStore}
+ *   int   CRC32 del tipo, la hora y la carga útil
+ * </pre>
+ * Quien registra un evento solo lo deja en una cola acotada, sin esperar al disco; un hilo
+ * escritor saca los eventos en lotes, los escribe con una sola escritura y fuerza el lote
+ * al disco una vez (commit en grupo). Si la cola está llena el evento se descarta y se
+ * cuenta, para no bloquear nunca la interfaz.
+ * Si no se puede escribir, el diario deja de escribir y cuenta los eventos perdidos
+ * ({@link #isFailed()}, {@link #getDroppedCount()} y las métricas {@code journal.*}).
+ * <p>
+ * El diario se divide en segmentos: al registrar un juego nuevo o una reanudación, el archivo
+ * del diario se renombra a su siguiente número ({@code diario.log.1}, {@code diario.log.2}...)
+ * y la instantánea empieza un archivo nuevo. Ningún evento se borra ni se sobrescribe, así
+ * que los segmentos guardan el historial completo de todas las partidas
+ * ({@link #segments(Path)}), mientras que abrir el diario solo lee el segmento en curso.
+ * <p>
+ * Al abrir el diario se leen los registros del segmento en curso hasta el primero incompleto
+ * o dañado (el que se estaba escribiendo si el proceso se interrumpió), se recorta ese final
+ * y se puede reconstruir el último estado del tablero con {@link #recoverState()}.
+ *
+ * @author Juan Pablo Escamilla
+ */
+public class EventJournal implements Closeable {
+    /** Capacidad de la cola de eventos pendientes de escribir */
+    private static final int QUEUE_CAPACITY = 8192;
+
+    /** Número máximo de eventos escritos en un mismo lote */
+    private static final int MAX_BATCH = 512;
+
+    /** Bytes de cada registro además de la carga útil: longitud, tipo, hora y CRC */
+    private static final int FRAME_OVERHEAD = 4 + 1 + 8 + 4;
+
+    /** Bytes del tipo y la hora de cada registro, cubiertos por el CRC junto con la carga útil */
+    private static final int HEADER_BYTES = 1 + 8;
+
+    /** Tamaño del búfer de lectura al abrir el diario */
+    private static final int READ_BUFFER_BYTES = 64 * 1024;
+
+    /** Bytes de la carga útil de un cambio de celda */
+    private static final int CELL_CHANGE_BYTES = 4;
+
+    private static final Counter DROPPED_EVENTS = Metrics.counter("journal.droppedEvents");
+    private static final Counter WRITE_FAILURES = Metrics.counter("journal.writeFailures");
+    private static final Counter TRIMMED_BYTES = Metrics.counter("journal.trimmedBytes");
+
+    /** Marca de fin para el hilo escritor */
+    private static final GameEvent END = GameEvent.cellChange(GameEventType.MOVE, 0, -1, 0, 0);
+
+    private final Path path;
+    private final List<GameEvent> recoveredEvents;
+    private final BlockingQueue<GameEvent> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final AtomicLong droppedEvents = new AtomicLong();
+    private final long trimmedBytes;
+    private final Thread writer;
+    private volatile boolean closed;
+    private volatile boolean failed;
+
+    /** Segmento en curso, abierto para anexar; solo lo cambia el hilo escritor al empezar otro */
+    private volatile FileChannel channel;
+
+    /** Número del próximo segmento archivado; solo lo usa el hilo escritor */
+    private long nextSegment;
+
+    private EventJournal(Path path, FileChannel channel, List<GameEvent> recoveredEvents, long trimmedBytes) throws IOException {
+        this.path = path;
+        this.channel = channel;
+        this.recoveredEvents = recoveredEvents;
+        this.trimmedBytes = trimmedBytes;
+        List<Path> archived = segments(path);
+        this.nextSegment = archived.isEmpty() ? 1 : segmentNumber(archived.get(archived.size() - 1), path) + 1;
+        this.writer = new Thread(this::writeLoop, "sudoku-event-journal");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * Abre un diario para añadir eventos, creándolo si no existe. Los registros ya escritos
+     * en el segmento en curso se leen para poder recuperar el estado, y un final incompleto
+     * se recorta.
+     *
+     * @param path Archivo del segmento en curso del diario
+     * @return El diario abierto
+     * @throws IOException si no se puede abrir o leer el archivo
+     */
+    public static EventJournal open(Path path) throws IOException {
+        Path directory = path.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            List<GameEvent> events = new ArrayList<>();
+            long validLength = readEvents(channel, events, path);
+            long trimmed = channel.size() - validLength;
+            if (trimmed > 0) {
+                System.err.println("Diario " + path + ": se descartan " + trimmed + " bytes incompletos al final");
+                TRIMMED_BYTES.add(trimmed);
+                channel.truncate(validLength);
+            }
+            channel.position(validLength);
+            return new EventJournal(path, channel, Collections.unmodifiableList(events), trimmed);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Obtiene el archivo de diario predeterminado para una geometría, en el directorio
+     * {@code .sudoku_game} del usuario.
+     *
+     * @param geometry Geometría del tablero
+     * @return Ruta del diario de esa geometría
+     */
+    public static Path defaultPath(BoardGeometry geometry) {
+        String name = "diario-" + geometry.getBoxHeight() + "x" + geometry.getBoxWidth() + ".log";
+        return Path.of(System.getProperty("user.home"), ".sudoku_game", name);
+    }
+
+    /**
+     * Obtiene los segmentos archivados de un diario, del más antiguo al más reciente.
+     * No incluye el segmento en curso, que es el propio {@code path}.
+     *
+     * @param path Archivo del segmento en curso del diario
+     * @return Rutas de los segmentos archivados
+     * @throws IOException si no se puede listar el directorio del diario
+     */
+    public static List<Path> segments(Path path) throws IOException {
+        Path directory = path.toAbsolutePath().getParent();
+        if (!Files.isDirectory(directory)) {
+            return Collections.emptyList();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> segmentNumber(file, path) > 0)
+                    .sorted(Comparator.comparingLong(file -> segmentNumber(file, path)))
+                    .toList();
+        }
+    }
+
+    /**
+     * Número de un segmento archivado del diario, o 0 si el archivo no es uno.
+     */
+    private static long segmentNumber(Path file, Path path) {
+        String prefix = path.getFileName() + ".";
+        String name = file.getFileName().toString();
+        if (!name.startsWith(prefix) || name.length() == prefix.length() || name.length() - prefix.length() > 18) {
+            return 0;
+        }
+        for (int i = prefix.length(); i < name.length(); i++) {
+            if (name.charAt(i) < '0' || name.charAt(i) > '9') {
+                return 0;
+            }
+        }
+        return Long.parseLong(name.substring(prefix.length()));
+    }
+
+    /**
+     * Lee todos los eventos válidos de un segmento del diario, sin abrirlo para escribir.
+     *
+     * @param path Archivo del segmento
+     * @return Los eventos, en orden, hasta el primer registro incompleto o dañado
+     * @throws IOException si no se puede leer el archivo
+     */
+    public static List<GameEvent> read(Path path) throws IOException {
+        List<GameEvent> events = new ArrayList<>();
+        if (Files.exists(path)) {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                readEvents(channel, events, path);
+            }
+        }
+        return events;
+    }
+
+    /**
+     * Reconstruye un estado del tablero repitiendo los eventos desde la última instantánea.
+     *
+     * @param events Eventos en orden
+     * @return El estado tras el último evento, o {@code null} si no hay ninguna instantánea
+     */
+    public static SavedGame replay(List<GameEvent> events) {
+        int start = events.size() - 1;
+        while (start >= 0 && !events.get(start).getType().hasSnapshot()) {
+            start--;
+        }
+        if (start < 0) {
+            return null;
+        }
+        GameEvent first = events.get(start);
+        SavedGame snapshot = first.getSnapshot();
+        PackedBoard board = snapshot.getBoard().copy();
+        int size = board.getGeometry().getSize();
+        long lastTimestamp = first.getTimestampMillis();
+        for (int i = start + 1; i < events.size(); i++) {
+            GameEvent event = events.get(i);
+            int row = event.getCell() / size;
+            int col = event.getCell() % size;
+            board.setValue(row, col, event.getNewValue());
+            if (event.getType() == GameEventType.HINT) {
+                board.setHighlighted(row, col, true);
+            } else if (event.getType() != GameEventType.MOVE) {
+                // Deshacer y rehacer quitan el resaltado, como en BoardModel
+                board.setHighlighted(row, col, false);
+            }
+            lastTimestamp = event.getTimestampMillis();
+        }
+        long elapsed = snapshot.getElapsedMillis() + Math.max(0, lastTimestamp - first.getTimestampMillis());
+        return new SavedGame(board, snapshot.getSolution(), elapsed);
+    }
+
+    /**
+     * Obtiene los eventos que ya estaban en el diario al abrirlo.
+     *
+     * @return Lista inmutable de eventos
+     */
+    public List<GameEvent> getRecoveredEvents() {
+        return recoveredEvents;
+    }
+
+    /**
+     * Indica si el diario dejó de escribir por un error de disco. Desde entonces todos los
+     * eventos se descartan.
+     *
+     * @return {@code true} si falló alguna escritura
+     */
+    public boolean isFailed() {
+        return failed;
+    }
+
+    /**
+     * Obtiene los bytes incompletos o dañados que se recortaron del final al abrir el diario.
+     *
+     * @return Bytes recortados, 0 si el diario se cerró bien la última vez
+     */
+    public long getTrimmedBytes() {
+        return trimmedBytes;
+    }
+
+    /**
+     * Reconstruye el último estado del tablero registrado antes de abrir el diario,
+     * por ejemplo después de que el juego se cerrara de forma inesperada.
+     *
+     * @return El estado, o {@code null} si el diario no tenía ninguna instantánea
+     */
+    public SavedGame recoverState() {
+        return replay(recoveredEvents);
+    }
+
+    /**
+     * Registra un evento con una instantánea del tablero (juego nuevo o reanudación).
+     * No espera a que el evento se escriba.
+     *
+     * @param type Tipo del evento
+     * @param snapshot Estado del tablero
+     * @throws IllegalArgumentException si el tipo no lleva instantánea
+     */
+    public void logSnapshot(GameEventType type, SavedGame snapshot) {
+        if (!type.hasSnapshot()) {
+            throw new IllegalArgumentException("El evento " + type + " no lleva instantánea");
+        }
+        enqueue(GameEvent.snapshot(type, System.currentTimeMillis(), snapshot));
+    }
+
+    /**
+     * Registra el cambio de valor de una celda (jugada, pista, deshacer o rehacer).
+     * No espera a que el evento se escriba.
+     *
+     * @param type Tipo del evento
+     * @param cell Índice de la celda ({@code fila * n + columna})
+     * @param oldValue Valor anterior
+     * @param newValue Valor nuevo
+     * @throws IllegalArgumentException si el tipo lleva instantánea
+     */
+    public void logCellChange(GameEventType type, int cell, int oldValue, int newValue) {
+        if (type.hasSnapshot()) {
+            throw new IllegalArgumentException("El evento " + type + " necesita una instantánea");
+        }
+        enqueue(GameEvent.cellChange(type, System.currentTimeMillis(), cell, oldValue, newValue));
+    }
+
+    /**
+     * Obtiene el número de eventos descartados porque la cola estaba llena o el diario cerrado.
+     *
+     * @return Número de eventos descartados
+     */
+    public long getDroppedCount() {
+        return droppedEvents.get();
+    }
+
+    /**
+     * Obtiene el archivo del diario.
+     *
+     * @return Ruta del archivo
+     */
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Escribe los eventos pendientes, detiene el hilo escritor y cierra el archivo.
+     *
+     * @throws IOException si no se puede cerrar el archivo
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            queue.put(END);
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void enqueue(GameEvent event) {
+        if (closed || !queue.offer(event)) {
+            drop(1);
+        }
+    }
+
+    /**
+     * Bucle del hilo escritor: espera un evento, toma además todos los que ya estén en
+     * la cola y los escribe y fuerza al disco juntos.
+     */
+    private void writeLoop() {
+        List<GameEvent> batch = new ArrayList<>(MAX_BATCH);
+        boolean running = true;
+        while (running) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                break;
+            }
+            queue.drainTo(batch, MAX_BATCH - 1);
+            running = !batch.remove(END);
+            if (!failed && !batch.isEmpty()) {
+                try {
+                    writeBatch(batch);
+                } catch (IOException e) {
+                    // Se deja de escribir para no dejar registros a medias detrás de uno incompleto
+                    System.err.println("No se pudo escribir el diario " + path + ": " + e.getMessage());
+                    WRITE_FAILURES.increment();
+                    failed = true;
+                }
+            }
+            if (failed) {
+                drop(batch.size());
+            }
+            batch.clear();
+        }
+    }
+
+    /**
+     * Escribe un lote y lo fuerza al disco. Cada instantánea del lote empieza un segmento
+     * nuevo, salvo que el segmento en curso esté vacío.
+     */
+    private void writeBatch(List<GameEvent> batch) throws IOException {
+        int start = 0;
+        while (start < batch.size()) {
+            int end = start + 1;
+            while (end < batch.size() && !batch.get(end).getType().hasSnapshot()) {
+                end++;
+            }
+            if (batch.get(start).getType().hasSnapshot() && channel.size() > 0) {
+                startSegment();
+            }
+            ByteBuffer buffer = encodeBatch(batch.subList(start, end));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            start = end;
+        }
+        channel.force(false);
+    }
+
+    /**
+     * Archiva el segmento en curso con el siguiente número y abre uno vacío en su lugar.
+     * Si el proceso se interrumpe entre los dos pasos, al abrir el diario el segmento en
+     * curso queda vacío y la partida se recupera del guardado normal.
+     */
+    private void startSegment() throws IOException {
+        channel.force(false);
+        // Algunos sistemas no permiten renombrar un archivo abierto; nunca se reemplaza un segmento archivado
+        channel.close();
+        Path archived = path.resolveSibling(path.getFileName() + "." + nextSegment);
+        try {
+            Files.move(path, archived);
+            nextSegment++;
+        } finally {
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            channel.position(channel.size());
+        }
+    }
+
+    private void drop(int count) {
+        droppedEvents.addAndGet(count);
+        DROPPED_EVENTS.add(count);
+    }
+
+    private static ByteBuffer encodeBatch(List<GameEvent> batch) {
+        List<ByteBuffer> payloads = new ArrayList<>(batch.size());
+        int total = 0;
+        for (GameEvent event : batch) {
+            ByteBuffer payload;
+            if (event.getType().hasSnapshot()) {
+                payload = GameSaveStore.encode(event.getSnapshot());
+            } else {
+                payload = ByteBuffer.allocate(CELL_CHANGE_BYTES);
+                payload.putShort((short) event.getCell()).put((byte) event.getOldValue()).put((byte) event.getNewValue());
+                payload.flip();
+            }
+            payloads.add(payload);
+            total += FRAME_OVERHEAD + payload.remaining();
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(total);
+        CRC32 crc = new CRC32();
+        for (int i = 0; i < batch.size(); i++) {
+            GameEvent event = batch.get(i);
+            ByteBuffer payload = payloads.get(i);
+            buffer.putInt(payload.remaining());
+            int start = buffer.position();
+            buffer.put((byte) event.getType().getCode()).putLong(event.getTimestampMillis()).put(payload);
+            crc.reset();
+            crc.update(buffer.array(), start, buffer.position() - start);
+            buffer.putInt((int) crc.getValue());
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Lee los registros válidos desde el principio del archivo, de uno en uno, sin cargar el
+     * archivo entero en memoria.
+     *
+     * @return Longitud en bytes de la parte válida del archivo
+     */
+    private static long readEvents(FileChannel channel, List<GameEvent> events, Path path) throws IOException {
+        long size = channel.size();
+        channel.position(0);
+        // No se cierra: cerrarlo cerraría también el canal, que sigue abierto para anexar
+        DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel), READ_BUFFER_BYTES));
+        CRC32 crc = new CRC32();
+        long valid = 0;
+        while (size - valid >= FRAME_OVERHEAD) {
+            int length = in.readInt();
+            if (length < 0 || length > size - valid - FRAME_OVERHEAD) {
+                break;
+            }
+            byte[] record = new byte[HEADER_BYTES + length];
+            in.readFully(record);
+            crc.reset();
+            crc.update(record);
+            if (in.readInt() != (int) crc.getValue()) {
+                break;
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(record);
+            GameEventType type = GameEventType.fromCode(buffer.get());
+            if (type == null) {
+                break;
+            }
+            long timestamp = buffer.getLong();
+            if (type.hasSnapshot()) {
+                byte[] bytes = Arrays.copyOfRange(record, HEADER_BYTES, record.length);
+                events.add(GameEvent.snapshot(type, timestamp, GameSaveStore.decode(ByteBuffer.wrap(bytes), path)));
+            } else if (length == CELL_CHANGE_BYTES) {
+                events.add(GameEvent.cellChange(type, timestamp, buffer.getShort(), buffer.get(), buffer.get()));
+            } else {
+                break;
+            }
+            valid += FRAME_OVERHEAD + length;
+        }
+        return valid;
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.sudoku_game.persistence;
+
+/**
+ * Un evento del diario de partidas: su tipo, el momento en que ocurrió y, según el tipo,
+ * el cambio de una celda o una instantánea completa del tablero.
+ *
+ * @author Juan Pablo Escamilla
+ */
+public final class GameEvent {
+    private final GameEventType type;
+    private final long timestampMillis;
+    private final int cell;
+    private final int oldValue;
+    private final int newValue;
+    private final SavedGame snapshot;
+
+    private GameEvent(GameEventType type, long timestampMillis, int cell, int oldValue, int newValue, SavedGame snapshot) {
+        this.type = type;
+        this.timestampMillis = timestampMillis;
+        this.cell = cell;
+        this.oldValue = oldValue;
+        this.newValue = newValue;
+        this.snapshot = snapshot;
+    }
+
+    /**
+     * Crea un evento que cambia el valor de una celda.
+     *
+     * @param type Tipo del evento (jugada, pista, deshacer o rehacer)
+     * @param timestampMillis Momento del evento, en milisegundos desde la época
+     * @param cell Índice de la celda ({@code fila * n + columna})
+     * @param oldValue Valor anterior
+     * @param newValue Valor nuevo
+     * @return El evento
+     */
+    static GameEvent cellChange(GameEventType type, long timestampMillis, int cell, int oldValue, int newValue) {
+        return new GameEvent(type, timestampMillis, cell, oldValue, newValue, null);
+    }
+
+    /**
+     * Crea un evento con una instantánea del tablero.
+     *
+     * @param type Tipo del evento (juego nuevo o reanudación)
+     * @param timestampMillis Momento del evento, en milisegundos desde la época
+     * @param snapshot Estado del tablero
+     * @return El evento
+     */
+    static GameEvent snapshot(GameEventType type, long timestampMillis, SavedGame snapshot) {
+        return new GameEvent(type, timestampMillis, -1, 0, 0, snapshot);
+    }
+
+    /**
+     * Obtiene el tipo del evento.
+     *
+     * @return Tipo del evento
+     */
+    public GameEventType getType() {
+        return type;
+    }
+
+    /**
+     * Obtiene el momento en que ocurrió el evento.
+     *
+     * @return Milisegundos desde la época
+     */
+    public long getTimestampMillis() {
+        return timestampMillis;
+    }
+
+    /**
+     * Obtiene la celda que cambió.
+     *
+     * @return Índice de la celda, o -1 si el evento lleva una instantánea
+     */
+    public int getCell() {
+        return cell;
+    }
+
+    /**
+     * Obtiene el valor de la celda antes del evento.
+     *
+     * @return Valor anterior
+     */
+    public int getOldValue() {
+        return oldValue;
+    }
+
+    /**
+     * Obtiene el valor de la celda después del evento.
+     *
+     * @return Valor nuevo
+     */
+    public int getNewValue() {
+        return newValue;
+    }
+
+    /**
+     * Obtiene la instantánea del tablero.
+     *
+     * @return Estado del tablero, o {@code null} si el evento es un cambio de celda
+     */
+    public SavedGame getSnapshot() {
+        return snapshot;
+    }
+
+    @Override
+    public String toString() {
+        return type.hasSnapshot()
+                ? type + "@" + timestampMillis
+                : type + "@" + timestampMillis + "{celda=" + cell + ", " + oldValue + "->" + newValue + "}";
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.sudoku_game.persistence;
+
+/**
+ * Tipos de evento que registra el {@link EventJournal}.
+ * Cada tipo tiene un código fijo, que es el que se escribe en el diario, así que
+ * los tipos nuevos deben usar códigos nuevos en lugar de reordenar los existentes.
+ *
+ * @author Juan Pablo Escamilla
+ */
+public enum GameEventType {
+    /** Empieza un juego nuevo; lleva una instantánea del tablero inicial */
+    NEW_GAME(1, true),
+
+    /** Se reanuda una partida guardada; lleva una instantánea del tablero */
+    RESUME(2, true),
+
+    /** El jugador pone o borra un valor */
+    MOVE(3, false),
+
+    /** Una pista pone un valor */
+    HINT(4, false),
+
+    /** Se deshace una jugada */
+    UNDO(5, false),
+
+    /** Se rehace una jugada */
+    REDO(6, false);
+
+    private final int code;
+    private final boolean snapshot;
+
+    GameEventType(int code, boolean snapshot) {
+        this.code = code;
+        this.snapshot = snapshot;
+    }
+
+    /**
+     * Obtiene el código con el que se escribe el tipo en el diario.
+     *
+     * @return Código del tipo
+     */
+    public int getCode() {
+        return code;
+    }
+
+    /**
+     * Indica si los eventos de este tipo llevan una instantánea completa del tablero
+     * en lugar del cambio de una celda.
+     *
+     * @return {@code true} si el evento lleva una instantánea
+     */
+    public boolean hasSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Obtiene el tipo correspondiente a un código.
+     *
+     * @param code Código leído del diario
+     * @return El tipo, o {@code null} si el código no corresponde a ningún tipo
+     */
+    public static GameEventType fromCode(int code) {
+        for (GameEventType type : values()) {
+            if (type.code == code) {
+                return type;
+            }
+        }
+        return null;
+    }
+}
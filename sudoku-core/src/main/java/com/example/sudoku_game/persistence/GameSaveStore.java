@@ -0,0 +1,244 @@
+package com.example.sudoku_game.persistence;
+
+import com.example.sudoku_game.models.BoardGeometry;
+import com.example.sudoku_game.models.PackedBoard;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * Ranura de guardado de una partida en un archivo binario compacto.
+ * Formato (big-endian), versión 1:
+ * <pre>
+ *   int   MAGIC ("SDSV")
+ *   short versión
+ *   byte  alto de caja, byte ancho de caja
+ *   long  tiempo transcurrido en milisegundos
+ *   byte  valor de cada celda (n * n)
+ *   byte  solución de cada celda (n * n)
+ *   bits  celdas bloqueadas, luego celdas resaltadas ((n * n + 7) / 8 bytes cada uno)
+ *   int   CRC32 de todo lo anterior
+ * </pre>
+ * Un tablero de 6x6 ocupa 102 bytes. La partida se escribe en un archivo temporal del
+ * mismo directorio, se fuerza al disco y se renombra de forma atómica sobre la ranura,
+ * así que si el proceso se interrumpe a mitad del guardado la partida anterior queda intacta.
+ *
+ * @author Juan Pablo Escamilla
+ */
+public class GameSaveStore {
+    private static final int MAGIC = 0x53445356;
+    private static final short VERSION = 1;
+
+    /** Tamaño de la cabecera: magic, versión, dimensiones de caja y tiempo */
+    private static final int HEADER_BYTES = 4 + 2 + 2 + 8;
+
+    private final Path path;
+
+    /**
+     * Crea la ranura de guardado en un archivo.
+     *
+     * @param path Archivo de la ranura
+     */
+    public GameSaveStore(Path path) {
+        this.path = path;
+    }
+
+    /**
+     * Obtiene la ranura de guardado predeterminada para una geometría, en el directorio
+     * {@code .sudoku_game} del usuario.
+     *
+     * @param geometry Geometría del tablero
+     * @return La ranura de guardado de esa geometría
+     */
+    public static GameSaveStore defaultSlot(BoardGeometry geometry) {
+        String name = "partida-" + geometry.getBoxHeight() + "x" + geometry.getBoxWidth() + ".sav";
+        return new GameSaveStore(Path.of(System.getProperty("user.home"), ".sudoku_game", name));
+    }
+
+    /**
+     * Obtiene el archivo de la ranura.
+     *
+     * @return Ruta del archivo
+     */
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Indica si hay una partida guardada en la ranura.
+     *
+     * @return {@code true} si el archivo existe
+     */
+    public boolean exists() {
+        return Files.exists(path);
+    }
+
+    /**
+     * Guarda una partida en la ranura, reemplazando la anterior de forma atómica.
+     *
+     * @param game Partida a guardar
+     * @throws IOException si no se puede escribir el archivo
+     */
+    public void save(SavedGame game) throws IOException {
+        ByteBuffer buffer = encode(game);
+        Path directory = path.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true);
+            }
+            try {
+                Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Lee la partida guardada en la ranura.
+     *
+     * @return La partida, o {@code null} si la ranura está vacía
+     * @throws IOException si el archivo no se puede leer, está dañado o no tiene el formato esperado
+     */
+    public SavedGame load() throws IOException {
+        if (!Files.exists(path)) {
+            return null;
+        }
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES + 4 || size > 1 << 16) {
+                throw new IOException("Tamaño de partida inesperado: " + size + " bytes");
+            }
+            buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) < 0) {
+                    throw new IOException("La partida " + path + " está incompleta");
+                }
+            }
+        }
+        buffer.flip();
+        return decode(buffer, path);
+    }
+
+    /**
+     * Borra la partida guardada, si la hay.
+     *
+     * @throws IOException si no se puede borrar el archivo
+     */
+    public void delete() throws IOException {
+        Files.deleteIfExists(path);
+    }
+
+    /**
+     * Codifica una partida en el formato de la ranura.
+     * También lo usa {@link EventJournal} para las instantáneas del tablero.
+     *
+     * @param game Partida a codificar
+     * @return Búfer listo para leer, respaldado por un arreglo que empieza en la posición 0
+     */
+    static ByteBuffer encode(SavedGame game) {
+        BoardGeometry geometry = game.getGeometry();
+        PackedBoard board = game.getBoard();
+        int[][] solution = game.getSolution();
+        int size = geometry.getSize();
+        int cells = geometry.getCellCount();
+        int flagBytes = (cells + 7) / 8;
+
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + 2 * cells + 2 * flagBytes + 4);
+        buffer.putInt(MAGIC).putShort(VERSION)
+                .put((byte) geometry.getBoxHeight()).put((byte) geometry.getBoxWidth())
+                .putLong(game.getElapsedMillis());
+        for (int cell = 0; cell < cells; cell++) {
+            buffer.put((byte) board.getValue(cell / size, cell % size));
+        }
+        for (int cell = 0; cell < cells; cell++) {
+            buffer.put((byte) solution[cell / size][cell % size]);
+        }
+        byte[] locked = new byte[flagBytes];
+        byte[] highlighted = new byte[flagBytes];
+        for (int cell = 0; cell < cells; cell++) {
+            if (board.isLocked(cell / size, cell % size)) {
+                locked[cell >>> 3] |= (byte) (1 << (cell & 7));
+            }
+            if (board.isHighlighted(cell / size, cell % size)) {
+                highlighted[cell >>> 3] |= (byte) (1 << (cell & 7));
+            }
+        }
+        buffer.put(locked).put(highlighted);
+
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), 0, buffer.position());
+        buffer.putInt((int) crc.getValue());
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Decodifica una partida codificada con {@link #encode(SavedGame)}.
+     *
+     * @param buffer Búfer respaldado por un arreglo que empieza en la posición 0
+     * @param source Origen de los datos, para los mensajes de error
+     * @return La partida
+     * @throws IOException si los datos están dañados o no tienen el formato esperado
+     */
+    static SavedGame decode(ByteBuffer buffer, Object source) throws IOException {
+        int end = buffer.limit() - 4;
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), 0, end);
+        if (buffer.getInt(end) != (int) crc.getValue()) {
+            throw new IOException("La partida " + source + " está dañada (CRC incorrecto)");
+        }
+        if (buffer.getInt() != MAGIC) {
+            throw new IOException("El archivo " + source + " no es una partida guardada");
+        }
+        short version = buffer.getShort();
+        if (version != VERSION) {
+            throw new IOException("Versión de partida no soportada: " + version);
+        }
+        BoardGeometry geometry;
+        try {
+            geometry = new BoardGeometry(buffer.get(), buffer.get());
+        } catch (IllegalArgumentException e) {
+            throw new IOException("La partida " + source + " tiene una geometría no válida", e);
+        }
+        long elapsedMillis = buffer.getLong();
+        int size = geometry.getSize();
+        int cells = geometry.getCellCount();
+        int flagBytes = (cells + 7) / 8;
+        if (end != HEADER_BYTES + 2 * cells + 2 * flagBytes) {
+            throw new IOException("Tamaño de partida inesperado para un tablero de " + geometry);
+        }
+
+        PackedBoard board = new PackedBoard(geometry);
+        int[][] solution = new int[size][size];
+        for (int cell = 0; cell < cells; cell++) {
+            board.setValue(cell / size, cell % size, buffer.get());
+        }
+        for (int cell = 0; cell < cells; cell++) {
+            solution[cell / size][cell % size] = buffer.get();
+        }
+        int lockedStart = buffer.position();
+        int highlightedStart = lockedStart + flagBytes;
+        for (int cell = 0; cell < cells; cell++) {
+            int bit = 1 << (cell & 7);
+            board.setLocked(cell / size, cell % size, (buffer.get(lockedStart + (cell >>> 3)) & bit) != 0);
+            board.setHighlighted(cell / size, cell % size, (buffer.get(highlightedStart + (cell >>> 3)) & bit) != 0);
+        }
+        return new SavedGame(board, solution, elapsedMillis);
+    }
+}
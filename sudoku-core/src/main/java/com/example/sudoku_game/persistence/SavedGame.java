@@ -0,0 +1,96 @@
+package com.example.sudoku_game.persistence;
+
+import com.example.sudoku_game.models.BoardGeometry;
+import com.example.sudoku_game.models.BoardModel;
+import com.example.sudoku_game.models.PackedBoard;
+
+/**
+ * Estado de una partida guardada: el tablero (valores, celdas bloqueadas y pistas
+ * resaltadas), la solución del puzzle y el tiempo de juego transcurrido.
+ * Con estos datos la partida se reanuda sin volver a generar ni resolver el puzzle.
+ *
+ * @author Juan Pablo Escamilla
+ */
+public final class SavedGame {
+    private final PackedBoard board;
+    private final int[][] solution;
+    private final long elapsedMillis;
+
+    /**
+     * Crea el estado de una partida.
+     *
+     * @param board Tablero con los valores y las marcas de cada celda
+     * @param solution Solución del puzzle, indexada por {@code [fila][columna]}
+     * @param elapsedMillis Tiempo de juego transcurrido, en milisegundos
+     * @throws IllegalArgumentException si falta la solución o no tiene el tamaño del tablero
+     */
+    public SavedGame(PackedBoard board, int[][] solution, long elapsedMillis) {
+        if (solution == null || solution.length != board.getGeometry().getSize()) {
+            throw new IllegalArgumentException("La solución no tiene el tamaño del tablero " + board.getGeometry());
+        }
+        this.board = board;
+        this.solution = solution;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    /**
+     * Toma el estado actual de un tablero.
+     *
+     * @param model Tablero a guardar
+     * @param elapsedMillis Tiempo de juego transcurrido, en milisegundos
+     * @return El estado de la partida
+     * @throws IllegalStateException si el tablero todavía no tiene un puzzle cargado
+     */
+    public static SavedGame of(BoardModel model, long elapsedMillis) {
+        if (model.getSolution() == null) {
+            throw new IllegalStateException("No hay partida que guardar: el tablero no tiene un puzzle cargado");
+        }
+        return new SavedGame(model.toPackedBoard(), model.getSolution(), elapsedMillis);
+    }
+
+    /**
+     * Carga este estado en un tablero.
+     *
+     * @param model Tablero en el que se reanuda la partida
+     * @throws IllegalArgumentException si la geometría del tablero no coincide
+     */
+    public void restoreInto(BoardModel model) {
+        model.loadPackedBoard(board, solution);
+    }
+
+    /**
+     * Obtiene la geometría del tablero guardado.
+     *
+     * @return El descriptor con el tamaño del tablero y las dimensiones de sus cajas
+     */
+    public BoardGeometry getGeometry() {
+        return board.getGeometry();
+    }
+
+    /**
+     * Obtiene el tablero guardado.
+     *
+     * @return Tablero con los valores y las marcas de cada celda
+     */
+    public PackedBoard getBoard() {
+        return board;
+    }
+
+    /**
+     * Obtiene la solución del puzzle.
+     *
+     * @return Solución indexada por {@code [fila][columna]}
+     */
+    public int[][] getSolution() {
+        return solution;
+    }
+
+    /**
+     * Obtiene el tiempo de juego transcurrido.
+     *
+     * @return Tiempo en milisegundos
+     */
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+}
@@ -0,0 +1,308 @@
+package com.example.sudoku_game.session;
+
+import com.example.sudoku_game.generator.PuzzleRecord;
+import com.example.sudoku_game.models.BoardGeometry;
+import com.example.sudoku_game.models.MoveJournal;
+import com.example.sudoku_game.solver.CandidateGrid;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Estado de una partida alojada en un {@link SessionManager}.
+ * A diferencia de {@link com.example.sudoku_game.models.BoardModel}, no crea un objeto por
+ * celda ni un generador propio: los valores son un arreglo de bytes recorrido por filas, las
+ * pistas fijas un conjunto de bits y el historial un {@link MoveJournal}, que no reserva
+ * memoria hasta la primera jugada. La solución se comparte con el {@link PuzzleRecord} del
+ * que salió la partida, que nadie modifica. Una partida de 9x9 recién creada ocupa así unos
+ * pocos cientos de bytes.
+ * <p>
+ * Esta clase no es segura entre hilos: el {@link SessionManager} solo la usa con el cerrojo
+ * del fragmento que la contiene.
+ *
+ * @author Juan Pablo Escamilla
+ */
+final class GameSession {
+    private final BoardGeometry geometry;
+    private final byte[] values;
+    private final byte[] solution;
+    private final long[] locked;
+    private MoveJournal journal;
+
+    /** Celdas cuyo valor no coincide con la solución; la partida está resuelta cuando llega a 0 */
+    private int mismatches;
+
+    /** Momento del último uso, según {@link System#nanoTime()} */
+    private long lastAccess;
+
+    private GameSession(BoardGeometry geometry, byte[] values, byte[] solution, long[] locked) {
+        this.geometry = geometry;
+        this.values = values;
+        this.solution = solution;
+        this.locked = locked;
+        for (int cell = 0; cell < values.length; cell++) {
+            if (values[cell] != solution[cell]) {
+                mismatches++;
+            }
+        }
+    }
+
+    /**
+     * Crea una partida con un puzzle, cuyas celdas llenas quedan fijas.
+     *
+     * @param puzzle Puzzle y solución de la partida
+     * @return La partida nueva
+     */
+    static GameSession of(PuzzleRecord puzzle) {
+        BoardGeometry geometry = puzzle.getGeometry();
+        byte[] values = puzzle.getPuzzle().clone();
+        long[] locked = new long[(values.length + Long.SIZE - 1) / Long.SIZE];
+        for (int cell = 0; cell < values.length; cell++) {
+            if (values[cell] != 0) {
+                locked[cell >>> 6] |= 1L << cell;
+            }
+        }
+        return new GameSession(geometry, values, puzzle.getSolution(), locked);
+    }
+
+    /**
+     * Escribe un valor en una celda y lo registra en el historial.
+     *
+     * @param row Fila de la celda
+     * @param col Columna de la celda
+     * @param value Valor nuevo, o 0 para vaciar la celda
+     * @return Resultado de la jugada
+     * @throws IllegalArgumentException si la celda o el valor están fuera del tablero
+     */
+    MoveResult play(int row, int col, int value) {
+        int size = geometry.getSize();
+        if (row < 0 || row >= size || col < 0 || col >= size) {
+            throw new IllegalArgumentException("Celda fuera del tablero: (" + row + ", " + col + ")");
+        }
+        if (value < 0 || value > size) {
+            throw new IllegalArgumentException("Valor fuera de rango: " + value);
+        }
+        int cell = row * size + col;
+        if (isLocked(cell)) {
+            return MoveResult.LOCKED;
+        }
+        int oldValue = values[cell];
+        if (oldValue != value) {
+            if (journal == null) {
+                journal = new MoveJournal();
+            }
+            journal.record(cell, oldValue, value);
+            setValue(cell, value);
+        }
+        if (mismatches == 0) {
+            return MoveResult.SOLVED;
+        }
+        return value != 0 && hasConflict(cell) ? MoveResult.CONFLICT : MoveResult.PLACED;
+    }
+
+    /**
+     * Deshace la última jugada aplicada.
+     *
+     * @return {@code true} si había una jugada que deshacer
+     */
+    boolean undo() {
+        if (journal == null || !journal.canUndo()) {
+            return false;
+        }
+        int entry = journal.undo();
+        setValue(MoveJournal.cellOf(entry), MoveJournal.oldValueOf(entry));
+        return true;
+    }
+
+    /**
+     * Vuelve a aplicar la última jugada deshecha.
+     *
+     * @return {@code true} si había una jugada que rehacer
+     */
+    boolean redo() {
+        if (journal == null || !journal.canRedo()) {
+            return false;
+        }
+        int entry = journal.redo();
+        setValue(MoveJournal.cellOf(entry), MoveJournal.newValueOf(entry));
+        return true;
+    }
+
+    /**
+     * Obtiene los candidatos del tablero actual, para buscar una pista fuera del cerrojo.
+     *
+     * @return Candidatos independientes de la partida
+     */
+    CandidateGrid candidates() {
+        return CandidateGrid.of(values, geometry);
+    }
+
+    /**
+     * Obtiene una copia de los valores del tablero.
+     *
+     * @return Valores recorridos por filas, con 0 en las celdas vacías
+     */
+    byte[] getValues() {
+        return values.clone();
+    }
+
+    BoardGeometry getGeometry() {
+        return geometry;
+    }
+
+    boolean isSolved() {
+        return mismatches == 0;
+    }
+
+    long getLastAccess() {
+        return lastAccess;
+    }
+
+    void touch(long now) {
+        lastAccess = now;
+    }
+
+    private boolean isLocked(int cell) {
+        return (locked[cell >>> 6] & (1L << cell)) != 0;
+    }
+
+    private void setValue(int cell, int value) {
+        int oldValue = values[cell];
+        if (oldValue == solution[cell]) {
+            mismatches++;
+        }
+        values[cell] = (byte) value;
+        if (value == solution[cell]) {
+            mismatches--;
+        }
+    }
+
+    /**
+     * Indica si el valor de una celda se repite en su fila, columna o caja.
+     */
+    private boolean hasConflict(int cell) {
+        int size = geometry.getSize();
+        int row = cell / size;
+        int col = cell % size;
+        byte value = values[cell];
+        for (int i = 0; i < size; i++) {
+            if ((i != col && values[row * size + i] == value) || (i != row && values[i * size + col] == value)) {
+                return true;
+            }
+        }
+        int box = geometry.getBoxIndex(row, col);
+        int rowStart = geometry.getBoxRowStart(box);
+        int colStart = geometry.getBoxColStart(box);
+        for (int r = rowStart; r < rowStart + geometry.getBoxHeight(); r++) {
+            for (int c = colStart; c < colStart + geometry.getBoxWidth(); c++) {
+                if ((r != row || c != col) && values[r * size + c] == value) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Codifica la partida en la forma compacta con la que se guardan las partidas inactivas:
+     * dimensiones de caja, valores, solución, bits de pistas fijas y el historial de jugadas.
+     * En tableros de hasta 15x15 cada dígito ocupa medio byte, así que una partida de 9x9
+     * sin jugadas ocupa 103 bytes, más 4 por cada jugada del historial.
+     *
+     * @return Bytes de la partida
+     */
+    byte[] encode() {
+        int cells = values.length;
+        int digitBytes = digitBytes(geometry);
+        int moves = journal == null ? 0 : journal.getSize();
+        ByteBuffer buffer = ByteBuffer.allocate(2 + 2 * digitBytes + (cells + 7) / 8 + 8 + 4 * moves);
+        buffer.put((byte) geometry.getBoxHeight()).put((byte) geometry.getBoxWidth());
+        putDigits(buffer, values, digitBytes);
+        putDigits(buffer, solution, digitBytes);
+        byte[] lockedBytes = new byte[(cells + 7) / 8];
+        for (int cell = 0; cell < cells; cell++) {
+            if (isLocked(cell)) {
+                lockedBytes[cell >>> 3] |= (byte) (1 << (cell & 7));
+            }
+        }
+        buffer.put(lockedBytes);
+        buffer.putInt(moves).putInt(journal == null ? 0 : journal.getPosition());
+        for (int move = 0; move < moves; move++) {
+            buffer.putInt(journal.get(move));
+        }
+        return buffer.array();
+    }
+
+    /**
+     * Reconstruye una partida codificada con {@link #encode()}.
+     *
+     * @param data Bytes de la partida
+     * @return La partida, con el mismo tablero e historial
+     */
+    static GameSession decode(byte[] data) {
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        BoardGeometry geometry = new BoardGeometry(buffer.get(), buffer.get());
+        int cells = geometry.getCellCount();
+        int digitBytes = digitBytes(geometry);
+        byte[] values = getDigits(buffer, cells, digitBytes);
+        byte[] solution = getDigits(buffer, cells, digitBytes);
+        long[] locked = new long[(cells + Long.SIZE - 1) / Long.SIZE];
+        int lockedStart = buffer.position();
+        for (int cell = 0; cell < cells; cell++) {
+            if ((buffer.get(lockedStart + (cell >>> 3)) & (1 << (cell & 7))) != 0) {
+                locked[cell >>> 6] |= 1L << cell;
+            }
+        }
+        buffer.position(lockedStart + (cells + 7) / 8);
+
+        GameSession session = new GameSession(geometry, values, solution, locked);
+        int moves = buffer.getInt();
+        int position = buffer.getInt();
+        if (moves > 0) {
+            session.journal = new MoveJournal();
+            for (int move = 0; move < moves; move++) {
+                int entry = buffer.getInt();
+                session.journal.record(MoveJournal.cellOf(entry), MoveJournal.oldValueOf(entry), MoveJournal.newValueOf(entry));
+            }
+            for (int move = moves; move > position; move--) {
+                session.journal.undo();
+            }
+        }
+        return session;
+    }
+
+    /**
+     * Bytes que ocupan los dígitos de un tablero codificado: medio byte por celda si el
+     * mayor dígito cabe en 4 bits, o un byte por celda si no.
+     */
+    private static int digitBytes(BoardGeometry geometry) {
+        int cells = geometry.getCellCount();
+        return geometry.getSize() < 16 ? (cells + 1) / 2 : cells;
+    }
+
+    private static void putDigits(ByteBuffer buffer, byte[] digits, int digitBytes) {
+        if (digitBytes == digits.length) {
+            buffer.put(digits);
+            return;
+        }
+        for (int cell = 0; cell < digits.length; cell += 2) {
+            int high = cell + 1 < digits.length ? digits[cell + 1] : 0;
+            buffer.put((byte) (digits[cell] | (high << 4)));
+        }
+    }
+
+    private static byte[] getDigits(ByteBuffer buffer, int cells, int digitBytes) {
+        byte[] digits = new byte[cells];
+        if (digitBytes == cells) {
+            buffer.get(digits);
+            return digits;
+        }
+        for (int cell = 0; cell < cells; cell += 2) {
+            int packed = buffer.get();
+            digits[cell] = (byte) (packed & 0xF);
+            if (cell + 1 < cells) {
+                digits[cell + 1] = (byte) ((packed >>> 4) & 0xF);
+            }
+        }
+        return digits;
+    }
+}
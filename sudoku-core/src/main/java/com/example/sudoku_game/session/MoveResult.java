@@ -0,0 +1,20 @@
+package com.example.sudoku_game.session;
+
+/**
+ * Resultado de aplicar una jugada en una partida de {@link SessionManager}.
+ *
+ * @author Juan Pablo Escamilla
+ */
+public enum MoveResult {
+    /** La celda es una pista fija del puzzle y no se modificó */
+    LOCKED,
+
+    /** El valor se escribió y no se repite en su fila, columna ni caja */
+    PLACED,
+
+    /** El valor se escribió, pero se repite en su fila, columna o caja */
+    CONFLICT,
+
+    /** El valor se escribió y el tablero quedó igual a la solución */
+    SOLVED
+}
@@ -0,0 +1,412 @@
+package com.example.sudoku_game.session;
+
+import com.example.sudoku_game.generator.PuzzlePool;
+import com.example.sudoku_game.generator.PuzzleRecord;
+import com.example.sudoku_game.models.BoardGeometry;
+import com.example.sudoku_game.solver.CandidateGrid;
+import com.example.sudoku_game.solver.LogicalSolver;
+import com.example.sudoku_game.solver.Step;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Aloja muchas partidas independientes en un mismo proceso, para quioscos y para el
+ * servicio web. Cada partida es un {@link GameSession} de pocos cientos de bytes,
+ * identificado por un número aleatorio difícil de adivinar.
+ * <p>
+ * Las partidas se reparten en {@value #SHARDS} fragmentos según su identificador, cada uno
+ * con su propio mapa y su propio cerrojo, así que las jugadas sobre partidas de fragmentos
+ * distintos no compiten entre sí. Los cerrojos son {@link ReentrantLock} y no bloques
+ * {@code synchronized}, que en Java 21 fijan el hilo virtual a su hilo portador mientras
+ * esperan: el gestor está pensado para atender cada petición en su propio hilo virtual.
+ * <p>
+ * Las partidas que no se usan durante el tiempo de inactividad se desalojan a su forma
+ * codificada ({@link GameSession#encode()}), que no crea objetos por partida más allá de un
+ * arreglo de bytes, y se reconstruyen de forma transparente la siguiente vez que se usan.
+ * Las partidas desalojadas que siguen sin usarse hasta el tiempo de caducidad, mucho más largo,
+ * se descartan, para que las partidas abandonadas no ocupen memoria para siempre.
+ * Un hilo virtual en segundo plano revisa las partidas inactivas cada medio tiempo de inactividad.
+ *
+ * @author Juan Pablo Escamilla
+ */
+public class SessionManager implements AutoCloseable {
+    /** Número de fragmentos; potencia de dos para elegir el fragmento con una máscara */
+    private static final int SHARDS = 64;
+
+    /** Tiempo de inactividad por defecto antes de desalojar una partida */
+    public static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(5);
+
+    /** Tiempo sin usar una partida por defecto antes de descartarla */
+    public static final Duration DEFAULT_EXPIRY_TIMEOUT = Duration.ofDays(1);
+
+    private final Shard[] shards = new Shard[SHARDS];
+    private final SecureRandom idGenerator = new SecureRandom();
+    private final long idleTimeoutNanos;
+    private final long expiryTimeoutNanos;
+    private final Thread evictor;
+
+    /**
+     * Crea un gestor con los tiempos de inactividad y de caducidad por defecto.
+     */
+    public SessionManager() {
+        this(DEFAULT_IDLE_TIMEOUT);
+    }
+
+    /**
+     * Crea un gestor con el tiempo de caducidad por defecto, o con el de inactividad si es mayor.
+     *
+     * @param idleTimeout Tiempo sin usar una partida antes de desalojarla
+     */
+    public SessionManager(Duration idleTimeout) {
+        this(idleTimeout, idleTimeout.compareTo(DEFAULT_EXPIRY_TIMEOUT) > 0 ? idleTimeout : DEFAULT_EXPIRY_TIMEOUT);
+    }
+
+    /**
+     * Crea un gestor y arranca la revisión periódica de partidas inactivas.
+     *
+     * @param idleTimeout Tiempo sin usar una partida antes de desalojarla
+     * @param expiryTimeout Tiempo sin usar una partida antes de descartarla
+     * @throws IllegalArgumentException si la caducidad es menor que la inactividad
+     */
+    public SessionManager(Duration idleTimeout, Duration expiryTimeout) {
+        if (expiryTimeout.compareTo(idleTimeout) < 0) {
+            throw new IllegalArgumentException("La caducidad (" + expiryTimeout + ") es menor que la inactividad (" + idleTimeout + ")");
+        }
+        for (int i = 0; i < SHARDS; i++) {
+            shards[i] = new Shard();
+        }
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        this.expiryTimeoutNanos = expiryTimeout.toNanos();
+        Duration period = idleTimeout.dividedBy(2);
+        this.evictor = Thread.ofVirtual().name("sudoku-session-evictor").start(() -> {
+            try {
+                while (true) {
+                    Thread.sleep(period);
+                    evictIdle();
+                }
+            } catch (InterruptedException e) {
+                // El gestor se cerró
+            }
+        });
+    }
+
+    /**
+     * Empieza una partida con un puzzle de la reserva compartida de la geometría.
+     *
+     * @param geometry Geometría del tablero
+     * @return Identificador de la partida
+     */
+    public long create(BoardGeometry geometry) {
+        return create(PuzzlePool.shared(geometry).take());
+    }
+
+    /**
+     * Empieza una partida con un puzzle dado. Las celdas llenas del puzzle quedan fijas.
+     *
+     * @param puzzle Puzzle y solución de la partida
+     * @return Identificador de la partida
+     */
+    public long create(PuzzleRecord puzzle) {
+        GameSession session = GameSession.of(puzzle);
+        session.touch(System.nanoTime());
+        while (true) {
+            long id = idGenerator.nextLong() & Long.MAX_VALUE;
+            Shard shard = shardOf(id);
+            shard.lock.lock();
+            try {
+                if (!shard.live.containsKey(id) && !shard.evicted.containsKey(id)) {
+                    shard.live.put(id, session);
+                    return id;
+                }
+            } finally {
+                shard.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Escribe un valor en una celda de una partida.
+     *
+     * @param id Identificador de la partida
+     * @param row Fila de la celda
+     * @param col Columna de la celda
+     * @param value Valor nuevo, o 0 para vaciar la celda
+     * @return Resultado de la jugada
+     * @throws NoSuchElementException si la partida no existe
+     * @throws IllegalArgumentException si la celda o el valor están fuera del tablero
+     */
+    public MoveResult play(long id, int row, int col, int value) {
+        Shard shard = shardOf(id);
+        shard.lock.lock();
+        try {
+            return shard.get(id).play(row, col, value);
+        } finally {
+            shard.lock.unlock();
+        }
+    }
+
+    /**
+     * Deshace la última jugada de una partida.
+     *
+     * @param id Identificador de la partida
+     * @return {@code true} si había una jugada que deshacer
+     * @throws NoSuchElementException si la partida no existe
+     */
+    public boolean undo(long id) {
+        Shard shard = shardOf(id);
+        shard.lock.lock();
+        try {
+            return shard.get(id).undo();
+        } finally {
+            shard.lock.unlock();
+        }
+    }
+
+    /**
+     * Vuelve a aplicar la última jugada deshecha de una partida.
+     *
+     * @param id Identificador de la partida
+     * @return {@code true} si había una jugada que rehacer
+     * @throws NoSuchElementException si la partida no existe
+     */
+    public boolean redo(long id) {
+        Shard shard = shardOf(id);
+        shard.lock.lock();
+        try {
+            return shard.get(id).redo();
+        } finally {
+            shard.lock.unlock();
+        }
+    }
+
+    /**
+     * Busca la siguiente colocación forzada por la lógica en una partida, sin aplicarla.
+     * Los candidatos se copian con el cerrojo tomado y la búsqueda se hace después, para
+     * no bloquear el resto del fragmento mientras dura.
+     *
+     * @param id Identificador de la partida
+     * @return La colocación, o {@code null} si las técnicas lógicas no encuentran ninguna
+     * @throws NoSuchElementException si la partida no existe
+     */
+    public Step hint(long id) {
+        CandidateGrid candidates;
+        Shard shard = shardOf(id);
+        shard.lock.lock();
+        try {
+            candidates = shard.get(id).candidates();
+        } finally {
+            shard.lock.unlock();
+        }
+        return new LogicalSolver().advanceToPlacement(candidates);
+    }
+
+    /**
+     * Obtiene los valores actuales del tablero de una partida.
+     *
+     * @param id Identificador de la partida
+     * @return Copia de los valores recorridos por filas, con 0 en las celdas vacías
+     * @throws NoSuchElementException si la partida no existe
+     */
+    public byte[] getValues(long id) {
+        Shard shard = shardOf(id);
+        shard.lock.lock();
+        try {
+            return shard.get(id).getValues();
+        } finally {
+            shard.lock.unlock();
+        }
+    }
+
+    /**
+     * Obtiene la geometría del tablero de una partida.
+     *
+     * @param id Identificador de la partida
+     * @return Geometría del tablero
+     * @throws NoSuchElementException si la partida no existe
+     */
+    public BoardGeometry getGeometry(long id) {
+        Shard shard = shardOf(id);
+        shard.lock.lock();
+        try {
+            return shard.get(id).getGeometry();
+        } finally {
+            shard.lock.unlock();
+        }
+    }
+
+    /**
+     * Indica si el tablero de una partida es igual a su solución.
+     *
+     * @param id Identificador de la partida
+     * @return {@code true} si la partida está resuelta
+     * @throws NoSuchElementException si la partida no existe
+     */
+    public boolean isSolved(long id) {
+        Shard shard = shardOf(id);
+        shard.lock.lock();
+        try {
+            return shard.get(id).isSolved();
+        } finally {
+            shard.lock.unlock();
+        }
+    }
+
+    /**
+     * Termina una partida y libera su memoria.
+     *
+     * @param id Identificador de la partida
+     * @return {@code true} si la partida existía
+     */
+    public boolean remove(long id) {
+        Shard shard = shardOf(id);
+        shard.lock.lock();
+        try {
+            return shard.live.remove(id) != null | shard.evicted.remove(id) != null;
+        } finally {
+            shard.lock.unlock();
+        }
+    }
+
+    /**
+     * Desaloja las partidas que llevan sin usarse al menos el tiempo de inactividad del gestor
+     * y descarta las desalojadas que han caducado.
+     *
+     * @return Número de partidas desalojadas
+     */
+    public int evictIdle() {
+        return evictIdle(Duration.ofNanos(idleTimeoutNanos));
+    }
+
+    /**
+     * Desaloja a su forma codificada las partidas que llevan sin usarse al menos el tiempo indicado,
+     * y descarta las desalojadas que llevan sin usarse al menos el tiempo de caducidad del gestor.
+     * Los fragmentos se recorren de uno en uno, así que el resto sigue atendiendo jugadas.
+     *
+     * @param idleFor Tiempo mínimo sin usar una partida para desalojarla
+     * @return Número de partidas desalojadas
+     */
+    public int evictIdle(Duration idleFor) {
+        long now = System.nanoTime();
+        long idleNanos = idleFor.toNanos();
+        int count = 0;
+        for (Shard shard : shards) {
+            shard.lock.lock();
+            try {
+                Iterator<EvictedSession> expired = shard.evicted.values().iterator();
+                while (expired.hasNext()) {
+                    if (now - expired.next().lastAccess >= expiryTimeoutNanos) {
+                        expired.remove();
+                    }
+                }
+                Iterator<Map.Entry<Long, GameSession>> entries = shard.live.entrySet().iterator();
+                while (entries.hasNext()) {
+                    Map.Entry<Long, GameSession> entry = entries.next();
+                    GameSession session = entry.getValue();
+                    if (now - session.getLastAccess() >= idleNanos) {
+                        shard.evicted.put(entry.getKey(), new EvictedSession(session.encode(), session.getLastAccess()));
+                        entries.remove();
+                        count++;
+                    }
+                }
+            } finally {
+                shard.lock.unlock();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Obtiene el número de partidas en memoria en su forma completa.
+     *
+     * @return Número de partidas activas
+     */
+    public int getLiveCount() {
+        int count = 0;
+        for (Shard shard : shards) {
+            shard.lock.lock();
+            try {
+                count += shard.live.size();
+            } finally {
+                shard.lock.unlock();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Obtiene el número de partidas desalojadas a su forma codificada.
+     *
+     * @return Número de partidas inactivas
+     */
+    public int getEvictedCount() {
+        int count = 0;
+        for (Shard shard : shards) {
+            shard.lock.lock();
+            try {
+                count += shard.evicted.size();
+            } finally {
+                shard.lock.unlock();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Detiene la revisión periódica de partidas inactivas. Las partidas siguen disponibles.
+     */
+    @Override
+    public void close() {
+        evictor.interrupt();
+    }
+
+    private Shard shardOf(long id) {
+        // Mezcla los bits altos con los bajos por si los identificadores no son aleatorios
+        return shards[(int) (id ^ (id >>> 32)) & (SHARDS - 1)];
+    }
+
+    /**
+     * Fragmento de partidas con su cerrojo. Los mapas solo se usan con el cerrojo tomado.
+     */
+    private static final class Shard {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<Long, GameSession> live = new HashMap<>();
+        private final Map<Long, EvictedSession> evicted = new HashMap<>();
+
+        /**
+         * Obtiene una partida, reconstruyéndola si estaba desalojada, y la marca como usada.
+         */
+        GameSession get(long id) {
+            GameSession session = live.get(id);
+            if (session == null) {
+                EvictedSession stored = evicted.remove(id);
+                if (stored == null) {
+                    throw new NoSuchElementException("Partida desconocida: " + id);
+                }
+                session = GameSession.decode(stored.encoded);
+                live.put(id, session);
+            }
+            session.touch(System.nanoTime());
+            return session;
+        }
+    }
+
+    /**
+     * Partida desalojada: su forma codificada y el momento en que se usó por última vez,
+     * según {@link System#nanoTime()}, para saber cuándo caduca.
+     */
+    private static final class EvictedSession {
+        private final byte[] encoded;
+        private final long lastAccess;
+
+        EvictedSession(byte[] encoded, long lastAccess) {
+            this.encoded = encoded;
+            this.lastAccess = lastAccess;
+        }
+    }
+}
@@ -0,0 +1,315 @@
+package com.example.sudoku_game.solver;
+
+import com.example.sudoku_game.models.BoardGeometry;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cuadrícula de candidatos sobre la que trabaja el {@link LogicalSolver}.
+ * Guarda el valor de cada celda y, para las celdas vacías, una máscara de bits con los
+ * dígitos que todavía son posibles (el dígito {@code d} ocupa el bit {@code d - 1}).
+ * Las celdas se numeran por filas ({@code fila * n + columna}) y las unidades como en
+ * el resto del juego: filas {@code [0, n)}, columnas {@code [n, 2n)} y cajas {@code [2n, 3n)}.
+ *
+ * @author Juan Pablo Escamilla
+ */
+public final class CandidateGrid {
+    /** Estructura de unidades y vecinos de cada geometría */
+    private static final Map<BoardGeometry, Layout> LAYOUTS = new ConcurrentHashMap<>();
+
+    private final BoardGeometry geometry;
+    private final Layout layout;
+    private final int[] values;
+    private final int[] candidates;
+    private int filled;
+    private boolean contradiction;
+
+    /**
+     * Crea una cuadrícula vacía, con todos los dígitos posibles en todas las celdas.
+     *
+     * @param geometry Geometría del tablero
+     */
+    public CandidateGrid(BoardGeometry geometry) {
+        this.geometry = geometry;
+        this.layout = LAYOUTS.computeIfAbsent(geometry, Layout::new);
+        this.values = new int[geometry.getCellCount()];
+        this.candidates = new int[geometry.getCellCount()];
+        Arrays.fill(candidates, (1 << geometry.getSize()) - 1);
+    }
+
+    private CandidateGrid(CandidateGrid other) {
+        this.geometry = other.geometry;
+        this.layout = other.layout;
+        this.values = other.values.clone();
+        this.candidates = other.candidates.clone();
+        this.filled = other.filled;
+        this.contradiction = other.contradiction;
+    }
+
+    /**
+     * Crea la cuadrícula de candidatos de un puzzle dado como matriz.
+     *
+     * @param grid Cuadrícula indexada por {@code [fila][columna]}, con 0 en las celdas vacías
+     * @param geometry Geometría del tablero
+     * @return La cuadrícula con los valores iniciales colocados
+     */
+    public static CandidateGrid of(int[][] grid, BoardGeometry geometry) {
+        CandidateGrid result = new CandidateGrid(geometry);
+        int size = geometry.getSize();
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                if (grid[row][col] != 0) {
+                    result.place(row * size + col, grid[row][col]);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Crea la cuadrícula de candidatos de un puzzle dado como arreglo recorrido por filas.
+     *
+     * @param grid Valores de las celdas, con 0 en las celdas vacías
+     * @param geometry Geometría del tablero
+     * @return La cuadrícula con los valores iniciales colocados
+     */
+    public static CandidateGrid of(byte[] grid, BoardGeometry geometry) {
+        CandidateGrid result = new CandidateGrid(geometry);
+        for (int cell = 0; cell < grid.length; cell++) {
+            if (grid[cell] != 0) {
+                result.place(cell, grid[cell]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Crea una copia independiente de esta cuadrícula.
+     *
+     * @return Una cuadrícula con los mismos valores y candidatos
+     */
+    public CandidateGrid copy() {
+        return new CandidateGrid(this);
+    }
+
+    /**
+     * Coloca un dígito en una celda y lo elimina de los candidatos de sus vecinas.
+     * Si el dígito no era un candidato de la celda, o si al colocarlo una celda vacía se queda
+     * sin candidatos o un dígito se queda sin sitio en alguna unidad, la cuadrícula queda
+     * marcada como contradictoria.
+     *
+     * @param cell Índice de la celda
+     * @param digit Dígito a colocar (1 a tamaño)
+     * @return {@code true} si el dígito era un candidato de la celda
+     */
+    public boolean place(int cell, int digit) {
+        int bit = 1 << (digit - 1);
+        if (values[cell] != 0 || (candidates[cell] & bit) == 0) {
+            contradiction = true;
+            return false;
+        }
+        int others = candidates[cell] & ~bit;
+        values[cell] = digit;
+        candidates[cell] = 0;
+        filled++;
+        int[] cellUnits = layout.unitsOf[cell];
+        for (int peer : layout.peers[cell]) {
+            if ((candidates[peer] & bit) == 0) {
+                continue;
+            }
+            candidates[peer] &= ~bit;
+            if (candidates[peer] == 0) {
+                contradiction = true;
+            }
+            // El dígito ya está en las unidades de la celda; las demás unidades de la vecina pueden quedarse sin él
+            for (int unit : layout.unitsOf[peer]) {
+                if (unit != cellUnits[0] && unit != cellUnits[1] && unit != cellUnits[2]) {
+                    checkPlace(unit, bit);
+                }
+            }
+        }
+        // Los demás candidatos de la celda pueden quedarse sin sitio en sus unidades
+        for (; others != 0; others &= others - 1) {
+            checkPlaces(cell, Integer.lowestOneBit(others));
+        }
+        return true;
+    }
+
+    /**
+     * Elimina dígitos de los candidatos de una celda. Si la celda está vacía y se queda sin
+     * candidatos, o un dígito eliminado se queda sin sitio en alguna de sus unidades, la
+     * cuadrícula queda marcada como contradictoria.
+     *
+     * @param cell Índice de la celda
+     * @param mask Máscara de los dígitos a eliminar
+     * @return {@code true} si se eliminó al menos un candidato
+     */
+    public boolean eliminate(int cell, int mask) {
+        int before = candidates[cell];
+        int removed = before & mask;
+        if (removed == 0) {
+            return false;
+        }
+        candidates[cell] = before & ~mask;
+        if (candidates[cell] == 0) {
+            contradiction = true;
+        }
+        for (; removed != 0; removed &= removed - 1) {
+            checkPlaces(cell, Integer.lowestOneBit(removed));
+        }
+        return true;
+    }
+
+    /**
+     * Comprueba que un dígito sigue teniendo sitio en las tres unidades de una celda.
+     */
+    private void checkPlaces(int cell, int bit) {
+        for (int unit : layout.unitsOf[cell]) {
+            checkPlace(unit, bit);
+        }
+    }
+
+    /**
+     * Marca la cuadrícula como contradictoria si un dígito no está colocado en una unidad
+     * ni es candidato de ninguna de sus celdas.
+     */
+    private void checkPlace(int unit, int bit) {
+        int digit = Integer.numberOfTrailingZeros(bit) + 1;
+        for (int cell : layout.units[unit]) {
+            if (values[cell] == digit || (candidates[cell] & bit) != 0) {
+                return;
+            }
+        }
+        contradiction = true;
+    }
+
+    /**
+     * Obtiene el valor de una celda.
+     *
+     * @param cell Índice de la celda
+     * @return Valor de la celda, o 0 si está vacía
+     */
+    public int getValue(int cell) {
+        return values[cell];
+    }
+
+    /**
+     * Obtiene los candidatos de una celda.
+     *
+     * @param cell Índice de la celda
+     * @return Máscara de los dígitos posibles, o 0 si la celda ya tiene valor
+     */
+    public int getCandidates(int cell) {
+        return candidates[cell];
+    }
+
+    /**
+     * Obtiene la geometría del tablero.
+     *
+     * @return El descriptor con el tamaño del tablero y las dimensiones de sus cajas
+     */
+    public BoardGeometry getGeometry() {
+        return geometry;
+    }
+
+    /**
+     * Indica si todas las celdas tienen valor.
+     *
+     * @return {@code true} si la cuadrícula está completa
+     */
+    public boolean isSolved() {
+        return filled == values.length && !contradiction;
+    }
+
+    /**
+     * Indica si la cuadrícula no tiene solución: se intentó colocar un dígito que no era
+     * posible (por ejemplo porque los valores iniciales se repiten), una celda vacía se quedó
+     * sin candidatos o un dígito se quedó sin sitio en una fila, columna o caja.
+     *
+     * @return {@code true} si la cuadrícula es contradictoria
+     */
+    public boolean hasContradiction() {
+        return contradiction;
+    }
+
+    /**
+     * Obtiene los valores de la cuadrícula como matriz.
+     *
+     * @return Cuadrícula indexada por {@code [fila][columna]}
+     */
+    public int[][] toArray() {
+        int size = geometry.getSize();
+        int[][] result = new int[size][size];
+        for (int cell = 0; cell < values.length; cell++) {
+            result[cell / size][cell % size] = values[cell];
+        }
+        return result;
+    }
+
+    /**
+     * Celdas de cada unidad, en orden de lectura.
+     */
+    int[][] units() {
+        return layout.units;
+    }
+
+    /**
+     * Celdas que comparten fila, columna o caja con cada celda.
+     */
+    int[] peers(int cell) {
+        return layout.peers[cell];
+    }
+
+    /**
+     * Unidades y vecinos de cada celda para una geometría.
+     */
+    private static final class Layout {
+        final int[][] units;
+        final int[][] peers;
+
+        /** Fila, columna y caja de cada celda, como índices de {@link #units} */
+        final int[][] unitsOf;
+
+        Layout(BoardGeometry geometry) {
+            int size = geometry.getSize();
+            int cells = geometry.getCellCount();
+            units = new int[3 * size][size];
+            for (int i = 0; i < size; i++) {
+                int rowStart = geometry.getBoxRowStart(i);
+                int colStart = geometry.getBoxColStart(i);
+                for (int j = 0; j < size; j++) {
+                    units[i][j] = i * size + j;
+                    units[size + i][j] = j * size + i;
+                    units[2 * size + i][j] = (rowStart + j / geometry.getBoxWidth()) * size
+                            + colStart + j % geometry.getBoxWidth();
+                }
+            }
+
+            peers = new int[cells][];
+            unitsOf = new int[cells][];
+            boolean[] seen = new boolean[cells];
+            int[] buffer = new int[3 * size];
+            for (int cell = 0; cell < cells; cell++) {
+                int row = cell / size;
+                int col = cell % size;
+                unitsOf[cell] = new int[]{row, size + col, 2 * size + geometry.getBoxIndex(row, col)};
+                int[][] cellUnits = {units[row], units[size + col], units[2 * size + geometry.getBoxIndex(row, col)]};
+                int count = 0;
+                for (int[] unit : cellUnits) {
+                    for (int peer : unit) {
+                        if (peer != cell && !seen[peer]) {
+                            seen[peer] = true;
+                            buffer[count++] = peer;
+                        }
+                    }
+                }
+                peers[cell] = Arrays.copyOf(buffer, count);
+                for (int i = 0; i < count; i++) {
+                    seen[buffer[i]] = false;
+                }
+            }
+        }
+    }
+}
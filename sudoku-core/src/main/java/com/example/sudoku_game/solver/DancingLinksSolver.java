@@ -0,0 +1,270 @@
+package com.example.sudoku_game.solver;
+
+import com.example.sudoku_game.models.BoardGeometry;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Motor de resolución basado en el Algoritmo X de Knuth con Dancing Links (DLX).
+ * El Sudoku se plantea como un problema de cobertura exacta: cada candidato
+ * (fila, columna, dígito) cubre cuatro restricciones (la celda, el dígito en la fila,
+ * el dígito en la columna y el dígito en la caja) y una solución es un conjunto de
+ * candidatos que cubre cada restricción exactamente una vez.
+ * La matriz dispersa se guarda en arreglos de enteros. La estructura completa de cada
+ * geometría se construye una sola vez y cada búsqueda trabaja sobre una copia, por lo
+ * que una misma instancia se puede usar desde varios hilos a la vez.
+ *
+ * @author Juan Pablo Escamilla
+ */
+public class DancingLinksSolver implements SolverEngine {
+    /** Estructura inicial de la matriz de cobertura para cada geometría */
+    private static final Map<BoardGeometry, Template> TEMPLATES = new ConcurrentHashMap<>();
+
+    @Override
+    public SolverResult solve(int[][] grid, BoardGeometry geometry) {
+        Search search = new Search(template(geometry), grid, 1);
+        search.run();
+        return new SolverResult(search.firstSolution, search.nodes, search.backtracks);
+    }
+
+    @Override
+    public int countSolutions(int[][] grid, BoardGeometry geometry, int limit) {
+        Search search = new Search(template(geometry), grid, limit);
+        search.run();
+        return search.solutions;
+    }
+
+    private static Template template(BoardGeometry geometry) {
+        return TEMPLATES.computeIfAbsent(geometry, Template::new);
+    }
+
+    /**
+     * Matriz de cobertura exacta sin ninguna fila seleccionada.
+     * El nodo 0 es la raíz, los nodos {@code 1..columnas} son las cabeceras de columna y
+     * a continuación vienen los 4 nodos de cada candidato, en orden de candidato.
+     */
+    private static final class Template {
+        final int size;
+        final int rowStart;
+        final int[] left;
+        final int[] right;
+        final int[] up;
+        final int[] down;
+        final int[] column;
+        final int[] columnSize;
+
+        Template(BoardGeometry geometry) {
+            this.size = geometry.getSize();
+            int cells = size * size;
+            int columns = 4 * cells;
+            int candidates = cells * size;
+            this.rowStart = columns + 1;
+            int nodes = rowStart + 4 * candidates;
+            left = new int[nodes];
+            right = new int[nodes];
+            up = new int[nodes];
+            down = new int[nodes];
+            column = new int[nodes];
+            columnSize = new int[columns + 1];
+
+            // Cabeceras enlazadas en una lista circular con la raíz
+            for (int h = 0; h <= columns; h++) {
+                left[h] = h == 0 ? columns : h - 1;
+                right[h] = h == columns ? 0 : h + 1;
+                up[h] = h;
+                down[h] = h;
+                column[h] = h;
+            }
+
+            int node = rowStart;
+            for (int row = 0; row < size; row++) {
+                for (int col = 0; col < size; col++) {
+                    int box = geometry.getBoxIndex(row, col);
+                    for (int digit = 0; digit < size; digit++) {
+                        int[] headers = {
+                                1 + row * size + col,
+                                1 + cells + row * size + digit,
+                                1 + 2 * cells + col * size + digit,
+                                1 + 3 * cells + box * size + digit
+                        };
+                        for (int i = 0; i < 4; i++) {
+                            int x = node + i;
+                            int h = headers[i];
+                            left[x] = i == 0 ? node + 3 : x - 1;
+                            right[x] = i == 3 ? node : x + 1;
+                            column[x] = h;
+                            up[x] = up[h];
+                            down[x] = h;
+                            down[up[h]] = x;
+                            up[h] = x;
+                            columnSize[h]++;
+                        }
+                        node += 4;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Estado de una búsqueda sobre una copia de la matriz de cobertura.
+     */
+    private static final class Search {
+        private final int size;
+        private final int rowStart;
+        private final int[] left;
+        private final int[] right;
+        private final int[] up;
+        private final int[] down;
+        private final int[] column;
+        private final int[] columnSize;
+        private final int[][] givens;
+        private final int[] chosen;
+        private final int limit;
+        private int depth;
+
+        long nodes;
+        long backtracks;
+        int solutions;
+        int[][] firstSolution;
+
+        Search(Template template, int[][] grid, int limit) {
+            this.size = template.size;
+            this.rowStart = template.rowStart;
+            this.left = template.left.clone();
+            this.right = template.right.clone();
+            this.up = template.up.clone();
+            this.down = template.down.clone();
+            this.column = template.column;
+            this.columnSize = template.columnSize.clone();
+            this.givens = grid;
+            this.chosen = new int[size * size];
+            this.limit = limit;
+        }
+
+        /**
+         * Aplica las pistas y ejecuta la búsqueda hasta encontrar {@code limit} soluciones
+         * o agotar el espacio de búsqueda.
+         */
+        void run() {
+            if (applyGivens()) {
+                search();
+            }
+        }
+
+        /**
+         * Selecciona las filas de la matriz correspondientes a las pistas.
+         *
+         * @return {@code false} si las pistas se contradicen entre sí o contienen valores fuera de rango
+         */
+        private boolean applyGivens() {
+            boolean[] covered = new boolean[columnSize.length];
+            for (int row = 0; row < size; row++) {
+                for (int col = 0; col < size; col++) {
+                    int value = givens[row][col];
+                    if (value == 0) {
+                        continue;
+                    }
+                    if (value < 1 || value > size) {
+                        return false;
+                    }
+                    int node = rowStart + 4 * ((row * size + col) * size + value - 1);
+                    for (int i = 0; i < 4; i++) {
+                        if (covered[column[node + i]]) {
+                            return false;
+                        }
+                    }
+                    for (int i = 0; i < 4; i++) {
+                        covered[column[node + i]] = true;
+                        cover(column[node + i]);
+                    }
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Búsqueda recursiva del Algoritmo X, eligiendo siempre la columna con menos filas.
+         *
+         * @return {@code true} si se alcanzó el límite de soluciones y hay que detenerse
+         */
+        private boolean search() {
+            if (right[0] == 0) {
+                if (++solutions == 1) {
+                    firstSolution = buildSolution();
+                }
+                return solutions >= limit;
+            }
+
+            int best = right[0];
+            for (int h = right[best]; h != 0 && columnSize[best] > 1; h = right[h]) {
+                if (columnSize[h] < columnSize[best]) {
+                    best = h;
+                }
+            }
+            if (columnSize[best] == 0) {
+                return false;
+            }
+
+            cover(best);
+            for (int r = down[best]; r != best; r = down[r]) {
+                chosen[depth++] = r;
+                nodes++;
+                for (int j = right[r]; j != r; j = right[j]) {
+                    cover(column[j]);
+                }
+                if (search()) {
+                    return true;
+                }
+                for (int j = left[r]; j != r; j = left[j]) {
+                    uncover(column[j]);
+                }
+                depth--;
+                backtracks++;
+            }
+            uncover(best);
+            return false;
+        }
+
+        private void cover(int c) {
+            right[left[c]] = right[c];
+            left[right[c]] = left[c];
+            for (int i = down[c]; i != c; i = down[i]) {
+                for (int j = right[i]; j != i; j = right[j]) {
+                    down[up[j]] = down[j];
+                    up[down[j]] = up[j];
+                    columnSize[column[j]]--;
+                }
+            }
+        }
+
+        private void uncover(int c) {
+            for (int i = up[c]; i != c; i = up[i]) {
+                for (int j = left[i]; j != i; j = left[j]) {
+                    columnSize[column[j]]++;
+                    down[up[j]] = j;
+                    up[down[j]] = j;
+                }
+            }
+            right[left[c]] = c;
+            left[right[c]] = c;
+        }
+
+        /**
+         * Construye la cuadrícula completa a partir de las pistas y las filas seleccionadas.
+         */
+        private int[][] buildSolution() {
+            int[][] solution = new int[size][];
+            for (int row = 0; row < size; row++) {
+                solution[row] = givens[row].clone();
+            }
+            for (int i = 0; i < depth; i++) {
+                int candidate = (chosen[i] - rowStart) / 4;
+                int cell = candidate / size;
+                solution[cell / size][cell % size] = candidate % size + 1;
+            }
+            return solution;
+        }
+    }
+}
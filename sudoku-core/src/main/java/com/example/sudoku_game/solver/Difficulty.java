@@ -0,0 +1,39 @@
+package com.example.sudoku_game.solver;
+
+/**
+ * Niveles de dificultad de un puzzle, según la técnica más difícil que necesita
+ * el {@link LogicalSolver} para resolverlo.
+ *
+ * @author Juan Pablo Escamilla
+ */
+public enum Difficulty {
+    /** Se resuelve solo con candidatos únicos (naked y hidden singles) */
+    EASY("Fácil"),
+
+    /** Necesita candidatos bloqueados o parejas */
+    MEDIUM("Media"),
+
+    /** Necesita tríos */
+    HARD("Difícil"),
+
+    /** Necesita X-wing */
+    EXPERT("Experta"),
+
+    /** No se resuelve con las técnicas implementadas: hace falta probar y retroceder */
+    EXTREME("Extrema");
+
+    private final String label;
+
+    Difficulty(String label) {
+        this.label = label;
+    }
+
+    /**
+     * Obtiene el nombre de la dificultad para mostrarlo al jugador.
+     *
+     * @return Nombre de la dificultad
+     */
+    public String getLabel() {
+        return label;
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.sudoku_game.solver;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Resultado de calificar un puzzle con el {@link LogicalSolver}: si se resolvió solo
+ * con lógica, cuántas veces se aplicó cada técnica, la técnica más difícil necesaria,
+ * la puntuación (suma de los costes de los pasos) y la dificultad resultante.
+ *
+ * @author Juan Pablo Escamilla
+ */
+public final class GradeResult {
+    private final boolean solved;
+    private final int[] techniqueCounts;
+    private final int score;
+    private final Technique hardestTechnique;
+
+    /**
+     * Crea un resultado de calificación.
+     *
+     * @param solved Si el puzzle se resolvió con las técnicas disponibles
+     * @param techniqueCounts Veces que se aplicó cada técnica, indexado por {@link Technique#ordinal()}
+     * @param score Suma de los costes de los pasos aplicados
+     * @param hardestTechnique Técnica más difícil aplicada, o {@code null} si no se aplicó ninguna
+     */
+    GradeResult(boolean solved, int[] techniqueCounts, int score, Technique hardestTechnique) {
+        this.solved = solved;
+        this.techniqueCounts = techniqueCounts;
+        this.score = score;
+        this.hardestTechnique = hardestTechnique;
+    }
+
+    /**
+     * Indica si el puzzle se resolvió solo con las técnicas lógicas implementadas.
+     *
+     * @return {@code true} si se llegó a la solución sin probar y retroceder
+     */
+    public boolean isSolved() {
+        return solved;
+    }
+
+    /**
+     * Obtiene la puntuación de dificultad: la suma de los costes de todos los pasos aplicados.
+     *
+     * @return Puntuación de dificultad
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Obtiene la técnica más difícil que se aplicó.
+     *
+     * @return La técnica más difícil, o {@code null} si no se aplicó ninguna
+     */
+    public Technique getHardestTechnique() {
+        return hardestTechnique;
+    }
+
+    /**
+     * Obtiene las veces que se aplicó una técnica.
+     *
+     * @param technique Técnica a consultar
+     * @return Número de pasos que usaron la técnica
+     */
+    public int getTechniqueCount(Technique technique) {
+        return techniqueCounts[technique.ordinal()];
+    }
+
+    /**
+     * Obtiene las técnicas que se necesitaron.
+     *
+     * @return Conjunto de técnicas aplicadas al menos una vez
+     */
+    public Set<Technique> getTechniquesUsed() {
+        Set<Technique> used = EnumSet.noneOf(Technique.class);
+        for (Technique technique : Technique.values()) {
+            if (techniqueCounts[technique.ordinal()] > 0) {
+                used.add(technique);
+            }
+        }
+        return used;
+    }
+
+    /**
+     * Obtiene la dificultad del puzzle: la de la técnica más difícil necesaria, o
+     * {@link Difficulty#EXTREME} si las técnicas implementadas no bastan.
+     *
+     * @return Dificultad del puzzle
+     */
+    public Difficulty getDifficulty() {
+        if (!solved) {
+            return Difficulty.EXTREME;
+        }
+        return hardestTechnique == null ? Difficulty.EASY : hardestTechnique.getDifficulty();
+    }
+
+    @Override
+    public String toString() {
+        return "GradeResult{difficulty=" + getDifficulty() + ", score=" + score + ", techniques=" + getTechniquesUsed() + "}";
+    }
+}
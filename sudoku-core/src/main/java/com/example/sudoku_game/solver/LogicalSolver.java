@@ -0,0 +1,437 @@
+package com.example.sudoku_game.solver;
+
+import com.example.sudoku_game.models.BoardGeometry;
+
+import java.util.Arrays;
+
+/**
+ * Motor de resolución que aplica técnicas humanas sobre una {@link CandidateGrid},
+ * probándolas en orden de coste (ver {@link Technique}): en cada paso usa la técnica
+ * más barata que consigue colocar un dígito o eliminar algún candidato.
+ * Sirve para calificar la dificultad de un puzzle según las técnicas que necesita y
+ * para explicar el siguiente paso lógico de una partida.
+ * Todas las técnicas trabajan con máscaras de bits, por lo que calificar un puzzle de
+ * 6x6 o 9x9 cuesta microsegundos. Cada instancia reutiliza arreglos de trabajo, así que
+ * no se debe compartir entre hilos.
+ *
+ * @author Juan Pablo Escamilla
+ */
+public class LogicalSolver {
+    private int[] pendingMasks = new int[0];
+    private int[] pendingCells = new int[0];
+    private int pendingCount;
+
+    /**
+     * Califica un puzzle dado como matriz.
+     *
+     * @param grid Cuadrícula indexada por {@code [fila][columna]}, con 0 en las celdas vacías
+     * @param geometry Geometría del tablero
+     * @return El resultado de la calificación
+     */
+    public GradeResult grade(int[][] grid, BoardGeometry geometry) {
+        return grade(CandidateGrid.of(grid, geometry));
+    }
+
+    /**
+     * Califica un puzzle dado como arreglo recorrido por filas.
+     *
+     * @param puzzle Valores de las celdas, con 0 en las celdas vacías
+     * @param geometry Geometría del tablero
+     * @return El resultado de la calificación
+     */
+    public GradeResult grade(byte[] puzzle, BoardGeometry geometry) {
+        return grade(CandidateGrid.of(puzzle, geometry));
+    }
+
+    /**
+     * Resuelve una cuadrícula paso a paso con las técnicas lógicas y califica su dificultad.
+     * La cuadrícula queda en el estado al que se llegó (resuelta si {@link GradeResult#isSolved()}).
+     *
+     * @param grid Cuadrícula a resolver
+     * @return El resultado de la calificación
+     */
+    public GradeResult grade(CandidateGrid grid) {
+        int[] counts = new int[Technique.values().length];
+        int score = 0;
+        Technique hardest = null;
+        while (!grid.isSolved() && !grid.hasContradiction()) {
+            Step step = findStep(grid);
+            if (step == null) {
+                break;
+            }
+            step.applyTo(grid);
+            Technique technique = step.getTechnique();
+            counts[technique.ordinal()]++;
+            score += technique.getCost();
+            if (hardest == null || technique.ordinal() > hardest.ordinal()) {
+                hardest = technique;
+            }
+        }
+        return new GradeResult(grid.isSolved(), counts, score, hardest);
+    }
+
+    /**
+     * Busca el siguiente paso lógico, probando las técnicas de menor a mayor coste.
+     * No modifica la cuadrícula.
+     *
+     * @param grid Cuadrícula de candidatos
+     * @return El paso encontrado, o {@code null} si ninguna técnica avanza
+     */
+    public Step findStep(CandidateGrid grid) {
+        prepare(grid);
+        Step step = findNakedSingle(grid);
+        if (step == null) {
+            step = findHiddenSingle(grid);
+        }
+        if (step == null) {
+            step = findLockedCandidates(grid);
+        }
+        if (step == null) {
+            step = findNakedSubset(grid, 2, Technique.NAKED_PAIR);
+        }
+        if (step == null) {
+            step = findHiddenSubset(grid, 2, Technique.HIDDEN_PAIR);
+        }
+        if (step == null) {
+            step = findNakedSubset(grid, 3, Technique.NAKED_TRIPLE);
+        }
+        if (step == null) {
+            step = findHiddenSubset(grid, 3, Technique.HIDDEN_TRIPLE);
+        }
+        if (step == null) {
+            step = findXWing(grid);
+        }
+        return step;
+    }
+
+    /**
+     * Busca la siguiente colocación lógica, aplicando en la cuadrícula las eliminaciones
+     * que hagan falta hasta llegar a ella. El dígito encontrado no se coloca.
+     *
+     * @param grid Cuadrícula de candidatos, que conserva las eliminaciones aplicadas
+     * @return El paso que coloca el dígito (con la técnica más difícil usada para llegar a él),
+     *         o {@code null} si las técnicas no llegan a colocar ningún dígito o si la cuadrícula
+     *         es o se vuelve contradictoria (ver {@link CandidateGrid#hasContradiction()})
+     */
+    public Step advanceToPlacement(CandidateGrid grid) {
+        Technique hardest = null;
+        while (!grid.isSolved() && !grid.hasContradiction()) {
+            Step step = findStep(grid);
+            if (step == null) {
+                return null;
+            }
+            if (hardest == null || step.getTechnique().ordinal() > hardest.ordinal()) {
+                hardest = step.getTechnique();
+            }
+            if (step.isPlacement()) {
+                return hardest == step.getTechnique() ? step : Step.placement(hardest, step.getCell(), step.getDigit());
+            }
+            step.applyTo(grid);
+        }
+        return null;
+    }
+
+    /**
+     * Una celda vacía con un único candidato.
+     */
+    private Step findNakedSingle(CandidateGrid grid) {
+        int cells = grid.getGeometry().getCellCount();
+        for (int cell = 0; cell < cells; cell++) {
+            int candidates = grid.getCandidates(cell);
+            if (grid.getValue(cell) == 0 && candidates != 0 && (candidates & (candidates - 1)) == 0) {
+                return Step.placement(Technique.NAKED_SINGLE, cell, Integer.numberOfTrailingZeros(candidates) + 1);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Un dígito que en una unidad solo es candidato de una celda.
+     */
+    private Step findHiddenSingle(CandidateGrid grid) {
+        for (int[] unit : grid.units()) {
+            int once = 0;
+            int twice = 0;
+            for (int cell : unit) {
+                int candidates = grid.getCandidates(cell);
+                twice |= once & candidates;
+                once |= candidates;
+            }
+            int single = once & ~twice;
+            if (single != 0) {
+                int bit = Integer.lowestOneBit(single);
+                for (int cell : unit) {
+                    if ((grid.getCandidates(cell) & bit) != 0) {
+                        return Step.placement(Technique.HIDDEN_SINGLE, cell, Integer.numberOfTrailingZeros(bit) + 1);
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Un dígito que dentro de una caja solo cabe en una fila o columna (se elimina del resto
+     * de esa línea), o que dentro de una línea solo cabe en una caja (se elimina del resto de la caja).
+     */
+    private Step findLockedCandidates(CandidateGrid grid) {
+        BoardGeometry geometry = grid.getGeometry();
+        int size = geometry.getSize();
+        int[][] units = grid.units();
+
+        // Apuntando: caja -> fila o columna
+        for (int box = 0; box < size; box++) {
+            int[] boxCells = units[2 * size + box];
+            int digits = unionOf(grid, boxCells);
+            for (int mask = digits; mask != 0; mask &= mask - 1) {
+                int bit = Integer.lowestOneBit(mask);
+                int rows = 0;
+                int cols = 0;
+                for (int cell : boxCells) {
+                    if ((grid.getCandidates(cell) & bit) != 0) {
+                        rows |= 1 << (cell / size);
+                        cols |= 1 << (cell % size);
+                    }
+                }
+                if (Integer.bitCount(rows) == 1) {
+                    eliminateOutside(grid, units[Integer.numberOfTrailingZeros(rows)], boxCells, bit);
+                }
+                if (Integer.bitCount(cols) == 1) {
+                    eliminateOutside(grid, units[size + Integer.numberOfTrailingZeros(cols)], boxCells, bit);
+                }
+                if (pendingCount > 0) {
+                    return takePending(Technique.LOCKED_CANDIDATES);
+                }
+            }
+        }
+
+        // Reclamando: fila o columna -> caja
+        for (int line = 0; line < 2 * size; line++) {
+            int[] lineCells = units[line];
+            int digits = unionOf(grid, lineCells);
+            for (int mask = digits; mask != 0; mask &= mask - 1) {
+                int bit = Integer.lowestOneBit(mask);
+                int box = -1;
+                boolean single = true;
+                for (int cell : lineCells) {
+                    if ((grid.getCandidates(cell) & bit) != 0) {
+                        int cellBox = geometry.getBoxIndex(cell / size, cell % size);
+                        if (box >= 0 && cellBox != box) {
+                            single = false;
+                            break;
+                        }
+                        box = cellBox;
+                    }
+                }
+                if (single && box >= 0) {
+                    eliminateOutside(grid, units[2 * size + box], lineCells, bit);
+                    if (pendingCount > 0) {
+                        return takePending(Technique.LOCKED_CANDIDATES);
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * {@code k} celdas de una unidad cuyos candidatos, juntos, son exactamente {@code k} dígitos:
+     * esos dígitos se eliminan del resto de la unidad.
+     */
+    private Step findNakedSubset(CandidateGrid grid, int k, Technique technique) {
+        int[] chosen = new int[k];
+        for (int[] unit : grid.units()) {
+            if (findNakedSubset(grid, unit, k, 0, 0, 0, chosen)) {
+                return takePending(technique);
+            }
+        }
+        return null;
+    }
+
+    private boolean findNakedSubset(CandidateGrid grid, int[] unit, int k, int start, int depth, int union, int[] chosen) {
+        if (depth == k) {
+            if (Integer.bitCount(union) != k) {
+                return false;
+            }
+            for (int cell : unit) {
+                if (grid.getValue(cell) == 0 && !contains(chosen, cell)) {
+                    addElimination(grid, cell, union);
+                }
+            }
+            return pendingCount > 0;
+        }
+        for (int i = start; i < unit.length; i++) {
+            int candidates = grid.getCandidates(unit[i]);
+            int count = Integer.bitCount(candidates);
+            if (count < 2 || count > k || Integer.bitCount(union | candidates) > k) {
+                continue;
+            }
+            chosen[depth] = unit[i];
+            if (findNakedSubset(grid, unit, k, i + 1, depth + 1, union | candidates, chosen)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * {@code k} dígitos que en una unidad solo son candidatos de las mismas {@code k} celdas:
+     * el resto de candidatos de esas celdas se eliminan.
+     */
+    private Step findHiddenSubset(CandidateGrid grid, int k, Technique technique) {
+        int size = grid.getGeometry().getSize();
+        int[] positions = new int[size];
+        for (int[] unit : grid.units()) {
+            // Posiciones (dentro de la unidad) en las que cabe cada dígito
+            Arrays.fill(positions, 0);
+            for (int i = 0; i < size; i++) {
+                for (int mask = grid.getCandidates(unit[i]); mask != 0; mask &= mask - 1) {
+                    positions[Integer.numberOfTrailingZeros(mask)] |= 1 << i;
+                }
+            }
+            if (findHiddenSubset(grid, unit, positions, k, 0, 0, 0, 0)) {
+                return takePending(technique);
+            }
+        }
+        return null;
+    }
+
+    private boolean findHiddenSubset(CandidateGrid grid, int[] unit, int[] positions, int k,
+                                     int start, int depth, int digits, int places) {
+        if (depth == k) {
+            if (Integer.bitCount(places) != k) {
+                return false;
+            }
+            for (int mask = places; mask != 0; mask &= mask - 1) {
+                addElimination(grid, unit[Integer.numberOfTrailingZeros(mask)], ~digits);
+            }
+            return pendingCount > 0;
+        }
+        for (int d = start; d < positions.length; d++) {
+            int count = Integer.bitCount(positions[d]);
+            if (count < 2 || count > k || Integer.bitCount(places | positions[d]) > k) {
+                continue;
+            }
+            if (findHiddenSubset(grid, unit, positions, k, d + 1, depth + 1, digits | (1 << d), places | positions[d])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Un dígito que en dos filas solo cabe en las mismas dos columnas (se elimina del resto
+     * de esas columnas), o lo mismo intercambiando filas y columnas.
+     */
+    private Step findXWing(CandidateGrid grid) {
+        int size = grid.getGeometry().getSize();
+        int[][] units = grid.units();
+        int[] lines = new int[size];
+        for (int digit = 0; digit < size; digit++) {
+            int bit = 1 << digit;
+            for (int orientation = 0; orientation < 2; orientation++) {
+                // Para cada línea, posiciones en las que cabe el dígito
+                for (int line = 0; line < size; line++) {
+                    lines[line] = 0;
+                    int[] cells = units[orientation * size + line];
+                    for (int i = 0; i < size; i++) {
+                        if ((grid.getCandidates(cells[i]) & bit) != 0) {
+                            lines[line] |= 1 << i;
+                        }
+                    }
+                }
+                for (int first = 0; first < size; first++) {
+                    if (Integer.bitCount(lines[first]) != 2) {
+                        continue;
+                    }
+                    for (int second = first + 1; second < size; second++) {
+                        if (lines[second] != lines[first]) {
+                            continue;
+                        }
+                        // Eliminar el dígito de las dos líneas cruzadas, fuera de las dos líneas del X-wing
+                        for (int mask = lines[first]; mask != 0; mask &= mask - 1) {
+                            int[] cross = units[(1 - orientation) * size + Integer.numberOfTrailingZeros(mask)];
+                            for (int i = 0; i < size; i++) {
+                                if (i != first && i != second) {
+                                    addElimination(grid, cross[i], bit);
+                                }
+                            }
+                        }
+                        if (pendingCount > 0) {
+                            return takePending(Technique.X_WING);
+                        }
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private static int unionOf(CandidateGrid grid, int[] cells) {
+        int union = 0;
+        for (int cell : cells) {
+            union |= grid.getCandidates(cell);
+        }
+        return union;
+    }
+
+    private static boolean contains(int[] values, int value) {
+        for (int v : values) {
+            if (v == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Anota la eliminación de un dígito en las celdas de {@code target} que no están en {@code keep}.
+     */
+    private void eliminateOutside(CandidateGrid grid, int[] target, int[] keep, int bit) {
+        for (int cell : target) {
+            if (!contains(keep, cell)) {
+                addElimination(grid, cell, bit);
+            }
+        }
+    }
+
+    /**
+     * Prepara los arreglos de trabajo para el tamaño de la cuadrícula.
+     */
+    private void prepare(CandidateGrid grid) {
+        int cells = grid.getGeometry().getCellCount();
+        if (pendingMasks.length != cells) {
+            pendingMasks = new int[cells];
+            pendingCells = new int[cells];
+        }
+        pendingCount = 0;
+    }
+
+    /**
+     * Anota la eliminación de los dígitos de {@code mask} que todavía son candidatos de la celda.
+     */
+    private void addElimination(CandidateGrid grid, int cell, int mask) {
+        int removed = grid.getCandidates(cell) & mask & ~pendingMasks[cell];
+        if (removed == 0) {
+            return;
+        }
+        if (pendingMasks[cell] == 0) {
+            pendingCells[pendingCount++] = cell;
+        }
+        pendingMasks[cell] |= removed;
+    }
+
+    /**
+     * Crea un paso con las eliminaciones anotadas y vacía la lista.
+     */
+    private Step takePending(Technique technique) {
+        int[] cells = Arrays.copyOf(pendingCells, pendingCount);
+        int[] masks = new int[pendingCount];
+        for (int i = 0; i < pendingCount; i++) {
+            masks[i] = pendingMasks[cells[i]];
+            pendingMasks[cells[i]] = 0;
+        }
+        pendingCount = 0;
+        return Step.elimination(technique, cells, masks);
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.sudoku_game.solver;
+
+import com.example.sudoku_game.models.BoardGeometry;
+import com.example.sudoku_game.models.BoardModel;
+
+/**
+ * Interfaz que define un motor de resolución de Sudoku.
+ * Un motor recibe un tablero parcialmente lleno (0 representa una celda vacía)
+ * y devuelve una solución junto con estadísticas de la búsqueda.
+ * Las implementaciones no modifican el tablero recibido.
+ *
+ * @author Juan Pablo Escamilla
+ */
+public interface SolverEngine {
+
+    /**
+     * Resuelve una cuadrícula de Sudoku.
+     *
+     * @param grid Cuadrícula indexada por {@code [fila][columna]}, con 0 en las celdas vacías
+     * @param geometry Geometría del tablero
+     * @return El resultado de la búsqueda, con la solución si existe
+     */
+    SolverResult solve(int[][] grid, BoardGeometry geometry);
+
+    /**
+     * Cuenta las soluciones de una cuadrícula, deteniéndose al alcanzar el límite.
+     * Con un límite de 2 permite comprobar si un puzzle tiene solución única sin
+     * recorrer todo el espacio de búsqueda.
+     *
+     * @param grid Cuadrícula indexada por {@code [fila][columna]}, con 0 en las celdas vacías
+     * @param geometry Geometría del tablero
+     * @param limit Número de soluciones a partir del cual se detiene la búsqueda
+     * @return El número de soluciones encontradas, como máximo {@code limit}
+     */
+    int countSolutions(int[][] grid, BoardGeometry geometry, int limit);
+
+    /**
+     * Resuelve el estado actual de un tablero, tomando como pistas todas sus celdas con valor.
+     *
+     * @param board El tablero de Sudoku
+     * @return El resultado de la búsqueda, con la solución si existe
+     */
+    default SolverResult solve(BoardModel board) {
+        int size = board.getBoardSize();
+        int[][] grid = new int[size][size];
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                grid[row][col] = board.getCell(row, col).getValue();
+            }
+        }
+        return solve(grid, board.getGeometry());
+    }
+}
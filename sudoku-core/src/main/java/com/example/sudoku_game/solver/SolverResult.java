@@ -0,0 +1,68 @@
+package com.example.sudoku_game.solver;
+
+/**
+ * Resultado de una búsqueda realizada por un {@link SolverEngine}.
+ * Contiene la solución encontrada (si existe) y el número de nodos visitados
+ * y de retrocesos realizados durante la búsqueda.
+ *
+ * @author Juan Pablo Escamilla
+ */
+public final class SolverResult {
+    private final int[][] solution;
+    private final long nodes;
+    private final long backtracks;
+
+    /**
+     * Crea un resultado de búsqueda.
+     *
+     * @param solution Solución encontrada, o {@code null} si el tablero no tiene solución
+     * @param nodes Número de nodos visitados (valores colocados durante la búsqueda)
+     * @param backtracks Número de retrocesos (valores retirados tras no llevar a una solución)
+     */
+    public SolverResult(int[][] solution, long nodes, long backtracks) {
+        this.solution = solution;
+        this.nodes = nodes;
+        this.backtracks = backtracks;
+    }
+
+    /**
+     * Indica si se encontró una solución.
+     *
+     * @return {@code true} si el tablero tiene solución, {@code false} en caso contrario
+     */
+    public boolean isSolved() {
+        return solution != null;
+    }
+
+    /**
+     * Obtiene la solución encontrada.
+     *
+     * @return Cuadrícula completa indexada por {@code [fila][columna]}, o {@code null} si no hay solución
+     */
+    public int[][] getSolution() {
+        return solution;
+    }
+
+    /**
+     * Obtiene el número de nodos visitados durante la búsqueda.
+     *
+     * @return Número de nodos visitados
+     */
+    public long getNodes() {
+        return nodes;
+    }
+
+    /**
+     * Obtiene el número de retrocesos realizados durante la búsqueda.
+     *
+     * @return Número de retrocesos
+     */
+    public long getBacktracks() {
+        return backtracks;
+    }
+
+    @Override
+    public String toString() {
+        return "SolverResult{solved=" + isSolved() + ", nodes=" + nodes + ", backtracks=" + backtracks + "}";
+    }
+}
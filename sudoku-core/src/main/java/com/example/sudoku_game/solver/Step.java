@@ -0,0 +1,133 @@
+package com.example.sudoku_game.solver;
+
+/**
+ * Un paso de resolución encontrado por el {@link LogicalSolver}: la técnica usada y
+ * su efecto, que es colocar un dígito en una celda o eliminar candidatos de varias celdas.
+ *
+ * @author Juan Pablo Escamilla
+ */
+public final class Step {
+    private final Technique technique;
+    private final int cell;
+    private final int digit;
+    private final int[] eliminationCells;
+    private final int[] eliminationMasks;
+
+    private Step(Technique technique, int cell, int digit, int[] eliminationCells, int[] eliminationMasks) {
+        this.technique = technique;
+        this.cell = cell;
+        this.digit = digit;
+        this.eliminationCells = eliminationCells;
+        this.eliminationMasks = eliminationMasks;
+    }
+
+    /**
+     * Crea un paso que coloca un dígito en una celda.
+     *
+     * @param technique Técnica que fuerza el dígito
+     * @param cell Índice de la celda ({@code fila * n + columna})
+     * @param digit Dígito a colocar
+     * @return El paso
+     */
+    static Step placement(Technique technique, int cell, int digit) {
+        return new Step(technique, cell, digit, new int[0], new int[0]);
+    }
+
+    /**
+     * Crea un paso que elimina candidatos.
+     *
+     * @param technique Técnica que justifica las eliminaciones
+     * @param cells Celdas afectadas
+     * @param masks Dígitos a eliminar de cada celda
+     * @return El paso
+     */
+    static Step elimination(Technique technique, int[] cells, int[] masks) {
+        return new Step(technique, -1, 0, cells, masks);
+    }
+
+    /**
+     * Obtiene la técnica del paso.
+     *
+     * @return La técnica usada
+     */
+    public Technique getTechnique() {
+        return technique;
+    }
+
+    /**
+     * Indica si el paso coloca un dígito.
+     *
+     * @return {@code true} si el paso coloca un dígito, {@code false} si solo elimina candidatos
+     */
+    public boolean isPlacement() {
+        return digit != 0;
+    }
+
+    /**
+     * Obtiene la celda en la que se coloca el dígito.
+     *
+     * @return Índice de la celda ({@code fila * n + columna}), o -1 si el paso no coloca ningún dígito
+     */
+    public int getCell() {
+        return cell;
+    }
+
+    /**
+     * Obtiene el dígito que se coloca.
+     *
+     * @return El dígito, o 0 si el paso no coloca ningún dígito
+     */
+    public int getDigit() {
+        return digit;
+    }
+
+    /**
+     * Obtiene el número de celdas de las que se eliminan candidatos.
+     *
+     * @return Número de celdas afectadas por eliminaciones
+     */
+    public int getEliminationCount() {
+        return eliminationCells.length;
+    }
+
+    /**
+     * Obtiene una celda de la que se eliminan candidatos.
+     *
+     * @param i Posición de la eliminación (0 a {@link #getEliminationCount()} - 1)
+     * @return Índice de la celda
+     */
+    public int getEliminationCell(int i) {
+        return eliminationCells[i];
+    }
+
+    /**
+     * Obtiene los candidatos que se eliminan de una celda.
+     *
+     * @param i Posición de la eliminación (0 a {@link #getEliminationCount()} - 1)
+     * @return Máscara de los dígitos eliminados
+     */
+    public int getEliminationMask(int i) {
+        return eliminationMasks[i];
+    }
+
+    /**
+     * Aplica el paso a una cuadrícula de candidatos.
+     *
+     * @param grid Cuadrícula a modificar
+     */
+    public void applyTo(CandidateGrid grid) {
+        if (isPlacement()) {
+            grid.place(cell, digit);
+        }
+        for (int i = 0; i < eliminationCells.length; i++) {
+            grid.eliminate(eliminationCells[i], eliminationMasks[i]);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return isPlacement()
+                ? technique.getLabel() + ": " + digit + " en la celda " + cell
+                : technique.getLabel() + ": elimina candidatos de " + eliminationCells.length + " celdas";
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.sudoku_game.solver;
+
+/**
+ * Técnicas de resolución humanas que aplica el {@link LogicalSolver}, en el orden en
+ * que se prueban (de menor a mayor coste). Cada técnica tiene un coste, que se suma
+ * a la puntuación de dificultad cada vez que se aplica, y la dificultad mínima de un
+ * puzzle que la necesita.
+ *
+ * @author Juan Pablo Escamilla
+ */
+public enum Technique {
+    /** Una celda con un único candidato */
+    NAKED_SINGLE("Candidato único", 1, Difficulty.EASY),
+
+    /** Un dígito que solo cabe en una celda de una fila, columna o caja */
+    HIDDEN_SINGLE("Posición única", 2, Difficulty.EASY),
+
+    /** Un dígito que en una caja solo cabe en una fila o columna (o al revés) */
+    LOCKED_CANDIDATES("Candidatos bloqueados", 5, Difficulty.MEDIUM),
+
+    /** Dos celdas de una unidad con los mismos dos candidatos */
+    NAKED_PAIR("Pareja desnuda", 8, Difficulty.MEDIUM),
+
+    /** Dos dígitos que en una unidad solo caben en las mismas dos celdas */
+    HIDDEN_PAIR("Pareja oculta", 10, Difficulty.MEDIUM),
+
+    /** Tres celdas de una unidad con tres candidatos entre todas */
+    NAKED_TRIPLE("Trío desnudo", 12, Difficulty.HARD),
+
+    /** Tres dígitos que en una unidad solo caben en las mismas tres celdas */
+    HIDDEN_TRIPLE("Trío oculto", 15, Difficulty.HARD),
+
+    /** Un dígito que en dos filas (o columnas) solo cabe en las mismas dos columnas (o filas) */
+    X_WING("X-wing", 20, Difficulty.EXPERT);
+
+    private final String label;
+    private final int cost;
+    private final Difficulty difficulty;
+
+    Technique(String label, int cost, Difficulty difficulty) {
+        this.label = label;
+        this.cost = cost;
+        this.difficulty = difficulty;
+    }
+
+    /**
+     * Obtiene el nombre de la técnica para mostrarlo al jugador.
+     *
+     * @return Nombre de la técnica
+     */
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * Obtiene el coste que suma cada aplicación de la técnica a la puntuación de dificultad.
+     *
+     * @return Coste de la técnica
+     */
+    public int getCost() {
+        return cost;
+    }
+
+    /**
+     * Obtiene la dificultad mínima de un puzzle que necesita esta técnica.
+     *
+     * @return Dificultad asociada a la técnica
+     */
+    public Difficulty getDifficulty() {
+        return difficulty;
+    }
+}
@@ -0,0 +1,11 @@
+module com.example.sudoku_game.core {
+    requires transitive jdk.jfr;
+
+    exports com.example.sudoku_game.generator;
+    exports com.example.sudoku_game.interfaces;
+    exports com.example.sudoku_game.metrics;
+    exports com.example.sudoku_game.models;
+    exports com.example.sudoku_game.persistence;
+    exports com.example.sudoku_game.session;
+    exports com.example.sudoku_game.solver;
+}
@@ -0,0 +1,123 @@
+package com.example.sudoku_game.generator;
+
+import com.example.sudoku_game.models.BoardGeometry;
+import com.example.sudoku_game.models.PuzzleMode;
+import com.example.sudoku_game.solver.DancingLinksSolver;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas de {@link GridTransformer}: los puzzles derivados siguen siendo puzzles válidos
+ * con solución única, y las cuadrículas equivalentes comparten la misma forma canónica.
+ *
+ * @author Juan Pablo Escamilla
+ */
+class GridTransformerTest {
+    private final DancingLinksSolver solver = new DancingLinksSolver();
+
+    @Test
+    void derivedPuzzlesAreValidAndUnique() {
+        for (BoardGeometry geometry : new BoardGeometry[]{BoardGeometry.SIX_BY_SIX, BoardGeometry.NINE_BY_NINE}) {
+            PuzzleRecord seed = new PuzzleGenerator(geometry, PuzzleMode.UNIQUE, new SplittableRandom(2)).generate();
+            byte[] seedPuzzle = seed.getPuzzle().clone();
+            byte[] seedSolution = seed.getSolution().clone();
+            GridTransformer transformer = new GridTransformer(geometry);
+            SplittableRandom random = new SplittableRandom(6);
+            for (int i = 0; i < 50; i++) {
+                PuzzleRecord derived = transformer.derive(seed, random);
+                String label = geometry + ", derivado " + i;
+                assertTrue(PuzzleGeneratorTest.isValidSolution(derived.getSolution(), geometry), label);
+                byte[] clues = derived.getPuzzle();
+                for (int cell = 0; cell < clues.length; cell++) {
+                    assertTrue(clues[cell] == 0 || clues[cell] == derived.getSolution()[cell], label + ", celda " + cell);
+                }
+                assertEquals(clueCount(seedPuzzle), clueCount(clues), label);
+                assertEquals(1, solver.countSolutions(PuzzleGeneratorTest.grid(clues, geometry), geometry, 2), label);
+            }
+            assertArrayEquals(seedPuzzle, seed.getPuzzle(), "derive no debe modificar el puzzle de partida");
+            assertArrayEquals(seedSolution, seed.getSolution());
+        }
+    }
+
+    @Test
+    void equivalentGridsShareTheCanonicalForm() {
+        BoardGeometry geometry = BoardGeometry.SIX_BY_SIX;
+        GridTransformer transformer = new GridTransformer(geometry);
+        PuzzleRecord seed = new PuzzleGenerator(geometry, PuzzleMode.UNIQUE, new SplittableRandom(9)).generate();
+        byte[] expected = transformer.canonicalForm(seed.getPuzzle());
+
+        byte[] grid = seed.getPuzzle().clone();
+        transformer.swapRows(grid, 0, 1);
+        assertArrayEquals(expected, transformer.canonicalForm(grid));
+        transformer.swapBands(grid, 0, 2);
+        assertArrayEquals(expected, transformer.canonicalForm(grid));
+        transformer.swapColumns(grid, 3, 5);
+        assertArrayEquals(expected, transformer.canonicalForm(grid));
+        transformer.swapStacks(grid, 0, 1);
+        assertArrayEquals(expected, transformer.canonicalForm(grid));
+        transformer.permuteDigits(grid, new int[]{0, 4, 6, 1, 5, 2, 3});
+        assertArrayEquals(expected, transformer.canonicalForm(grid));
+
+        SplittableRandom random = new SplittableRandom(10);
+        for (int i = 0; i < 20; i++) {
+            PuzzleRecord derived = transformer.derive(seed, random);
+            assertArrayEquals(expected, transformer.canonicalForm(derived.getPuzzle()), "derivado " + i);
+            assertArrayEquals(transformer.canonicalForm(seed.getSolution()), transformer.canonicalForm(derived.getSolution()));
+        }
+    }
+
+    @Test
+    void transposedSquareGridSharesTheCanonicalForm() {
+        BoardGeometry geometry = BoardGeometry.NINE_BY_NINE;
+        GridTransformer transformer = new GridTransformer(geometry);
+        byte[] grid = new PuzzleGenerator(geometry, PuzzleMode.UNIQUE, new SplittableRandom(12)).generate().getPuzzle();
+        byte[] transposed = new byte[grid.length];
+        for (int row = 0; row < 9; row++) {
+            for (int col = 0; col < 9; col++) {
+                transposed[col * 9 + row] = grid[row * 9 + col];
+            }
+        }
+        assertArrayEquals(transformer.canonicalForm(grid), transformer.canonicalForm(transposed));
+    }
+
+    @Test
+    void differentPuzzlesHaveDifferentCanonicalForms() {
+        BoardGeometry geometry = BoardGeometry.SIX_BY_SIX;
+        GridTransformer transformer = new GridTransformer(geometry);
+        byte[] grid = new PuzzleGenerator(geometry, PuzzleMode.UNIQUE, new SplittableRandom(13)).generate().getPuzzle();
+        byte[] fewerClues = grid.clone();
+        for (int cell = 0; cell < fewerClues.length; cell++) {
+            if (fewerClues[cell] != 0) {
+                fewerClues[cell] = 0;
+                break;
+            }
+        }
+        assertFalse(Arrays.equals(transformer.canonicalForm(grid), transformer.canonicalForm(fewerClues)));
+    }
+
+    @Test
+    void rowsOfDifferentBandsCannotBeSwapped() {
+        GridTransformer transformer = new GridTransformer(BoardGeometry.SIX_BY_SIX);
+        byte[] grid = PuzzleGeneratorTest.patternSolution(BoardGeometry.SIX_BY_SIX);
+        assertThrows(IllegalArgumentException.class, () -> transformer.swapRows(grid, 1, 2));
+        assertThrows(IllegalArgumentException.class, () -> transformer.swapColumns(grid, 2, 3));
+    }
+
+    private static int clueCount(byte[] puzzle) {
+        int count = 0;
+        for (byte value : puzzle) {
+            if (value != 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.sudoku_game.generator;
+
+import com.example.sudoku_game.models.BoardGeometry;
+import com.example.sudoku_game.models.PuzzleMode;
+import com.example.sudoku_game.solver.DancingLinksSolver;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas de {@link PuzzleGenerator}: en modo {@link PuzzleMode#UNIQUE} cada puzzle tiene
+ * exactamente una solución, sus pistas coinciden con ella y la misma semilla genera los
+ * mismos puzzles.
+ *
+ * @author Juan Pablo Escamilla
+ */
+class PuzzleGeneratorTest {
+    private static final BoardGeometry[] GEOMETRIES = {
+            new BoardGeometry(2, 2), BoardGeometry.SIX_BY_SIX, BoardGeometry.NINE_BY_NINE};
+
+    private final DancingLinksSolver solver = new DancingLinksSolver();
+
+    @Test
+    void generatedPuzzlesHaveExactlyOneSolution() {
+        for (BoardGeometry geometry : GEOMETRIES) {
+            for (long seed = 1; seed <= 3; seed++) {
+                PuzzleGenerator generator = new PuzzleGenerator(geometry, PuzzleMode.UNIQUE, new SplittableRandom(seed));
+                for (int i = 0; i < 10; i++) {
+                    PuzzleRecord puzzle = generator.generate();
+                    String label = geometry + ", semilla " + seed + ", puzzle " + i;
+                    assertTrue(isValidSolution(puzzle.getSolution(), geometry), label);
+                    assertCluesMatchSolution(puzzle, label);
+                    assertEquals(1, solver.countSolutions(grid(puzzle.getPuzzle(), geometry), geometry, 2), label);
+                }
+            }
+        }
+    }
+
+    @Test
+    void puzzleFromAGivenSolutionKeepsItAndIsUnique() {
+        for (BoardGeometry geometry : GEOMETRIES) {
+            byte[] solution = patternSolution(geometry);
+            PuzzleGenerator generator = new PuzzleGenerator(geometry, PuzzleMode.UNIQUE, new SplittableRandom(4));
+            for (int i = 0; i < 10; i++) {
+                PuzzleRecord puzzle = generator.fromSolution(solution.clone());
+                assertArrayEquals(solution, puzzle.getSolution());
+                assertCluesMatchSolution(puzzle, geometry + ", puzzle " + i);
+                assertEquals(1, solver.countSolutions(grid(puzzle.getPuzzle(), geometry), geometry, 2));
+            }
+        }
+    }
+
+    @Test
+    void sameSeedGeneratesTheSamePuzzles() {
+        PuzzleGenerator first = new PuzzleGenerator(BoardGeometry.NINE_BY_NINE, PuzzleMode.UNIQUE, new SplittableRandom(11));
+        PuzzleGenerator second = new PuzzleGenerator(BoardGeometry.NINE_BY_NINE, PuzzleMode.UNIQUE, new SplittableRandom(11));
+        for (int i = 0; i < 5; i++) {
+            PuzzleRecord expected = first.generate();
+            PuzzleRecord actual = second.generate();
+            assertArrayEquals(expected.getPuzzle(), actual.getPuzzle());
+            assertArrayEquals(expected.getSolution(), actual.getSolution());
+        }
+    }
+
+    private static void assertCluesMatchSolution(PuzzleRecord puzzle, String label) {
+        byte[] clues = puzzle.getPuzzle();
+        byte[] solution = puzzle.getSolution();
+        for (int cell = 0; cell < clues.length; cell++) {
+            assertTrue(clues[cell] == 0 || clues[cell] == solution[cell], label + ", celda " + cell);
+        }
+    }
+
+    /**
+     * Comprueba que cada fila, columna y caja contenga todos los dígitos una vez.
+     */
+    static boolean isValidSolution(byte[] grid, BoardGeometry geometry) {
+        int size = geometry.getSize();
+        int full = (1 << size) - 1;
+        int[] rows = new int[size];
+        int[] cols = new int[size];
+        int[] boxes = new int[size];
+        for (int cell = 0; cell < grid.length; cell++) {
+            int row = cell / size;
+            int col = cell % size;
+            if (grid[cell] < 1 || grid[cell] > size) {
+                return false;
+            }
+            int bit = 1 << (grid[cell] - 1);
+            rows[row] |= bit;
+            cols[col] |= bit;
+            boxes[geometry.getBoxIndex(row, col)] |= bit;
+        }
+        for (int unit = 0; unit < size; unit++) {
+            if (rows[unit] != full || cols[unit] != full || boxes[unit] != full) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static int[][] grid(byte[] cells, BoardGeometry geometry) {
+        int size = geometry.getSize();
+        int[][] grid = new int[size][size];
+        for (int cell = 0; cell < cells.length; cell++) {
+            grid[cell / size][cell % size] = cells[cell];
+        }
+        return grid;
+    }
+
+    /**
+     * Solución válida con el patrón de desplazamientos por filas.
+     */
+    static byte[] patternSolution(BoardGeometry geometry) {
+        int size = geometry.getSize();
+        int boxHeight = geometry.getBoxHeight();
+        int boxWidth = geometry.getBoxWidth();
+        byte[] grid = new byte[size * size];
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                grid[row * size + col] = (byte) (((row % boxHeight) * boxWidth + row / boxHeight + col) % size + 1);
+            }
+        }
+        return grid;
+    }
+}
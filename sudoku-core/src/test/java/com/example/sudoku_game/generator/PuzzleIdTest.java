@@ -0,0 +1,82 @@
+package com.example.sudoku_game.generator;
+
+import com.example.sudoku_game.models.BoardGeometry;
+import com.example.sudoku_game.solver.Difficulty;
+import com.example.sudoku_game.solver.LogicalSolver;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Pruebas de {@link PuzzleId}: el mismo identificador, o la misma fecha del puzzle del día,
+ * vuelve a generar siempre el mismo puzzle, el texto del identificador se lee igual y las
+ * dificultades que no se alcanzan en una geometría se rechazan al crearlo.
+ *
+ * @author Juan Pablo Escamilla
+ */
+class PuzzleIdTest {
+    @Test
+    void sameIdRegeneratesTheSamePuzzle() {
+        PuzzleId id = new PuzzleId(BoardGeometry.NINE_BY_NINE, Difficulty.MEDIUM, 0x5eedL);
+        PuzzleRecord first = id.generate();
+        PuzzleRecord second = new PuzzleId(BoardGeometry.NINE_BY_NINE, Difficulty.MEDIUM, 0x5eedL).generate();
+        assertArrayEquals(first.getPuzzle(), second.getPuzzle());
+        assertArrayEquals(first.getSolution(), second.getSolution());
+        assertEquals(Difficulty.MEDIUM, new LogicalSolver().grade(first.getPuzzle(), BoardGeometry.NINE_BY_NINE).getDifficulty());
+
+        PuzzleId parsed = PuzzleId.parse(id.toString());
+        assertEquals(id, parsed);
+        assertArrayEquals(first.getPuzzle(), parsed.generate().getPuzzle());
+    }
+
+    @Test
+    void idWithoutDifficultyRegeneratesTheSamePuzzle() {
+        PuzzleId id = new PuzzleId(BoardGeometry.SIX_BY_SIX, null, -7L);
+        assertArrayEquals(id.generate().getPuzzle(), id.generate().getPuzzle());
+        assertEquals("2x3-any-fffffffffffffff9", id.toString());
+        assertEquals(id, PuzzleId.parse(id.toString()));
+    }
+
+    @Test
+    void sameDateGivesTheSameDailyPuzzle() {
+        LocalDate date = LocalDate.of(2026, 3, 14);
+        PuzzleId today = PuzzleId.daily(date, BoardGeometry.SIX_BY_SIX, Difficulty.EASY);
+        assertEquals(today, PuzzleId.daily(LocalDate.of(2026, 3, 14), BoardGeometry.SIX_BY_SIX, Difficulty.EASY));
+        assertArrayEquals(today.generate().getPuzzle(),
+                PuzzleId.daily(date, BoardGeometry.SIX_BY_SIX, Difficulty.EASY).generate().getPuzzle());
+
+        PuzzleId tomorrow = PuzzleId.daily(date.plusDays(1), BoardGeometry.SIX_BY_SIX, Difficulty.EASY);
+        assertNotEquals(today.getSeed(), tomorrow.getSeed());
+        assertNotEquals(today.getSeed() + 1, tomorrow.getSeed(), "días seguidos no deben tener semillas seguidas");
+    }
+
+    @Test
+    void unreachableDifficultiesAreRejected() {
+        BoardGeometry fourByFour = new BoardGeometry(2, 2);
+        assertThrows(IllegalArgumentException.class, () -> new PuzzleId(BoardGeometry.SIX_BY_SIX, Difficulty.HARD, 1));
+        assertThrows(IllegalArgumentException.class, () -> new PuzzleId(BoardGeometry.SIX_BY_SIX, Difficulty.EXPERT, 1));
+        assertThrows(IllegalArgumentException.class, () -> new PuzzleId(fourByFour, Difficulty.MEDIUM, 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> PuzzleId.daily(LocalDate.of(2026, 3, 14), BoardGeometry.SIX_BY_SIX, Difficulty.EXPERT));
+        assertThrows(IllegalArgumentException.class, () -> PuzzleId.random(fourByFour, Difficulty.HARD));
+        assertThrows(IllegalArgumentException.class, () -> PuzzleId.parse("2x3-hard-0000000000000001"));
+
+        // Las dificultades alcanzables de cada geometría se aceptan
+        new PuzzleId(fourByFour, Difficulty.EASY, 1);
+        new PuzzleId(BoardGeometry.SIX_BY_SIX, Difficulty.MEDIUM, 1);
+        new PuzzleId(BoardGeometry.NINE_BY_NINE, Difficulty.EXPERT, 1);
+    }
+
+    @Test
+    void malformedIdsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> PuzzleId.parse("3x3-easy"));
+        assertThrows(IllegalArgumentException.class, () -> PuzzleId.parse("3x3-trivial-0000000000000001"));
+        assertThrows(IllegalArgumentException.class, () -> PuzzleId.parse("33-easy-0000000000000001"));
+        assertThrows(IllegalArgumentException.class, () -> PuzzleId.parse("3x3-easy-00000000000000001"));
+    }
+}
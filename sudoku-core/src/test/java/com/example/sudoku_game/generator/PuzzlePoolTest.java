@@ -0,0 +1,67 @@
+package com.example.sudoku_game.generator;
+
+import com.example.sudoku_game.models.BoardGeometry;
+import com.example.sudoku_game.models.PuzzleMode;
+import com.example.sudoku_game.solver.DancingLinksSolver;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas de {@link PuzzlePool}: con la cola vacía, los puzzles derivados salen de bases de
+ * repuesto que no se entregaron, así que dos puzzles seguidos nunca son equivalentes, y una
+ * reserva compartida cerrada se reemplaza por otra.
+ *
+ * @author Juan Pablo Escamilla
+ */
+class PuzzlePoolTest {
+    private static final BoardGeometry GEOMETRY = BoardGeometry.SIX_BY_SIX;
+
+    @Test
+    void consecutivePuzzlesAreNeverEquivalent() throws InterruptedException {
+        try (PuzzlePool pool = new PuzzlePool(GEOMETRY, PuzzleMode.UNIQUE, 1)) {
+            long deadline = System.nanoTime() + 10_000_000_000L;
+            while ((pool.size() < 1 || pool.getSpareCount() < PuzzlePool.SPARE_BASES) && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(PuzzlePool.SPARE_BASES, pool.getSpareCount());
+
+            GridTransformer transformer = new GridTransformer(GEOMETRY);
+            DancingLinksSolver solver = new DancingLinksSolver();
+            byte[] previous = null;
+            for (int i = 0; i < 40; i++) {
+                PuzzleRecord puzzle = pool.take();
+                byte[] canonical = transformer.canonicalForm(puzzle.getPuzzle());
+                assertFalse(Arrays.equals(previous, canonical), "el puzzle " + i + " es equivalente al anterior");
+                assertEquals(1, solver.countSolutions(grid(puzzle.getPuzzle()), GEOMETRY, 2));
+                previous = canonical;
+            }
+            assertTrue(pool.getMisses() > 0, "la cola de un puzzle debe quedarse vacía");
+        }
+    }
+
+    @Test
+    void closedSharedPoolIsReplaced() {
+        PuzzlePool pool = PuzzlePool.shared(GEOMETRY);
+        assertSame(pool, PuzzlePool.shared(GEOMETRY));
+        pool.close();
+        PuzzlePool replacement = PuzzlePool.shared(GEOMETRY);
+        assertNotSame(pool, replacement);
+        assertEquals(GEOMETRY, replacement.take().getGeometry());
+    }
+
+    private static int[][] grid(byte[] cells) {
+        int size = GEOMETRY.getSize();
+        int[][] grid = new int[size][size];
+        for (int cell = 0; cell < cells.length; cell++) {
+            grid[cell / size][cell % size] = cells[cell];
+        }
+        return grid;
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.sudoku_game.generator;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas del índice de {@link SolutionCatalog}: cada índice da una solución válida de 6x6,
+ * índices distintos dan cuadrículas distintas y el archivo guardado se lee igual.
+ *
+ * @author Juan Pablo Escamilla
+ */
+class SolutionCatalogTest {
+    private static final int SIZE = 6;
+
+    private static SolutionCatalog catalog;
+
+    @TempDir
+    Path directory;
+
+    @BeforeAll
+    static void buildCatalog() {
+        catalog = SolutionCatalog.build();
+    }
+
+    @Test
+    void firstRowIsTheDigitPermutation() {
+        assertEquals(SolutionCatalog.GRID_COUNT, catalog.size());
+        assertArrayEquals(new byte[]{1, 2, 3, 4, 5, 6}, Arrays.copyOf(catalog.getGrid(0), SIZE));
+        // Los índices consecutivos recorren las 720 permutaciones de la misma base
+        assertArrayEquals(new byte[]{1, 2, 3, 4, 6, 5}, Arrays.copyOf(catalog.getGrid(1), SIZE));
+        assertArrayEquals(new byte[]{6, 5, 4, 3, 2, 1},
+                Arrays.copyOf(catalog.getGrid(SolutionCatalog.PERMUTATION_COUNT - 1), SIZE));
+        assertArrayEquals(new byte[]{1, 2, 3, 4, 5, 6},
+                Arrays.copyOf(catalog.getGrid(SolutionCatalog.PERMUTATION_COUNT), SIZE));
+    }
+
+    @Test
+    void sampledGridsAreValidAndDistinct() {
+        SplittableRandom random = new SplittableRandom(3);
+        Set<Long> indices = new HashSet<>();
+        indices.add(0L);
+        indices.add(SolutionCatalog.GRID_COUNT - 1);
+        while (indices.size() < 2000) {
+            indices.add(random.nextLong(SolutionCatalog.GRID_COUNT));
+        }
+        Set<String> grids = new HashSet<>();
+        byte[] out = new byte[SIZE * SIZE];
+        for (long index : indices) {
+            byte[] grid = catalog.getGrid(index);
+            assertTrue(isValid(grid), "cuadrícula " + index);
+            catalog.getGrid(index, out);
+            assertArrayEquals(grid, out);
+            assertTrue(grids.add(Arrays.toString(grid)), "la cuadrícula " + index + " se repite");
+        }
+    }
+
+    @Test
+    void indexOutOfRangeIsRejected() {
+        assertThrows(IndexOutOfBoundsException.class, () -> catalog.getGrid(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> catalog.getGrid(SolutionCatalog.GRID_COUNT));
+    }
+
+    @Test
+    void writtenCatalogOpensWithTheSameGrids() throws IOException {
+        Path path = directory.resolve("catalogo.bin");
+        catalog.write(path);
+        SolutionCatalog opened = SolutionCatalog.open(path);
+        SplittableRandom random = new SplittableRandom(5);
+        for (int i = 0; i < 1000; i++) {
+            long index = random.nextLong(SolutionCatalog.GRID_COUNT);
+            assertArrayEquals(catalog.getGrid(index), opened.getGrid(index));
+        }
+
+        Files.write(path, new byte[16]);
+        assertThrows(IOException.class, () -> SolutionCatalog.open(path));
+    }
+
+    /**
+     * Comprueba que cada fila, columna y caja de 2x3 contenga los dígitos del 1 al 6.
+     */
+    private static boolean isValid(byte[] grid) {
+        int full = (1 << SIZE) - 1;
+        int[] rows = new int[SIZE];
+        int[] cols = new int[SIZE];
+        int[] boxes = new int[SIZE];
+        for (int cell = 0; cell < grid.length; cell++) {
+            int row = cell / SIZE;
+            int col = cell % SIZE;
+            int bit = 1 << (grid[cell] - 1);
+            rows[row] |= bit;
+            cols[col] |= bit;
+            boxes[(row / 2) * 2 + col / 3] |= bit;
+        }
+        for (int unit = 0; unit < SIZE; unit++) {
+            if (rows[unit] != full || cols[unit] != full || boxes[unit] != full) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.sudoku_game.interfaces;
+
+import com.example.sudoku_game.models.BoardGeometry;
+import com.example.sudoku_game.models.BoardModel;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas de {@link BitmaskValidation}: sus respuestas, calculadas con las máscaras del
+ * tablero, coinciden con las de {@link ValidationClass}, que recorre las celdas, en tableros
+ * vacíos, incompletos, resueltos y con conflictos.
+ *
+ * @author Juan Pablo Escamilla
+ */
+class BitmaskValidationTest {
+    private final ValidationClass scan = new ValidationClass();
+    private final BitmaskValidation bitmask = new BitmaskValidation();
+
+    @Test
+    void solvedBoardIsValidWithBothValidators() {
+        for (BoardGeometry geometry : new BoardGeometry[]{BoardGeometry.SIX_BY_SIX, BoardGeometry.NINE_BY_NINE}) {
+            BoardModel board = solvedBoard(geometry, 3);
+            assertTrue(scan.isValidBoard(board));
+            assertTrue(bitmask.isValidBoard(board));
+
+            board = new BoardModel(geometry, false);
+            assertFalse(scan.isValidBoard(board));
+            assertFalse(bitmask.isValidBoard(board));
+        }
+    }
+
+    @Test
+    void validatorsAgreeAfterRandomMoves() {
+        for (BoardGeometry geometry : new BoardGeometry[]{BoardGeometry.SIX_BY_SIX, BoardGeometry.NINE_BY_NINE}) {
+            BoardModel board = solvedBoard(geometry, 4);
+            int[][] solution = board.getSolution();
+            int size = geometry.getSize();
+            SplittableRandom random = new SplittableRandom(5);
+            int validBoards = 0;
+            for (int move = 0; move < 3000; move++) {
+                int row = random.nextInt(size);
+                int col = random.nextInt(size);
+                // La mitad de las jugadas devuelven la celda a su solución, para volver a tableros válidos
+                board.setCell(row, col, random.nextBoolean() ? solution[row][col] : random.nextInt(size + 1));
+
+                boolean valid = scan.isValidBoard(board);
+                assertEquals(valid, bitmask.isValidBoard(board), geometry + ", jugada " + move);
+                if (valid) {
+                    validBoards++;
+                }
+                for (int r = 0; r < size; r++) {
+                    for (int c = 0; c < size; c++) {
+                        assertEquals(scan.hasConflict(board, r, c), bitmask.hasConflict(board, r, c));
+                    }
+                }
+                for (int value = 0; value <= size; value++) {
+                    assertEquals(scan.isValidMove(board, row, col, value), bitmask.isValidMove(board, row, col, value));
+                }
+            }
+            assertTrue(validBoards > 0, "la prueba debe pasar también por tableros resueltos");
+        }
+    }
+
+    /**
+     * Genera un puzzle y completa sus celdas libres con la solución.
+     */
+    private static BoardModel solvedBoard(BoardGeometry geometry, long seed) {
+        BoardModel board = new BoardModel(geometry, false);
+        board.generateBoard(seed);
+        int[][] solution = board.getSolution();
+        for (int row = 0; row < geometry.getSize(); row++) {
+            for (int col = 0; col < geometry.getSize(); col++) {
+                board.setCell(row, col, solution[row][col]);
+            }
+        }
+        return board;
+    }
+}
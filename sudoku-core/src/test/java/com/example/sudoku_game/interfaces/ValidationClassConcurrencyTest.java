@@ -0,0 +1,142 @@
+package com.example.sudoku_game.interfaces;
+
+import com.example.sudoku_game.models.BoardGeometry;
+import com.example.sudoku_game.models.BoardModel;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Prueba de concurrencia de {@link ValidationClass}: varios hilos validan el mismo
+ * {@link BoardModel} mientras otro hilo escribe en él.
+ * El escritor solo cambia celdas de la primera caja, así que las jugadas de las celdas que
+ * no comparten fila, columna ni caja con ella (filas y columnas 3 a 8) tienen un resultado
+ * fijo, que debe coincidir con el de {@link BitmaskValidation} incluso durante las escrituras.
+ *
+ * @author Juan Pablo Escamilla
+ */
+class ValidationClassConcurrencyTest {
+    private static final int READERS = 4;
+    private static final int WRITES = 20_000;
+    private static final String READER_PREFIX = "lector-";
+
+    @Test
+    void validatesConcurrentlyWithoutWritingAndAgreesWithBitmaskValidation() throws InterruptedException {
+        BoardModel board = new BoardModel(BoardGeometry.NINE_BY_NINE, false);
+        board.generateBoard(42);
+        SplittableRandom random = new SplittableRandom(7);
+
+        // Algunos valores al azar fuera de la primera caja, para que haya conflictos que detectar
+        for (int i = 0; i < 12; i++) {
+            board.setCell(3 + random.nextInt(6), 3 + random.nextInt(6), 1 + random.nextInt(9));
+        }
+        List<int[]> writable = new ArrayList<>();
+        for (int row = 0; row < 3; row++) {
+            for (int col = 0; col < 3; col++) {
+                if (!board.getCell(row, col).isLocked()) {
+                    writable.add(new int[]{row, col});
+                }
+            }
+        }
+        assertFalse(writable.isEmpty(), "la primera caja debe tener celdas editables");
+
+        // Cualquier cambio hecho desde un hilo lector sería una escritura de la validación
+        AtomicInteger readerWrites = new AtomicInteger();
+        board.addBoardListener(new BoardListener() {
+            @Override
+            public void cellValueChanged(int row, int col, int oldValue, int newValue) {
+                countIfReader();
+            }
+
+            @Override
+            public void cellStateChanged(int row, int col) {
+                countIfReader();
+            }
+
+            @Override
+            public void boardChanged() {
+                countIfReader();
+            }
+
+            private void countIfReader() {
+                if (Thread.currentThread().getName().startsWith(READER_PREFIX)) {
+                    readerWrites.incrementAndGet();
+                }
+            }
+        });
+
+        ValidationClass validator = new ValidationClass();
+        BitmaskValidation reference = new BitmaskValidation();
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger mismatches = new AtomicInteger();
+        AtomicInteger checks = new AtomicInteger();
+        AtomicInteger failures = new AtomicInteger();
+        Thread[] readers = new Thread[READERS];
+        Thread writer = new Thread(() -> {
+            SplittableRandom writes = new SplittableRandom(11);
+            for (int i = 0; i < WRITES; i++) {
+                int[] cell = writable.get(writes.nextInt(writable.size()));
+                board.setCell(cell[0], cell[1], writes.nextInt(10));
+            }
+        }, "escritor");
+        for (int r = 0; r < READERS; r++) {
+            readers[r] = new Thread(() -> {
+                try {
+                    start.await();
+                    while (writer.isAlive()) {
+                        for (int row = 3; row < 9; row++) {
+                            for (int col = 3; col < 9; col++) {
+                                for (int value = 1; value <= 9; value++) {
+                                    if (validator.isValidMove(board, row, col, value) != reference.isValidMove(board, row, col, value)) {
+                                        mismatches.incrementAndGet();
+                                    }
+                                }
+                                if (validator.hasConflict(board, row, col) != reference.hasConflict(board, row, col)) {
+                                    mismatches.incrementAndGet();
+                                }
+                                checks.incrementAndGet();
+                            }
+                        }
+                        // Depende de las celdas que cambia el escritor: solo se comprueba que no falle
+                        validator.isValidBoard(board);
+                    }
+                } catch (RuntimeException | InterruptedException e) {
+                    failures.incrementAndGet();
+                }
+            }, READER_PREFIX + r);
+            readers[r].start();
+        }
+        writer.start();
+        start.countDown();
+        writer.join();
+        for (Thread reader : readers) {
+            reader.join();
+        }
+
+        assertEquals(0, failures.get(), "ninguna validación debe fallar");
+        assertEquals(0, readerWrites.get(), "la validación no debe modificar el tablero");
+        assertEquals(0, mismatches.get(), "las celdas que no toca el escritor deben coincidir con BitmaskValidation");
+        assertTrue(checks.get() > 0, "los lectores deben validar mientras el escritor escribe");
+
+        // Con el tablero quieto, todas las celdas deben coincidir
+        for (int row = 0; row < 9; row++) {
+            for (int col = 0; col < 9; col++) {
+                for (int value = 0; value <= 9; value++) {
+                    assertEquals(reference.isValidMove(board, row, col, value), validator.isValidMove(board, row, col, value),
+                            "isValidMove(" + row + ", " + col + ", " + value + ")");
+                }
+                assertEquals(reference.hasConflict(board, row, col), validator.hasConflict(board, row, col),
+                        "hasConflict(" + row + ", " + col + ")");
+            }
+        }
+        assertEquals(reference.isValidBoard(board), validator.isValidBoard(board));
+    }
+}
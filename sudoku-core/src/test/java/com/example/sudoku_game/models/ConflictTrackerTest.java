@@ -0,0 +1,99 @@
+package com.example.sudoku_game.models;
+
+import com.example.sudoku_game.interfaces.ValidationClass;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas de {@link ConflictTracker}: tras cada jugada al azar, deshacer, rehacer o cambio
+ * de todo el tablero, las celdas en conflicto coinciden con las que encuentra un recorrido
+ * completo con {@link ValidationClass}, y las celdas avisadas son justo las que cambiaron.
+ *
+ * @author Juan Pablo Escamilla
+ */
+class ConflictTrackerTest {
+    private final ValidationClass validation = new ValidationClass();
+
+    @Test
+    void conflictsMatchAFullScanAfterRandomMoves() {
+        for (BoardGeometry geometry : new BoardGeometry[]{BoardGeometry.SIX_BY_SIX, BoardGeometry.NINE_BY_NINE}) {
+            BoardModel board = new BoardModel(geometry, false);
+            board.generateBoard(21);
+            ConflictTracker tracker = new ConflictTracker(board);
+            int size = geometry.getSize();
+            int[] changed = new int[geometry.getCellCount()];
+            boolean[] previous = scan(board);
+            assertMatches(board, tracker, previous);
+            tracker.drainChangedCells(changed);
+
+            SplittableRandom random = new SplittableRandom(22);
+            for (int move = 0; move < 2000; move++) {
+                int choice = random.nextInt(20);
+                boolean wholeBoard = move % 500 == 499;
+                if (wholeBoard) {
+                    board.generateBoard(random.nextLong());
+                } else if (choice == 0) {
+                    board.undo();
+                } else if (choice == 1) {
+                    board.redo();
+                } else {
+                    board.setCell(random.nextInt(size), random.nextInt(size), random.nextInt(size + 1));
+                }
+
+                boolean[] expected = scan(board);
+                assertMatches(board, tracker, expected);
+                Set<Integer> expectedChanges = new HashSet<>();
+                for (int cell = 0; cell < expected.length; cell++) {
+                    if (expected[cell] != previous[cell]) {
+                        expectedChanges.add(cell);
+                    }
+                }
+                Set<Integer> reported = new HashSet<>();
+                int count = tracker.drainChangedCells(changed);
+                for (int i = 0; i < count; i++) {
+                    reported.add(changed[i]);
+                }
+                // Tras un cambio de todo el tablero se pueden avisar también celdas sin cambios
+                if (wholeBoard) {
+                    assertTrue(reported.containsAll(expectedChanges), geometry + ", jugada " + move);
+                } else {
+                    assertEquals(expectedChanges, reported, geometry + ", jugada " + move);
+                }
+                previous = expected;
+            }
+        }
+    }
+
+    /**
+     * Marca las celdas con un valor que no sería válido en su posición.
+     */
+    private boolean[] scan(BoardModel board) {
+        int size = board.getBoardSize();
+        boolean[] conflicting = new boolean[size * size];
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                int value = board.getCell(row, col).getValue();
+                conflicting[row * size + col] = value != 0 && !validation.isValidMove(board, row, col, value);
+            }
+        }
+        return conflicting;
+    }
+
+    private static void assertMatches(BoardModel board, ConflictTracker tracker, boolean[] expected) {
+        int size = board.getBoardSize();
+        int count = 0;
+        for (int cell = 0; cell < expected.length; cell++) {
+            assertEquals(expected[cell], tracker.isConflicting(cell / size, cell % size), "celda " + cell);
+            if (expected[cell]) {
+                count++;
+            }
+        }
+        assertEquals(count, tracker.getConflictCount());
+    }
+}
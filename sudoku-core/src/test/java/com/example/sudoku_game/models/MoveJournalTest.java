@@ -0,0 +1,116 @@
+package com.example.sudoku_game.models;
+
+import com.example.sudoku_game.generator.PuzzleGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas de {@link MoveJournal} y de la navegación por el historial de {@link BoardModel}:
+ * deshacer, rehacer, descartar las jugadas rehechas al jugar de nuevo y saltar a una jugada.
+ *
+ * @author Juan Pablo Escamilla
+ */
+class MoveJournalTest {
+    @Test
+    void entriesPackCellAndValues() {
+        MoveJournal journal = new MoveJournal();
+        // La mayor celda y el mayor valor de un tablero de 25x25
+        journal.record(624, 0, 25);
+        journal.record(3, 25, 7);
+        int last = journal.get(0);
+        assertEquals(624, MoveJournal.cellOf(last));
+        assertEquals(0, MoveJournal.oldValueOf(last));
+        assertEquals(25, MoveJournal.newValueOf(last));
+        int entry = journal.get(1);
+        assertEquals(3, MoveJournal.cellOf(entry));
+        assertEquals(25, MoveJournal.oldValueOf(entry));
+        assertEquals(7, MoveJournal.newValueOf(entry));
+    }
+
+    @Test
+    void undoAndRedoMoveThroughTheHistory() {
+        MoveJournal journal = new MoveJournal();
+        assertFalse(journal.canUndo());
+        assertFalse(journal.canRedo());
+        assertThrows(IllegalStateException.class, journal::undo);
+        assertThrows(IllegalStateException.class, journal::redo);
+
+        for (int move = 0; move < 40; move++) {
+            journal.record(move, 0, 1 + move % 9);
+        }
+        assertEquals(40, journal.getPosition());
+        assertEquals(39, MoveJournal.cellOf(journal.undo()));
+        assertEquals(38, MoveJournal.cellOf(journal.undo()));
+        assertTrue(journal.canRedo());
+        assertEquals(38, journal.getPosition());
+        assertEquals(40, journal.getSize());
+        assertEquals(38, MoveJournal.cellOf(journal.redo()));
+        assertEquals(39, journal.getPosition());
+    }
+
+    @Test
+    void recordingAfterUndoDiscardsTheRedoTail() {
+        MoveJournal journal = new MoveJournal();
+        journal.record(0, 0, 1);
+        journal.record(1, 0, 2);
+        journal.record(2, 0, 3);
+        journal.undo();
+        journal.undo();
+        journal.record(5, 0, 4);
+        assertFalse(journal.canRedo());
+        assertEquals(2, journal.getSize());
+        assertEquals(5, MoveJournal.cellOf(journal.get(1)));
+        assertThrows(IndexOutOfBoundsException.class, () -> journal.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> journal.get(-1));
+
+        journal.clear();
+        assertFalse(journal.canUndo());
+        assertEquals(0, journal.getSize());
+    }
+
+    @Test
+    void boardJumpsToAnyMoveOfItsHistory() {
+        BoardGeometry geometry = BoardGeometry.SIX_BY_SIX;
+        BoardModel board = new BoardModel(geometry, false);
+        board.loadPuzzle(new PuzzleGenerator(geometry, PuzzleMode.UNIQUE, new SplittableRandom(4)).generate());
+        int[][] solution = board.getSolution();
+        List<PackedBoard> states = new ArrayList<>();
+        states.add(board.toPackedBoard());
+        for (int row = 0; row < 6; row++) {
+            for (int col = 0; col < 6; col++) {
+                if (!board.getCell(row, col).isLocked()) {
+                    board.setCell(row, col, solution[row][col]);
+                    states.add(board.toPackedBoard());
+                }
+            }
+        }
+        MoveJournal journal = board.getMoveJournal();
+        int moves = states.size() - 1;
+        assertEquals(moves, journal.getSize());
+
+        assertTrue(board.undo());
+        assertEquals(states.get(moves - 1), board.toPackedBoard());
+        assertTrue(board.redo());
+        assertFalse(board.redo());
+        assertEquals(states.get(moves), board.toPackedBoard());
+
+        int[] targets = {0, moves / 2, 1, moves, moves - 3, 0};
+        for (int target : targets) {
+            board.jumpToMove(target);
+            assertEquals(target, journal.getPosition());
+            assertEquals(states.get(target), board.toPackedBoard(), "jugada " + target);
+        }
+        assertFalse(board.undo());
+        assertEquals(moves, journal.getSize(), "saltar no cambia el historial");
+        assertThrows(IllegalArgumentException.class, () -> board.jumpToMove(moves + 1));
+        assertThrows(IllegalArgumentException.class, () -> board.jumpToMove(-1));
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.sudoku_game.models;
+
+import com.example.sudoku_game.generator.PuzzleGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas de {@link PackedBoard}: los valores y estados se guardan por separado, la copia es
+ * independiente, la igualdad depende de todo el estado y un tablero pasa de
+ * {@link BoardModel} al formato compacto y de vuelta sin cambios.
+ *
+ * @author Juan Pablo Escamilla
+ */
+class PackedBoardTest {
+    @Test
+    void valuesAndFlagsAreIndependent() {
+        // 12x12 tiene 144 celdas: las banderas ocupan más de una palabra
+        BoardGeometry geometry = BoardGeometry.TWELVE_BY_TWELVE;
+        PackedBoard board = new PackedBoard(geometry);
+        board.setValue(11, 11, 12);
+        board.setLocked(11, 11, true);
+        board.setHighlighted(0, 0, true);
+
+        assertEquals(12, board.getValue(11, 11));
+        assertTrue(board.isLocked(11, 11));
+        assertFalse(board.isHighlighted(11, 11));
+        assertEquals(0, board.getValue(0, 0));
+        assertFalse(board.isLocked(0, 0));
+        assertTrue(board.isHighlighted(0, 0));
+
+        board.setLocked(11, 11, false);
+        assertFalse(board.isLocked(11, 11));
+        assertEquals(12, board.getValue(11, 11));
+    }
+
+    @Test
+    void copyIsIndependentAndEqual() {
+        PackedBoard board = new PackedBoard(BoardGeometry.NINE_BY_NINE);
+        board.setValue(4, 4, 7);
+        board.setLocked(4, 4, true);
+        PackedBoard copy = board.copy();
+        assertEquals(board, copy);
+        assertEquals(board.hashCode(), copy.hashCode());
+
+        copy.setValue(0, 0, 1);
+        assertEquals(0, board.getValue(0, 0));
+        assertNotEquals(board, copy);
+    }
+
+    @Test
+    void equalityDependsOnValuesFlagsAndGeometry() {
+        PackedBoard board = new PackedBoard(BoardGeometry.SIX_BY_SIX);
+        board.setValue(2, 3, 5);
+        PackedBoard same = new PackedBoard(BoardGeometry.SIX_BY_SIX);
+        same.setValue(2, 3, 5);
+        assertEquals(board, same);
+        assertEquals(board.hashCode(), same.hashCode());
+
+        PackedBoard locked = same.copy();
+        locked.setLocked(2, 3, true);
+        assertNotEquals(board, locked);
+        PackedBoard highlighted = same.copy();
+        highlighted.setHighlighted(2, 3, true);
+        assertNotEquals(board, highlighted);
+        assertNotEquals(locked, highlighted, "bloqueada y resaltada son estados distintos");
+
+        // Mismas celdas vacías y 36 celdas, pero otra forma de caja
+        assertNotEquals(new PackedBoard(BoardGeometry.SIX_BY_SIX), new PackedBoard(new BoardGeometry(3, 2)));
+        assertNotEquals(board, null);
+        assertNotEquals(board, "tablero");
+    }
+
+    @Test
+    void boardModelRoundTripsThroughPackedBoard() {
+        BoardGeometry geometry = BoardGeometry.NINE_BY_NINE;
+        BoardModel model = new BoardModel(geometry, false);
+        model.loadPuzzle(new PuzzleGenerator(geometry, PuzzleMode.UNIQUE, new SplittableRandom(9)).generate());
+        int[][] solution = model.getSolution();
+        for (int col = 0; col < 9; col++) {
+            if (!model.getCell(0, col).isLocked()) {
+                model.setCell(0, col, solution[0][col]);
+                model.getCell(0, col).setHighlighted(true);
+            }
+        }
+        PackedBoard packed = model.toPackedBoard();
+        for (int row = 0; row < 9; row++) {
+            for (int col = 0; col < 9; col++) {
+                CellModel cell = model.getCell(row, col);
+                assertEquals(cell.getValue(), packed.getValue(row, col));
+                assertEquals(cell.isLocked(), packed.isLocked(row, col));
+                assertEquals(cell.isHighlighted(), packed.isHighlighted(row, col));
+            }
+        }
+
+        BoardModel restored = new BoardModel(geometry, false);
+        restored.loadPackedBoard(packed, solution);
+        assertEquals(packed, restored.toPackedBoard());
+        assertEquals(model.getFilledCellCount(), restored.getFilledCellCount());
+        assertThrows(IllegalArgumentException.class,
+                () -> restored.loadPackedBoard(new PackedBoard(BoardGeometry.SIX_BY_SIX)));
+    }
+}
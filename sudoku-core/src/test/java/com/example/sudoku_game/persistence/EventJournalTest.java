@@ -0,0 +1,204 @@
+package com.example.sudoku_game.persistence;
+
+import com.example.sudoku_game.models.BoardGeometry;
+import com.example.sudoku_game.models.PackedBoard;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas de {@link EventJournal}: los eventos registrados se vuelven a leer en orden, cada
+ * instantánea empieza un segmento sin borrar los anteriores, el último estado se reconstruye
+ * desde la última instantánea y un final incompleto o dañado se recorta al abrir el diario.
+ *
+ * @author Juan Pablo Escamilla
+ */
+class EventJournalTest {
+    private static final BoardGeometry GEOMETRY = BoardGeometry.SIX_BY_SIX;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void eventsAreReadBackInOrder() throws IOException {
+        Path path = directory.resolve("diario.log");
+        SavedGame start = GameSaveStoreTest.game(GEOMETRY, 1, 0);
+        int cell = firstEmptyCell(start.getBoard());
+        try (EventJournal journal = EventJournal.open(path)) {
+            assertTrue(journal.getRecoveredEvents().isEmpty());
+            journal.logSnapshot(GameEventType.NEW_GAME, start);
+            journal.logCellChange(GameEventType.MOVE, cell, 0, 3);
+            journal.logCellChange(GameEventType.UNDO, cell, 3, 0);
+            journal.logCellChange(GameEventType.REDO, cell, 0, 3);
+        }
+
+        List<GameEvent> events = EventJournal.read(path);
+        assertEquals(Arrays.asList(GameEventType.NEW_GAME, GameEventType.MOVE, GameEventType.UNDO, GameEventType.REDO),
+                events.stream().map(GameEvent::getType).toList());
+        assertEquals(start.getBoard(), events.get(0).getSnapshot().getBoard());
+        assertEquals(cell, events.get(1).getCell());
+        assertEquals(0, events.get(1).getOldValue());
+        assertEquals(3, events.get(1).getNewValue());
+    }
+
+    @Test
+    void replayStartsAtTheLastSnapshot() throws IOException {
+        Path path = directory.resolve("diario.log");
+        SavedGame first = GameSaveStoreTest.game(GEOMETRY, 2, 1000);
+        SavedGame second = GameSaveStoreTest.game(GEOMETRY, 3, 5000);
+        int size = GEOMETRY.getSize();
+        int moveCell = firstEmptyCell(second.getBoard());
+        int hintCell = nextEmptyCell(second.getBoard(), moveCell);
+        try (EventJournal journal = EventJournal.open(path)) {
+            journal.logSnapshot(GameEventType.NEW_GAME, first);
+            journal.logCellChange(GameEventType.MOVE, firstEmptyCell(first.getBoard()), 0, 1);
+            journal.logSnapshot(GameEventType.RESUME, second);
+            journal.logCellChange(GameEventType.MOVE, moveCell, 0, 4);
+            journal.logCellChange(GameEventType.HINT, hintCell, 0, 2);
+        }
+
+        try (EventJournal journal = EventJournal.open(path)) {
+            assertEquals(Arrays.asList(GameEventType.RESUME, GameEventType.MOVE, GameEventType.HINT),
+                    journal.getRecoveredEvents().stream().map(GameEvent::getType).toList());
+            assertEquals(Arrays.asList(GameEventType.NEW_GAME, GameEventType.MOVE),
+                    EventJournal.read(EventJournal.segments(path).get(0)).stream().map(GameEvent::getType).toList());
+            SavedGame recovered = journal.recoverState();
+            PackedBoard expected = second.getBoard().copy();
+            expected.setValue(moveCell / size, moveCell % size, 4);
+            expected.setValue(hintCell / size, hintCell % size, 2);
+            expected.setHighlighted(hintCell / size, hintCell % size, true);
+            assertEquals(expected, recovered.getBoard());
+            assertTrue(Arrays.deepEquals(second.getSolution(), recovered.getSolution()));
+            assertTrue(recovered.getElapsedMillis() >= second.getElapsedMillis());
+        }
+    }
+
+    @Test
+    void eachSnapshotStartsANewSegmentAndKeepsTheOldOnes() throws IOException {
+        Path path = directory.resolve("diario.log");
+        SavedGame first = GameSaveStoreTest.game(GEOMETRY, 6, 0);
+        int cell = firstEmptyCell(first.getBoard());
+        for (int session = 0; session < 5; session++) {
+            try (EventJournal journal = EventJournal.open(path)) {
+                journal.logSnapshot(GameEventType.RESUME, first);
+                for (int move = 0; move < 200; move++) {
+                    journal.logCellChange(GameEventType.MOVE, cell, move % 6, (move + 1) % 6);
+                }
+            }
+        }
+
+        SavedGame second = GameSaveStoreTest.game(GEOMETRY, 7, 2000);
+        try (EventJournal journal = EventJournal.open(path)) {
+            assertEquals(201, journal.getRecoveredEvents().size(), "solo se lee el segmento en curso");
+            journal.logSnapshot(GameEventType.NEW_GAME, second);
+        }
+        List<GameEvent> events = EventJournal.read(path);
+        assertEquals(1, events.size());
+        assertEquals(second.getBoard(), events.get(0).getSnapshot().getBoard());
+
+        List<Path> segments = EventJournal.segments(path);
+        assertEquals(5, segments.size());
+        for (int i = 0; i < segments.size(); i++) {
+            assertEquals(directory.resolve("diario.log." + (i + 1)), segments.get(i));
+            List<GameEvent> archived = EventJournal.read(segments.get(i));
+            assertEquals(201, archived.size(), "el segmento " + (i + 1) + " conserva toda su sesión");
+            assertEquals(GameEventType.RESUME, archived.get(0).getType());
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(6, files.count(), "no deben quedar archivos temporales");
+        }
+    }
+
+    @Test
+    void eventsLoggedAfterCloseAreCountedAsDropped() throws IOException {
+        EventJournal journal = EventJournal.open(directory.resolve("diario.log"));
+        journal.close();
+        journal.logCellChange(GameEventType.MOVE, 0, 0, 1);
+        assertEquals(1, journal.getDroppedCount());
+        assertFalse(journal.isFailed());
+        assertEquals(0, journal.getTrimmedBytes());
+    }
+
+    @Test
+    void replayWithoutSnapshotHasNoState() throws IOException {
+        Path path = directory.resolve("diario.log");
+        try (EventJournal journal = EventJournal.open(path)) {
+            journal.logCellChange(GameEventType.MOVE, 0, 0, 1);
+        }
+        assertNull(EventJournal.replay(EventJournal.read(path)));
+    }
+
+    @Test
+    void tornTailIsTrimmedOnOpen() throws IOException {
+        Path path = directory.resolve("diario.log");
+        SavedGame start = GameSaveStoreTest.game(GEOMETRY, 4, 0);
+        try (EventJournal journal = EventJournal.open(path)) {
+            journal.logSnapshot(GameEventType.NEW_GAME, start);
+            journal.logCellChange(GameEventType.MOVE, firstEmptyCell(start.getBoard()), 0, 5);
+        }
+        long validLength = Files.size(path);
+        byte[] valid = Files.readAllBytes(path);
+
+        // Un registro a medio escribir: la longitud, el tipo y parte de la hora
+        byte[] torn = Arrays.copyOfRange(valid, valid.length - 21, valid.length - 11);
+        Files.write(path, torn, StandardOpenOption.APPEND);
+        try (EventJournal journal = EventJournal.open(path)) {
+            assertEquals(2, journal.getRecoveredEvents().size());
+            assertEquals(torn.length, journal.getTrimmedBytes());
+            assertEquals(validLength, Files.size(path));
+            journal.logCellChange(GameEventType.UNDO, firstEmptyCell(start.getBoard()), 5, 0);
+        }
+        assertEquals(3, EventJournal.read(path).size(), "el evento nuevo sigue a los recuperados");
+    }
+
+    @Test
+    void damagedRecordAndEverythingAfterItAreTrimmed() throws IOException {
+        Path path = directory.resolve("diario.log");
+        SavedGame start = GameSaveStoreTest.game(GEOMETRY, 5, 0);
+        int cell = firstEmptyCell(start.getBoard());
+        try (EventJournal journal = EventJournal.open(path)) {
+            journal.logSnapshot(GameEventType.NEW_GAME, start);
+        }
+        long snapshotLength = Files.size(path);
+        try (EventJournal journal = EventJournal.open(path)) {
+            journal.logCellChange(GameEventType.MOVE, cell, 0, 1);
+            journal.logCellChange(GameEventType.MOVE, cell, 1, 2);
+        }
+
+        // Alterar la hora del primer cambio de celda: su CRC deja de coincidir
+        byte[] bytes = Files.readAllBytes(path);
+        bytes[(int) snapshotLength + 6] ^= 0x01;
+        Files.write(path, bytes);
+        try (EventJournal journal = EventJournal.open(path)) {
+            assertEquals(1, journal.getRecoveredEvents().size());
+            assertEquals(snapshotLength, Files.size(path));
+            assertEquals(start.getBoard(), journal.recoverState().getBoard());
+        }
+    }
+
+    private static int firstEmptyCell(PackedBoard board) {
+        return nextEmptyCell(board, -1);
+    }
+
+    private static int nextEmptyCell(PackedBoard board, int after) {
+        int size = board.getGeometry().getSize();
+        for (int cell = after + 1; cell < size * size; cell++) {
+            if (board.getValue(cell / size, cell % size) == 0) {
+                return cell;
+            }
+        }
+        throw new IllegalStateException("El tablero no tiene más celdas vacías");
+    }
+}
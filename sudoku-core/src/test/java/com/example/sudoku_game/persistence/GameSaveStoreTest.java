@@ -0,0 +1,133 @@
+package com.example.sudoku_game.persistence;
+
+import com.example.sudoku_game.generator.PuzzleGenerator;
+import com.example.sudoku_game.models.BoardGeometry;
+import com.example.sudoku_game.models.BoardModel;
+import com.example.sudoku_game.models.PuzzleMode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas de {@link GameSaveStore}: una partida guardada se vuelve a leer igual, y un
+ * archivo alterado o cortado se rechaza en lugar de cargarse a medias.
+ *
+ * @author Juan Pablo Escamilla
+ */
+class GameSaveStoreTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void savedGameLoadsBackUnchanged() throws IOException {
+        for (BoardGeometry geometry : new BoardGeometry[]{BoardGeometry.SIX_BY_SIX, BoardGeometry.NINE_BY_NINE}) {
+            GameSaveStore store = new GameSaveStore(directory.resolve("partida-" + geometry.getSize() + ".sav"));
+            assertFalse(store.exists());
+            assertNull(store.load(), "una ranura vacía no tiene partida");
+
+            SavedGame game = game(geometry, 7, 123_456L);
+            store.save(game);
+            assertTrue(store.exists());
+            SavedGame loaded = store.load();
+            assertEquals(game.getBoard(), loaded.getBoard());
+            assertTrue(Arrays.deepEquals(game.getSolution(), loaded.getSolution()));
+            assertEquals(123_456L, loaded.getElapsedMillis());
+        }
+    }
+
+    @Test
+    void savingReplacesThePreviousGame() throws IOException {
+        GameSaveStore store = new GameSaveStore(directory.resolve("partida.sav"));
+        store.save(game(BoardGeometry.SIX_BY_SIX, 1, 10));
+        SavedGame second = game(BoardGeometry.SIX_BY_SIX, 2, 20);
+        store.save(second);
+        assertEquals(second.getBoard(), store.load().getBoard());
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(1, files.count(), "no deben quedar archivos temporales");
+        }
+
+        store.delete();
+        assertFalse(store.exists());
+    }
+
+    @Test
+    void savedSixBySixGameTakes102Bytes() throws IOException {
+        GameSaveStore store = new GameSaveStore(directory.resolve("partida.sav"));
+        store.save(game(BoardGeometry.SIX_BY_SIX, 3, 0));
+        assertEquals(102, Files.size(store.getPath()));
+    }
+
+    @Test
+    void flippedByteIsRejected() throws IOException {
+        GameSaveStore store = new GameSaveStore(directory.resolve("partida.sav"));
+        store.save(game(BoardGeometry.SIX_BY_SIX, 4, 5000));
+        byte[] bytes = Files.readAllBytes(store.getPath());
+        for (int i = 0; i < bytes.length; i++) {
+            byte[] damaged = bytes.clone();
+            damaged[i] ^= 0x10;
+            Files.write(store.getPath(), damaged);
+            assertThrows(IOException.class, store::load, "byte " + i + " alterado");
+        }
+    }
+
+    @Test
+    void truncatedFileIsRejected() throws IOException {
+        GameSaveStore store = new GameSaveStore(directory.resolve("partida.sav"));
+        store.save(game(BoardGeometry.SIX_BY_SIX, 5, 5000));
+        byte[] bytes = Files.readAllBytes(store.getPath());
+        for (int length = 0; length < bytes.length; length++) {
+            Files.write(store.getPath(), Arrays.copyOf(bytes, length));
+            assertThrows(IOException.class, store::load, "archivo cortado a " + length + " bytes");
+        }
+    }
+
+    @Test
+    void decodedBytesMatchTheEncodedOnes() throws IOException {
+        SavedGame game = game(BoardGeometry.NINE_BY_NINE, 6, 42);
+        byte[] encoded = GameSaveStore.encode(game).array();
+        SavedGame decoded = GameSaveStore.decode(GameSaveStore.encode(game), "prueba");
+        assertArrayEquals(encoded, GameSaveStore.encode(decoded).array());
+    }
+
+    @Test
+    void boardWithoutPuzzleCannotBeSaved() {
+        BoardModel empty = new BoardModel(BoardGeometry.SIX_BY_SIX, false);
+        assertThrows(IllegalStateException.class, () -> SavedGame.of(empty, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new SavedGame(empty.toPackedBoard(), null, 0));
+    }
+
+    /**
+     * Partida de un puzzle generado con una semilla, con algunas celdas llenas por el jugador
+     * y una pista resaltada.
+     */
+    static SavedGame game(BoardGeometry geometry, long seed, long elapsedMillis) {
+        BoardModel model = new BoardModel(geometry, false);
+        model.loadPuzzle(new PuzzleGenerator(geometry, PuzzleMode.UNIQUE, new SplittableRandom(seed)).generate());
+        int size = geometry.getSize();
+        int placed = 0;
+        for (int cell = 0; cell < geometry.getCellCount() && placed < 3; cell++) {
+            int row = cell / size;
+            int col = cell % size;
+            if (model.getCell(row, col).getValue() == 0) {
+                model.setCell(row, col, model.getSolution()[row][col]);
+                model.getCell(row, col).setHighlighted(placed == 0);
+                placed++;
+            }
+        }
+        return SavedGame.of(model, elapsedMillis);
+    }
+}
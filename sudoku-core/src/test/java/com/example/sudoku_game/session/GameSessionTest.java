@@ -0,0 +1,95 @@
+package com.example.sudoku_game.session;
+
+import com.example.sudoku_game.generator.PuzzleRecord;
+import com.example.sudoku_game.models.BoardGeometry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas de la codificación compacta de {@link GameSession}: una partida decodificada tiene
+ * el mismo tablero, las mismas pistas fijas y el mismo historial, con medio byte por dígito
+ * en tableros pequeños y un byte por dígito a partir de 16x16.
+ *
+ * @author Juan Pablo Escamilla
+ */
+class GameSessionTest {
+    @Test
+    void newNineByNineSessionTakes103Bytes() {
+        GameSession session = GameSession.of(puzzle(BoardGeometry.NINE_BY_NINE));
+        byte[] encoded = session.encode();
+        assertEquals(103, encoded.length);
+        assertArrayEquals(encoded, GameSession.decode(encoded).encode());
+    }
+
+    @Test
+    void decodedSessionKeepsBoardAndHistory() {
+        for (BoardGeometry geometry : new BoardGeometry[]{BoardGeometry.NINE_BY_NINE, BoardGeometry.SIXTEEN_BY_SIXTEEN}) {
+            PuzzleRecord puzzle = puzzle(geometry);
+            GameSession session = GameSession.of(puzzle);
+            byte[] solution = puzzle.getSolution();
+            int size = geometry.getSize();
+            int played = 0;
+            for (int cell = 0; cell < solution.length && played < 6; cell++) {
+                if (puzzle.getPuzzle()[cell] == 0) {
+                    session.play(cell / size, cell % size, solution[cell]);
+                    played++;
+                }
+            }
+            assertTrue(session.undo());
+            assertTrue(session.undo());
+
+            GameSession decoded = GameSession.decode(session.encode());
+            assertArrayEquals(session.getValues(), decoded.getValues());
+            assertArrayEquals(session.encode(), decoded.encode());
+            assertEquals(MoveResult.LOCKED, decoded.play(0, 0, 1), "la celda (0, 0) es una pista fija");
+
+            // El historial conserva la posición: se pueden rehacer las dos jugadas deshechas
+            assertTrue(decoded.redo());
+            assertTrue(session.redo());
+            assertArrayEquals(session.getValues(), decoded.getValues());
+            assertTrue(decoded.redo());
+            assertFalse(decoded.redo());
+        }
+    }
+
+    @Test
+    void decodedSessionIsSolvedWhenTheOriginalWas() {
+        PuzzleRecord puzzle = puzzle(BoardGeometry.SIX_BY_SIX);
+        GameSession session = GameSession.of(puzzle);
+        byte[] solution = puzzle.getSolution();
+        MoveResult last = null;
+        for (int cell = 0; cell < solution.length; cell++) {
+            if (puzzle.getPuzzle()[cell] == 0) {
+                last = session.play(cell / 6, cell % 6, solution[cell]);
+            }
+        }
+        assertEquals(MoveResult.SOLVED, last);
+        assertTrue(GameSession.decode(session.encode()).isSolved());
+        assertTrue(session.undo());
+        assertFalse(GameSession.decode(session.encode()).isSolved());
+    }
+
+    /**
+     * Puzzle con la solución del patrón de desplazamientos por filas y la mitad de las
+     * celdas vacías, empezando por la segunda.
+     */
+    private static PuzzleRecord puzzle(BoardGeometry geometry) {
+        int size = geometry.getSize();
+        int boxHeight = geometry.getBoxHeight();
+        int boxWidth = geometry.getBoxWidth();
+        byte[] solution = new byte[geometry.getCellCount()];
+        byte[] puzzle = new byte[solution.length];
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                int cell = row * size + col;
+                solution[cell] = (byte) (((row % boxHeight) * boxWidth + row / boxHeight + col) % size + 1);
+                puzzle[cell] = cell % 2 == 0 ? solution[cell] : 0;
+            }
+        }
+        return new PuzzleRecord(geometry, puzzle, solution);
+    }
+}
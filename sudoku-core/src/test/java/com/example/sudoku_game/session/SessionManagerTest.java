@@ -0,0 +1,75 @@
+package com.example.sudoku_game.session;
+
+import com.example.sudoku_game.generator.PuzzleRecord;
+import com.example.sudoku_game.models.BoardGeometry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Pruebas del desalojo y la caducidad de las partidas de {@link SessionManager}: una partida
+ * desalojada se reconstruye al usarla, y una que sigue sin usarse hasta la caducidad se descarta.
+ *
+ * @author Juan Pablo Escamilla
+ */
+class SessionManagerTest {
+    private static final BoardGeometry GEOMETRY = BoardGeometry.SIX_BY_SIX;
+
+    @Test
+    void evictedGameIsRestoredWhenUsed() {
+        try (SessionManager manager = new SessionManager()) {
+            long id = manager.create(puzzle());
+            manager.play(id, 0, 1, 2);
+            byte[] board = manager.getValues(id);
+
+            assertEquals(1, manager.evictIdle(Duration.ZERO));
+            assertEquals(0, manager.getLiveCount());
+            assertEquals(1, manager.getEvictedCount());
+            assertArrayEquals(board, manager.getValues(id));
+            assertEquals(1, manager.getLiveCount());
+            assertEquals(0, manager.getEvictedCount());
+        }
+    }
+
+    @Test
+    void evictedGameIsDiscardedAfterTheExpiry() throws InterruptedException {
+        try (SessionManager manager = new SessionManager(Duration.ofMillis(100), Duration.ofMillis(300))) {
+            long id = manager.create(puzzle());
+            Thread.sleep(600);
+            manager.evictIdle();
+            assertEquals(0, manager.getLiveCount());
+            assertEquals(0, manager.getEvictedCount());
+            assertThrows(NoSuchElementException.class, () -> manager.getValues(id));
+            assertFalse(manager.remove(id));
+        }
+    }
+
+    @Test
+    void expiryShorterThanTheIdleTimeoutIsRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new SessionManager(Duration.ofMinutes(5), Duration.ofMinutes(1)));
+    }
+
+    /**
+     * Puzzle de 6x6 con la solución del patrón de desplazamientos por filas y la primera fila vacía.
+     */
+    private static PuzzleRecord puzzle() {
+        byte[] solution = new byte[36];
+        for (int row = 0; row < 6; row++) {
+            for (int col = 0; col < 6; col++) {
+                solution[row * 6 + col] = (byte) (((row % 2) * 3 + row / 2 + col) % 6 + 1);
+            }
+        }
+        byte[] puzzle = solution.clone();
+        for (int col = 0; col < 6; col++) {
+            puzzle[col] = 0;
+        }
+        return new PuzzleRecord(GEOMETRY, puzzle, solution);
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.sudoku_game.solver;
+
+import com.example.sudoku_game.generator.PuzzleRecord;
+import com.example.sudoku_game.models.BoardGeometry;
+import com.example.sudoku_game.models.BoardModel;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas de la detección de contradicciones de {@link CandidateGrid}: una celda vacía sin
+ * candidatos o un dígito sin sitio en una unidad dejan la cuadrícula sin solución, y ni el
+ * {@link LogicalSolver} ni las pistas del tablero deben seguir deduciendo a partir de ella.
+ *
+ * @author Juan Pablo Escamilla
+ */
+class CandidateGridTest {
+    private static final BoardGeometry GEOMETRY = BoardGeometry.NINE_BY_NINE;
+    private static final int SIZE = 9;
+
+    @Test
+    void emptyCellWithoutCandidatesIsAContradiction() {
+        CandidateGrid grid = new CandidateGrid(GEOMETRY);
+        // La fila 0 descarta del 1 al 8 en la celda (0, 8) y la columna 8 descarta el 9
+        for (int col = 0; col < 8; col++) {
+            assertTrue(grid.place(col, col + 1));
+        }
+        assertFalse(grid.hasContradiction());
+        assertTrue(grid.place(SIZE + 8, 9));
+        assertTrue(grid.hasContradiction());
+        assertNull(new LogicalSolver().advanceToPlacement(grid));
+    }
+
+    @Test
+    void placementLeavingADigitWithoutPlaceInAUnitIsAContradiction() {
+        CandidateGrid grid = new CandidateGrid(GEOMETRY);
+        // Un 1 en (0, 8) y nueves que quitan el 9 de las demás celdas de la fila 0, que siguen teniendo candidatos
+        assertTrue(grid.place(8, 1));
+        int[][] nines = {{1, 0}, {2, 3}, {3, 6}};
+        for (int[] cell : nines) {
+            assertTrue(grid.place(cell[0] * SIZE + cell[1], 9));
+        }
+        assertFalse(grid.hasContradiction());
+        assertTrue(grid.place(6 * SIZE + 7, 9));
+        assertTrue(grid.hasContradiction());
+        for (int col = 0; col < SIZE - 1; col++) {
+            assertTrue(grid.getCandidates(col) != 0, "la celda (0, " + col + ") conserva candidatos");
+        }
+        assertNull(new LogicalSolver().advanceToPlacement(grid));
+    }
+
+    @Test
+    void eliminationLeavingADigitWithoutPlaceInAUnitIsAContradiction() {
+        CandidateGrid grid = new CandidateGrid(GEOMETRY);
+        int five = 1 << 4;
+        for (int col = 0; col < SIZE - 1; col++) {
+            assertTrue(grid.eliminate(col, five));
+        }
+        assertFalse(grid.hasContradiction());
+        assertFalse(grid.eliminate(0, five), "el 5 ya no era candidato");
+        assertTrue(grid.eliminate(SIZE - 1, five));
+        assertTrue(grid.hasContradiction());
+        assertFalse(grid.isSolved());
+    }
+
+    @Test
+    void validPuzzleHasNoContradiction() {
+        CandidateGrid grid = CandidateGrid.of(puzzleRecord().getPuzzle(), GEOMETRY);
+        assertFalse(grid.hasContradiction());
+        assertNotNull(new LogicalSolver().advanceToPlacement(grid));
+        assertTrue(new LogicalSolver().grade(CandidateGrid.of(puzzleRecord().getPuzzle(), GEOMETRY)).isSolved());
+    }
+
+    @Test
+    void hintFallsBackToTheSolutionWhenTheBoardHasNoSolution() {
+        BoardModel board = new BoardModel(GEOMETRY, false);
+        board.loadPuzzle(new PuzzleRecord(GEOMETRY, new byte[SIZE * SIZE], solution()));
+        // Sin valores repetidos, pero la celda (0, 8) se queda sin candidatos
+        for (int col = 0; col < 8; col++) {
+            board.setCell(0, col, col + 1);
+        }
+        board.setCell(1, 8, 9);
+
+        int filled = board.getFilledCellCount();
+        assertTrue(board.getHint(), "la pista se toma de la solución");
+        assertNull(board.getLastHint(), "no hay pista lógica en un tablero sin solución");
+        assertEquals(filled + 1, board.getFilledCellCount());
+    }
+
+    /**
+     * Solución válida de 9x9 con el patrón de desplazamientos por filas.
+     */
+    private static byte[] solution() {
+        byte[] grid = new byte[SIZE * SIZE];
+        for (int row = 0; row < SIZE; row++) {
+            for (int col = 0; col < SIZE; col++) {
+                grid[row * SIZE + col] = (byte) ((row * 3 + row / 3 + col) % SIZE + 1);
+            }
+        }
+        return grid;
+    }
+
+    /**
+     * Puzzle que se resuelve con candidatos únicos: la solución con la primera fila vacía.
+     */
+    private static PuzzleRecord puzzleRecord() {
+        byte[] solution = solution();
+        byte[] puzzle = solution.clone();
+        for (int col = 0; col < SIZE; col++) {
+            puzzle[col] = 0;
+        }
+        return new PuzzleRecord(GEOMETRY, puzzle, solution);
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.sudoku_game.solver;
+
+import com.example.sudoku_game.generator.PuzzleGenerator;
+import com.example.sudoku_game.generator.PuzzleRecord;
+import com.example.sudoku_game.models.BoardGeometry;
+import com.example.sudoku_game.models.PuzzleMode;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Pruebas de {@link DancingLinksSolver#countSolutions(int[][], BoardGeometry, int)}: cuenta
+ * exacta en tableros pequeños, parada en el límite y tableros sin solución.
+ *
+ * @author Juan Pablo Escamilla
+ */
+class DancingLinksSolverTest {
+    private final DancingLinksSolver solver = new DancingLinksSolver();
+
+    @Test
+    void emptyFourByFourBoardHas288Solutions() {
+        BoardGeometry geometry = new BoardGeometry(2, 2);
+        assertEquals(288, solver.countSolutions(new int[4][4], geometry, 1000));
+    }
+
+    @Test
+    void countingStopsAtTheLimit() {
+        assertEquals(2, solver.countSolutions(new int[9][9], BoardGeometry.NINE_BY_NINE, 2));
+        assertEquals(10, solver.countSolutions(new int[6][6], BoardGeometry.SIX_BY_SIX, 10));
+        assertEquals(100, solver.countSolutions(new int[4][4], new BoardGeometry(2, 2), 100));
+    }
+
+    @Test
+    void generatedPuzzlesHaveExactlyOneSolution() {
+        for (BoardGeometry geometry : new BoardGeometry[]{BoardGeometry.SIX_BY_SIX, BoardGeometry.NINE_BY_NINE}) {
+            PuzzleGenerator generator = new PuzzleGenerator(geometry, PuzzleMode.UNIQUE, new SplittableRandom(8));
+            for (int i = 0; i < 20; i++) {
+                PuzzleRecord puzzle = generator.generate();
+                assertEquals(1, solver.countSolutions(grid(puzzle.getPuzzle(), geometry), geometry, 2));
+                assertEquals(1, solver.countSolutions(grid(puzzle.getSolution(), geometry), geometry, 2));
+            }
+        }
+    }
+
+    @Test
+    void emptyingTwoColumnsOfTheSameStackAllowsSwappingThem() {
+        int[][] grid = grid(patternSolution(), BoardGeometry.NINE_BY_NINE);
+        assertEquals(1, solver.countSolutions(grid, BoardGeometry.NINE_BY_NINE, 2));
+        // Intercambiar las columnas 0 y 1 da otra solución válida
+        for (int row = 0; row < 9; row++) {
+            grid[row][0] = 0;
+            grid[row][1] = 0;
+        }
+        assertEquals(2, solver.countSolutions(grid, BoardGeometry.NINE_BY_NINE, 10));
+    }
+
+    @Test
+    void boardWithRepeatedGivensHasNoSolution() {
+        int[][] grid = new int[9][9];
+        grid[0][0] = 5;
+        grid[0][8] = 5;
+        assertEquals(0, solver.countSolutions(grid, BoardGeometry.NINE_BY_NINE, 2));
+    }
+
+    @Test
+    void boardWithACellWithoutCandidatesHasNoSolution() {
+        int[][] grid = new int[9][9];
+        for (int col = 0; col < 8; col++) {
+            grid[0][col] = col + 1;
+        }
+        grid[1][8] = 9;
+        assertEquals(0, solver.countSolutions(grid, BoardGeometry.NINE_BY_NINE, 2));
+    }
+
+    private static int[][] grid(byte[] cells, BoardGeometry geometry) {
+        int size = geometry.getSize();
+        int[][] grid = new int[size][size];
+        for (int cell = 0; cell < cells.length; cell++) {
+            grid[cell / size][cell % size] = cells[cell];
+        }
+        return grid;
+    }
+
+    /**
+     * Solución válida de 9x9 con el patrón de desplazamientos por filas.
+     */
+    private static byte[] patternSolution() {
+        byte[] grid = new byte[81];
+        for (int row = 0; row < 9; row++) {
+            for (int col = 0; col < 9; col++) {
+                grid[row * 9 + col] = (byte) ((row * 3 + row / 3 + col) % 9 + 1);
+            }
+        }
+        return grid;
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.sudoku_game.solver;
+
+import com.example.sudoku_game.models.BoardGeometry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas de {@link LogicalSolver#grade(byte[], BoardGeometry)}: puzzles fijos, todos con
+ * solución única, reciben la dificultad de la técnica más difícil que necesitan.
+ *
+ * @author Juan Pablo Escamilla
+ */
+class LogicalSolverTest {
+    /** Se resuelve solo con candidatos únicos */
+    private static final String EASY = "003020600900305001001806400008102900700000008006708200002609500800203009005010300";
+
+    /** Necesita candidatos bloqueados */
+    private static final String MEDIUM = "600004209050000000000708300500800900700020500300000601000342000400009030973000000";
+
+    /** Necesita un trío oculto */
+    private static final String HARD = "001030065006000000200560170045700901000408036800910000000000097530000012100070000";
+
+    /** Necesita un X-wing */
+    private static final String EXPERT = "090200010805013090000008000450090000000000047080030002000021050072000034000000001";
+
+    /** No se resuelve sin probar y retroceder */
+    private static final String EXTREME = "800000000003600000070090200050007000000045700000100030001000068008500010090000400";
+
+    /** Puzzle de 6x6 que necesita candidatos bloqueados */
+    private static final String SIX_BY_SIX_MEDIUM = "300000020040001500500020030006002000";
+
+    private final LogicalSolver solver = new LogicalSolver();
+
+    @Test
+    void knownPuzzlesGetTheirDifficulty() {
+        assertGrade(EASY, BoardGeometry.NINE_BY_NINE, Difficulty.EASY, Technique.NAKED_SINGLE);
+        assertGrade(MEDIUM, BoardGeometry.NINE_BY_NINE, Difficulty.MEDIUM, Technique.LOCKED_CANDIDATES);
+        assertGrade(HARD, BoardGeometry.NINE_BY_NINE, Difficulty.HARD, Technique.HIDDEN_TRIPLE);
+        assertGrade(EXPERT, BoardGeometry.NINE_BY_NINE, Difficulty.EXPERT, Technique.X_WING);
+        assertGrade(SIX_BY_SIX_MEDIUM, BoardGeometry.SIX_BY_SIX, Difficulty.MEDIUM, Technique.LOCKED_CANDIDATES);
+    }
+
+    @Test
+    void puzzleThatNeedsGuessingIsExtremeAndStaysUnsolved() {
+        GradeResult result = solver.grade(cells(EXTREME), BoardGeometry.NINE_BY_NINE);
+        assertEquals(Difficulty.EXTREME, result.getDifficulty());
+        assertFalse(result.isSolved());
+    }
+
+    @Test
+    void gradingAsMatrixGivesTheSameResult() {
+        byte[] puzzle = cells(HARD);
+        int[][] grid = new int[9][9];
+        for (int cell = 0; cell < puzzle.length; cell++) {
+            grid[cell / 9][cell % 9] = puzzle[cell];
+        }
+        GradeResult expected = solver.grade(puzzle, BoardGeometry.NINE_BY_NINE);
+        GradeResult actual = solver.grade(grid, BoardGeometry.NINE_BY_NINE);
+        assertEquals(expected.getDifficulty(), actual.getDifficulty());
+        assertEquals(expected.getScore(), actual.getScore());
+    }
+
+    private void assertGrade(String puzzle, BoardGeometry geometry, Difficulty difficulty, Technique hardest) {
+        GradeResult result = solver.grade(cells(puzzle), geometry);
+        assertTrue(result.isSolved(), puzzle);
+        assertEquals(difficulty, result.getDifficulty(), puzzle);
+        assertEquals(hardest, result.getHardestTechnique(), puzzle);
+    }
+
+    private static byte[] cells(String puzzle) {
+        byte[] cells = new byte[puzzle.length()];
+        for (int cell = 0; cell < cells.length; cell++) {
+            cells[cell] = (byte) (puzzle.charAt(cell) - '0');
+        }
+        return cells;
+    }
+}
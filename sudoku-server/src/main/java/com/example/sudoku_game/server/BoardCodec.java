@@ -0,0 +1,138 @@
+package com.example.sudoku_game.server;
+
+import com.example.sudoku_game.models.BoardGeometry;
+
+/**
+ * Codificación compacta de tableros para el servicio: una cadena de {@code n * n}
+ * caracteres recorrida por filas, con {@code 0} o {@code .} en las celdas vacías,
+ * {@code 1}-{@code 9} para los dígitos del 1 al 9 y {@code A}-{@code P} para los
+ * dígitos del 10 al 25. Un tablero de 9x9 ocupa 81 caracteres.
+ *
+ * @author Juan Pablo Escamilla
+ */
+final class BoardCodec {
+    private static final String DIGITS = "0123456789ABCDEFGHIJKLMNOP";
+
+    private BoardCodec() {
+    }
+
+    /**
+     * Obtiene la geometría de un tablero a partir de las dimensiones de caja indicadas
+     * o, si no se indican, del número de celdas (6x6, 9x9, 12x12, 16x16 o 25x25).
+     *
+     * @param cells Número de celdas del tablero codificado
+     * @param box Dimensiones de caja como {@code "altoxancho"} (por ejemplo {@code "2x3"}), o {@code null}
+     * @return La geometría del tablero
+     * @throws IllegalArgumentException si las dimensiones no son válidas o no coinciden con el tablero
+     */
+    static BoardGeometry geometry(int cells, String box) {
+        BoardGeometry geometry = box != null ? parseBox(box) : switch (cells) {
+            case 36 -> BoardGeometry.SIX_BY_SIX;
+            case 81 -> BoardGeometry.NINE_BY_NINE;
+            case 144 -> BoardGeometry.TWELVE_BY_TWELVE;
+            case 256 -> BoardGeometry.SIXTEEN_BY_SIXTEEN;
+            case 625 -> BoardGeometry.TWENTY_FIVE_BY_TWENTY_FIVE;
+            default -> throw new IllegalArgumentException("Tamaño de tablero no soportado: " + cells + " celdas");
+        };
+        if (geometry.getCellCount() != cells) {
+            throw new IllegalArgumentException("El tablero tiene " + cells + " celdas y la geometría " + geometry + " necesita " + geometry.getCellCount());
+        }
+        return geometry;
+    }
+
+    /**
+     * Lee unas dimensiones de caja.
+     *
+     * @param box Dimensiones como {@code "altoxancho"}, por ejemplo {@code "2x3"}
+     * @return La geometría correspondiente
+     * @throws IllegalArgumentException si las dimensiones no son válidas
+     */
+    static BoardGeometry parseBox(String box) {
+        int separator = box.indexOf('x');
+        if (separator < 0) {
+            throw new IllegalArgumentException("Dimensiones de caja no válidas: " + box);
+        }
+        try {
+            return new BoardGeometry(Integer.parseInt(box.substring(0, separator)), Integer.parseInt(box.substring(separator + 1)));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Dimensiones de caja no válidas: " + box, e);
+        }
+    }
+
+    /**
+     * Escribe las dimensiones de caja de una geometría.
+     *
+     * @param geometry Geometría del tablero
+     * @return Dimensiones como {@code "altoxancho"}
+     */
+    static String formatBox(BoardGeometry geometry) {
+        return geometry.getBoxHeight() + "x" + geometry.getBoxWidth();
+    }
+
+    /**
+     * Decodifica un tablero.
+     *
+     * @param text Tablero codificado
+     * @param geometry Geometría del tablero
+     * @return Valores de las celdas recorridas por filas, con 0 en las vacías
+     * @throws IllegalArgumentException si algún carácter no es un dígito válido para la geometría
+     */
+    static byte[] decode(String text, BoardGeometry geometry) {
+        byte[] cells = new byte[text.length()];
+        for (int i = 0; i < cells.length; i++) {
+            char c = text.charAt(i);
+            int value = c == '.' ? 0 : DIGITS.indexOf(Character.toUpperCase(c));
+            if (value < 0 || value > geometry.getSize()) {
+                throw new IllegalArgumentException("Carácter no válido en la posición " + i + ": '" + c + "'");
+            }
+            cells[i] = (byte) value;
+        }
+        return cells;
+    }
+
+    /**
+     * Codifica un tablero dado como arreglo recorrido por filas.
+     *
+     * @param cells Valores de las celdas
+     * @return Tablero codificado
+     */
+    static String encode(byte[] cells) {
+        char[] text = new char[cells.length];
+        for (int i = 0; i < cells.length; i++) {
+            text[i] = DIGITS.charAt(cells[i]);
+        }
+        return new String(text);
+    }
+
+    /**
+     * Codifica un tablero dado como matriz.
+     *
+     * @param grid Cuadrícula indexada por {@code [fila][columna]}
+     * @return Tablero codificado
+     */
+    static String encode(int[][] grid) {
+        int size = grid.length;
+        char[] text = new char[size * size];
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                text[row * size + col] = DIGITS.charAt(grid[row][col]);
+            }
+        }
+        return new String(text);
+    }
+
+    /**
+     * Convierte un tablero recorrido por filas en una matriz.
+     *
+     * @param cells Valores de las celdas
+     * @param size Tamaño del tablero
+     * @return Cuadrícula indexada por {@code [fila][columna]}
+     */
+    static int[][] toGrid(byte[] cells, int size) {
+        int[][] grid = new int[size][size];
+        for (int cell = 0; cell < cells.length; cell++) {
+            grid[cell / size][cell % size] = cells[cell];
+        }
+        return grid;
+    }
+}
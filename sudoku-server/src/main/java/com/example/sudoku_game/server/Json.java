@@ -0,0 +1,179 @@
+package com.example.sudoku_game.server;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Utilidades mínimas de JSON para el servicio.
+ * Las peticiones son objetos planos cuyos valores son cadenas, números, booleanos o
+ * {@code null}, así que basta con un lector de objetos planos; las respuestas se
+ * escriben directamente con un {@link StringBuilder}.
+ *
+ * @author Juan Pablo Escamilla
+ */
+final class Json {
+
+    private Json() {
+    }
+
+    /**
+     * Lee un objeto JSON plano.
+     *
+     * @param text Texto del objeto
+     * @return Los campos del objeto, con todos los valores como texto ({@code null} para {@code null})
+     * @throws IllegalArgumentException si el texto no es un objeto plano válido
+     */
+    static Map<String, String> parseObject(String text) {
+        Map<String, String> fields = new HashMap<>();
+        Reader reader = new Reader(text);
+        reader.skipSpaces();
+        reader.expect('{');
+        reader.skipSpaces();
+        if (reader.peek() == '}') {
+            reader.next();
+        } else {
+            while (true) {
+                reader.skipSpaces();
+                String key = reader.readString();
+                reader.skipSpaces();
+                reader.expect(':');
+                reader.skipSpaces();
+                fields.put(key, reader.readValue());
+                reader.skipSpaces();
+                char c = reader.next();
+                if (c == '}') {
+                    break;
+                }
+                if (c != ',') {
+                    throw new IllegalArgumentException("Se esperaba ',' o '}' en la posición " + (reader.position - 1));
+                }
+            }
+        }
+        reader.skipSpaces();
+        if (!reader.atEnd()) {
+            throw new IllegalArgumentException("Texto sobrante después del objeto JSON");
+        }
+        return fields;
+    }
+
+    /**
+     * Añade una cadena entre comillas, escapando los caracteres especiales.
+     *
+     * @param out Destino
+     * @param value Cadena a escribir
+     * @return El mismo destino
+     */
+    static StringBuilder quote(StringBuilder out, String value) {
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> out.append("\\\"");
+                case '\\' -> out.append("\\\\");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                case '\t' -> out.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        out.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+                }
+            }
+        }
+        return out.append('"');
+    }
+
+    /**
+     * Cursor sobre el texto de un objeto JSON.
+     */
+    private static final class Reader {
+        private final String text;
+        private int position;
+
+        Reader(String text) {
+            this.text = text;
+        }
+
+        boolean atEnd() {
+            return position >= text.length();
+        }
+
+        char peek() {
+            if (atEnd()) {
+                throw new IllegalArgumentException("Fin inesperado del JSON");
+            }
+            return text.charAt(position);
+        }
+
+        char next() {
+            char c = peek();
+            position++;
+            return c;
+        }
+
+        void expect(char expected) {
+            if (next() != expected) {
+                throw new IllegalArgumentException("Se esperaba '" + expected + "' en la posición " + (position - 1));
+            }
+        }
+
+        void skipSpaces() {
+            while (!atEnd() && Character.isWhitespace(text.charAt(position))) {
+                position++;
+            }
+        }
+
+        String readValue() {
+            char c = peek();
+            if (c == '"') {
+                return readString();
+            }
+            int start = position;
+            while (!atEnd() && ",} \t\r\n".indexOf(text.charAt(position)) < 0) {
+                position++;
+            }
+            String literal = text.substring(start, position);
+            if (literal.equals("null")) {
+                return null;
+            }
+            if (literal.equals("true") || literal.equals("false") || literal.matches("-?\\d+(\\.\\d+)?([eE][+-]?\\d+)?")) {
+                return literal;
+            }
+            throw new IllegalArgumentException("Valor JSON no soportado: " + literal);
+        }
+
+        String readString() {
+            expect('"');
+            StringBuilder value = new StringBuilder();
+            while (true) {
+                char c = next();
+                if (c == '"') {
+                    return value.toString();
+                }
+                if (c != '\\') {
+                    value.append(c);
+                    continue;
+                }
+                char escaped = next();
+                switch (escaped) {
+                    case '"', '\\', '/' -> value.append(escaped);
+                    case 'n' -> value.append('\n');
+                    case 'r' -> value.append('\r');
+                    case 't' -> value.append('\t');
+                    case 'b' -> value.append('\b');
+                    case 'f' -> value.append('\f');
+                    case 'u' -> {
+                        if (position + 4 > text.length()) {
+                            throw new IllegalArgumentException("Secuencia \\u incompleta");
+                        }
+                        value.append((char) Integer.parseInt(text.substring(position, position + 4), 16));
+                        position += 4;
+                    }
+                    default -> throw new IllegalArgumentException("Escape no válido: \\" + escaped);
+                }
+            }
+        }
+    }
+}
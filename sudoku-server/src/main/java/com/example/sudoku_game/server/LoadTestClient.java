@@ -0,0 +1,114 @@
+package com.example.sudoku_game.server;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Cliente de carga para el {@link SudokuServer}.
+ * Lanza tantos hilos virtuales como peticiones simultáneas se pidan; cada uno envía
+ * peticiones una tras otra hasta completar el total, y al final se informa del
+ * rendimiento y de la latencia en los percentiles 50, 99 y 99.9.
+ * Las peticiones de {@code /validate}, {@code /solve} y {@code /hint} usan un puzzle
+ * obtenido antes de empezar con {@code /generate}.
+ * <p>
+ * Uso: {@code LoadTestClient [url-base] [operación] [simultáneas] [total] [caja]}, por ejemplo
+ * {@code LoadTestClient http://localhost:8080 hint 2000 200000 3x3}.
+ *
+ * @author Juan Pablo Escamilla
+ */
+public class LoadTestClient {
+
+    /**
+     * Ejecuta la prueba de carga.
+     *
+     * @param args URL base, operación, peticiones simultáneas, total de peticiones y dimensiones de caja
+     * @throws Exception si no se puede obtener el puzzle inicial
+     */
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:" + SudokuServer.DEFAULT_PORT;
+        String operation = args.length > 1 ? args[1] : "hint";
+        int concurrency = args.length > 2 ? Integer.parseInt(args[2]) : 1000;
+        int total = args.length > 3 ? Integer.parseInt(args[3]) : 100_000;
+        String box = args.length > 4 ? args[4] : "3x3";
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(executor)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build();
+
+            HttpRequest request = buildRequest(client, baseUrl, operation, box);
+            long[] latencies = new long[total];
+            AtomicInteger next = new AtomicInteger();
+            AtomicInteger errors = new AtomicInteger();
+
+            // Calentamiento para que el JIT compile el camino de las peticiones
+            for (int i = 0; i < Math.min(1000, total); i++) {
+                client.send(request, HttpResponse.BodyHandlers.discarding());
+            }
+
+            long start = System.nanoTime();
+            try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int worker = 0; worker < concurrency; worker++) {
+                    workers.submit(() -> {
+                        for (int i = next.getAndIncrement(); i < total; i = next.getAndIncrement()) {
+                            long sent = System.nanoTime();
+                            try {
+                                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                                if (response.statusCode() != 200) {
+                                    errors.incrementAndGet();
+                                }
+                            } catch (Exception e) {
+                                errors.incrementAndGet();
+                            }
+                            latencies[i] = System.nanoTime() - sent;
+                        }
+                        return null;
+                    });
+                }
+            }
+            long elapsed = System.nanoTime() - start;
+
+            Arrays.sort(latencies);
+            System.out.printf("%s: %d peticiones, %d simultáneas, %d errores%n", operation, total, concurrency, errors.get());
+            System.out.printf("Rendimiento: %.0f peticiones/s%n", total / (elapsed / 1e9));
+            System.out.printf("Latencia: p50 %.3f ms, p99 %.3f ms, p999 %.3f ms, máx %.3f ms%n",
+                    percentile(latencies, 0.50), percentile(latencies, 0.99),
+                    percentile(latencies, 0.999), latencies[total - 1] / 1e6);
+        }
+    }
+
+    /**
+     * Prepara la petición de la operación, obteniendo antes un puzzle si la operación lo necesita.
+     */
+    private static HttpRequest buildRequest(HttpClient client, String baseUrl, String operation, String box) throws Exception {
+        URI generate = URI.create(baseUrl + "/generate?box=" + box);
+        if (operation.equals("generate")) {
+            return HttpRequest.newBuilder(generate).GET().build();
+        }
+        String response = client.send(HttpRequest.newBuilder(generate).GET().build(), HttpResponse.BodyHandlers.ofString()).body();
+        String puzzle = Json.parseObject(response).get("puzzle");
+        String body = Json.quote(new StringBuilder("{\"board\":"), puzzle).append('}').toString();
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/" + operation))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body, StandardCharsets.UTF_8))
+                .build();
+    }
+
+    /**
+     * Obtiene un percentil de latencias ordenadas, en milisegundos.
+     */
+    private static double percentile(long[] sorted, double fraction) {
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(fraction * sorted.length) - 1);
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+}
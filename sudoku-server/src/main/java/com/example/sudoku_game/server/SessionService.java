@@ -0,0 +1,135 @@
+package com.example.sudoku_game.server;
+
+import com.example.sudoku_game.generator.PuzzleId;
+import com.example.sudoku_game.generator.PuzzleRecord;
+import com.example.sudoku_game.models.BoardGeometry;
+import com.example.sudoku_game.session.MoveResult;
+import com.example.sudoku_game.session.SessionManager;
+
+import java.util.Map;
+
+/**
+ * Operaciones del servicio sobre partidas alojadas en un {@link SessionManager}.
+ * Cada operación recibe los parámetros de la petición y devuelve la respuesta en JSON.
+ * Los identificadores de partida se envían como texto, porque no caben en los números
+ * de JavaScript sin perder precisión.
+ *
+ * @author Juan Pablo Escamilla
+ */
+public class SessionService {
+    private final SessionManager sessions;
+
+    /**
+     * Crea el servicio sobre un gestor de partidas.
+     *
+     * @param sessions Gestor que aloja las partidas
+     */
+    public SessionService(SessionManager sessions) {
+        this.sessions = sessions;
+    }
+
+    /**
+     * Empieza una partida, con un puzzle de la reserva o con el de un identificador, por
+     * ejemplo el del puzzle del día.
+     *
+     * @param params {@code box} (dimensiones de caja, por defecto {@code 2x3}) o {@code puzzleId}
+     *               (opcional, ver {@link PuzzleId})
+     * @return {@code {"id", "box", "board"}}
+     * @throws IllegalArgumentException si las dimensiones o el identificador no son válidos
+     * @throws IllegalStateException si el identificador no tiene puzzle
+     */
+    public String create(Map<String, String> params) {
+        String puzzleId = params.get("puzzleId");
+        BoardGeometry geometry;
+        long id;
+        if (puzzleId != null) {
+            PuzzleRecord puzzle = PuzzleId.parse(puzzleId).generate();
+            geometry = puzzle.getGeometry();
+            id = sessions.create(puzzle);
+        } else {
+            geometry = BoardCodec.parseBox(params.getOrDefault("box", "2x3"));
+            id = sessions.create(geometry);
+        }
+        StringBuilder out = new StringBuilder(64 + geometry.getCellCount());
+        out.append("{\"id\":\"").append(id).append("\",\"box\":");
+        Json.quote(out, BoardCodec.formatBox(geometry));
+        out.append(",\"board\":");
+        Json.quote(out, BoardCodec.encode(sessions.getValues(id)));
+        return out.append('}').toString();
+    }
+
+    /**
+     * Escribe un valor en una celda.
+     *
+     * @param params {@code id}, {@code row}, {@code col} y {@code value} (0 para vaciar la celda)
+     * @return {@code {"result"}}, con el nombre de un {@link MoveResult}
+     * @throws IllegalArgumentException si falta algún parámetro o la jugada está fuera del tablero
+     * @throws java.util.NoSuchElementException si la partida no existe
+     */
+    public String move(Map<String, String> params) {
+        long id = SudokuService.requireLong(params, "id");
+        MoveResult result = sessions.play(id,
+                SudokuService.requireInt(params, "row"),
+                SudokuService.requireInt(params, "col"),
+                SudokuService.requireInt(params, "value"));
+        return "{\"result\":\"" + result.name() + "\"}";
+    }
+
+    /**
+     * Deshace la última jugada.
+     *
+     * @param params {@code id}
+     * @return {@code {"applied"}}
+     * @throws java.util.NoSuchElementException si la partida no existe
+     */
+    public String undo(Map<String, String> params) {
+        return "{\"applied\":" + sessions.undo(SudokuService.requireLong(params, "id")) + "}";
+    }
+
+    /**
+     * Vuelve a aplicar la última jugada deshecha.
+     *
+     * @param params {@code id}
+     * @return {@code {"applied"}}
+     * @throws java.util.NoSuchElementException si la partida no existe
+     */
+    public String redo(Map<String, String> params) {
+        return "{\"applied\":" + sessions.redo(SudokuService.requireLong(params, "id")) + "}";
+    }
+
+    /**
+     * Busca la siguiente colocación forzada por la lógica, sin aplicarla.
+     *
+     * @param params {@code id}
+     * @return La misma respuesta que {@link SudokuService#hint(Map)}
+     * @throws java.util.NoSuchElementException si la partida no existe
+     */
+    public String hint(Map<String, String> params) {
+        long id = SudokuService.requireLong(params, "id");
+        return SudokuService.hintJson(sessions.hint(id), sessions.getGeometry(id).getSize());
+    }
+
+    /**
+     * Obtiene el tablero actual.
+     *
+     * @param params {@code id}
+     * @return {@code {"board", "solved"}}
+     * @throws java.util.NoSuchElementException si la partida no existe
+     */
+    public String board(Map<String, String> params) {
+        long id = SudokuService.requireLong(params, "id");
+        StringBuilder out = new StringBuilder("{\"board\":");
+        Json.quote(out, BoardCodec.encode(sessions.getValues(id)));
+        return out.append(",\"solved\":").append(sessions.isSolved(id)).append('}').toString();
+    }
+
+    /**
+     * Termina una partida.
+     *
+     * @param params {@code id}
+     * @return {@code {"removed"}}
+     */
+    public String close(Map<String, String> params) {
+        return "{\"removed\":" + sessions.remove(SudokuService.requireLong(params, "id")) + "}";
+    }
+}
@@ -0,0 +1,190 @@
+package com.example.sudoku_game.server;
+
+import com.example.sudoku_game.metrics.Metrics;
+import com.example.sudoku_game.session.SessionManager;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * Servicio HTTP local que expone el motor del juego sin interfaz gráfica.
+ * Atiende cada petición en su propio hilo virtual, así que miles de peticiones
+ * simultáneas no necesitan miles de hilos del sistema. Rutas:
+ * <ul>
+ *   <li>{@code GET /generate?box=2x3&difficulty=MEDIUM}: genera un puzzle; con
+ *       {@code ?puzzleId=...}, el de un identificador (ver {@link com.example.sudoku_game.generator.PuzzleId})</li>
+ *   <li>{@code GET /daily?box=3x3}: puzzle del día</li>
+ *   <li>{@code POST /validate}: valida un tablero</li>
+ *   <li>{@code POST /solve}: resuelve un tablero</li>
+ *   <li>{@code POST /hint}: da la siguiente colocación lógica</li>
+ *   <li>{@code POST /session}: empieza una partida alojada en el servicio</li>
+ *   <li>{@code POST /session/move}, {@code /session/undo}, {@code /session/redo},
+ *       {@code /session/hint}, {@code /session/board} y {@code /session/close}:
+ *       juegan sobre una partida alojada, indicada con {@code id}</li>
+ *   <li>{@code GET /metrics}: instantánea de las métricas del motor (ver {@link Metrics})</li>
+ * </ul>
+ * Las peticiones {@code POST} llevan un objeto JSON plano, por ejemplo
+ * {@code {"board": "120000..."}}, y también aceptan los parámetros en la URL.
+ * Los tableros usan la codificación compacta de {@link BoardCodec} y las respuestas
+ * son JSON (ver {@link SudokuService}). Los errores de la petición responden 400 y
+ * los de la generación 503, con {@code {"error": "..."}}; una partida desconocida responde 404.
+ *
+ * @author Juan Pablo Escamilla
+ */
+public class SudokuServer {
+    /** Puerto por defecto */
+    public static final int DEFAULT_PORT = 8080;
+
+    /** Tamaño máximo del cuerpo de una petición */
+    private static final int MAX_BODY_BYTES = 64 * 1024;
+
+    /** Conexiones pendientes de aceptar que admite el sistema operativo */
+    private static final int BACKLOG = 4096;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final SudokuService service = new SudokuService();
+    private final SessionManager sessions = new SessionManager();
+    private final SessionService sessionService = new SessionService(sessions);
+
+    /**
+     * Crea el servicio en la interfaz local.
+     *
+     * @param port Puerto en el que escuchar, o 0 para elegir uno libre
+     * @throws IOException si no se puede abrir el puerto
+     */
+    public SudokuServer(int port) throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), BACKLOG);
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(executor);
+        server.createContext("/generate", exchange -> handle(exchange, service::generate));
+        server.createContext("/daily", exchange -> handle(exchange, service::daily));
+        server.createContext("/validate", exchange -> handle(exchange, service::validate));
+        server.createContext("/solve", exchange -> handle(exchange, service::solve));
+        server.createContext("/hint", exchange -> handle(exchange, service::hint));
+        server.createContext("/session", exchange -> handle(exchange, sessionService::create));
+        server.createContext("/session/move", exchange -> handle(exchange, sessionService::move));
+        server.createContext("/session/undo", exchange -> handle(exchange, sessionService::undo));
+        server.createContext("/session/redo", exchange -> handle(exchange, sessionService::redo));
+        server.createContext("/session/hint", exchange -> handle(exchange, sessionService::hint));
+        server.createContext("/session/board", exchange -> handle(exchange, sessionService::board));
+        server.createContext("/session/close", exchange -> handle(exchange, sessionService::close));
+        server.createContext("/metrics", exchange -> handle(exchange, params -> Metrics.snapshot().toJson()));
+    }
+
+    /**
+     * Empieza a atender peticiones.
+     */
+    public void start() {
+        server.start();
+    }
+
+    /**
+     * Deja de atender peticiones y libera el puerto.
+     */
+    public void stop() {
+        server.stop(0);
+        executor.shutdown();
+        sessions.close();
+    }
+
+    /**
+     * Obtiene el puerto en el que escucha el servicio.
+     *
+     * @return Número de puerto
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    private void handle(HttpExchange exchange, Function<Map<String, String>, String> operation) throws IOException {
+        String method = exchange.getRequestMethod();
+        if (!method.equals("GET") && !method.equals("POST")) {
+            exchange.getResponseHeaders().set("Allow", "GET, POST");
+            respond(exchange, 405, error("Método no soportado: " + method));
+            return;
+        }
+        try {
+            respond(exchange, 200, operation.apply(readParams(exchange)));
+        } catch (NoSuchElementException e) {
+            respond(exchange, 404, error(e.getMessage()));
+        } catch (IllegalArgumentException e) {
+            respond(exchange, 400, error(e.getMessage()));
+        } catch (IllegalStateException e) {
+            respond(exchange, 503, error(e.getMessage()));
+        } catch (RuntimeException e) {
+            // Cualquier otro fallo es un error del servicio: responder igualmente con JSON
+            respond(exchange, 500, error("Error interno del servicio: " + e.getClass().getSimpleName()));
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    /**
+     * Lee los parámetros de la URL y, en las peticiones con cuerpo, los del objeto JSON.
+     */
+    private static Map<String, String> readParams(HttpExchange exchange) throws IOException {
+        Map<String, String> params = new HashMap<>();
+        String query = exchange.getRequestURI().getRawQuery();
+        if (query != null) {
+            for (String pair : query.split("&")) {
+                int separator = pair.indexOf('=');
+                if (separator > 0) {
+                    params.put(URLDecoder.decode(pair.substring(0, separator), StandardCharsets.UTF_8),
+                            URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8));
+                }
+            }
+        }
+        if (exchange.getRequestMethod().equals("POST")) {
+            byte[] bytes;
+            try (InputStream in = exchange.getRequestBody()) {
+                bytes = in.readNBytes(MAX_BODY_BYTES + 1);
+            }
+            if (bytes.length > MAX_BODY_BYTES) {
+                throw new IllegalArgumentException("El cuerpo de la petición supera " + MAX_BODY_BYTES + " bytes");
+            }
+            String text = new String(bytes, StandardCharsets.UTF_8);
+            if (!text.isBlank()) {
+                params.putAll(Json.parseObject(text));
+            }
+        }
+        return params;
+    }
+
+    private static String error(String message) {
+        return Json.quote(new StringBuilder("{\"error\":"), message == null ? "" : message).append('}').toString();
+    }
+
+    /**
+     * Arranca el servicio.
+     *
+     * @param args Puerto opcional (por defecto {@value #DEFAULT_PORT})
+     * @throws IOException si no se puede abrir el puerto
+     */
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        SudokuServer server = new SudokuServer(port);
+        server.start();
+        System.out.println("Servicio de Sudoku escuchando en http://localhost:" + server.getPort());
+    }
+}
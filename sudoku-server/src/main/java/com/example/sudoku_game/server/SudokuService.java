@@ -0,0 +1,328 @@
+package com.example.sudoku_game.server;
+
+import com.example.sudoku_game.generator.PuzzleId;
+import com.example.sudoku_game.generator.PuzzlePool;
+import com.example.sudoku_game.generator.PuzzleRecord;
+import com.example.sudoku_game.models.BoardGeometry;
+import com.example.sudoku_game.solver.CandidateGrid;
+import com.example.sudoku_game.solver.DancingLinksSolver;
+import com.example.sudoku_game.solver.Difficulty;
+import com.example.sudoku_game.solver.GradeResult;
+import com.example.sudoku_game.solver.LogicalSolver;
+import com.example.sudoku_game.solver.SolverEngine;
+import com.example.sudoku_game.solver.SolverResult;
+import com.example.sudoku_game.solver.Step;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Operaciones del servicio sobre tableros codificados con {@link BoardCodec}: generar,
+ * validar, resolver y dar una pista. Cada operación recibe los parámetros de la petición
+ * y devuelve la respuesta en JSON. No guarda estado entre peticiones, así que se puede
+ * usar desde muchos hilos a la vez: los objetos que no se pueden compartir entre hilos
+ * (generadores y el resolvedor lógico) se crean en cada petición. La única excepción es la
+ * caché de los puzzles del día, que se comparte de forma segura.
+ *
+ * @author Juan Pablo Escamilla
+ */
+public class SudokuService {
+    /** Número de puzzles del día guardados antes de vaciar la caché */
+    private static final int DAILY_CACHE_SIZE = 64;
+
+    /** Entrada de la caché de puzzles del día para un día que no tiene puzzle de la dificultad pedida */
+    private static final String NO_PUZZLE = "";
+
+    private final SolverEngine solver = new DancingLinksSolver();
+    private final Map<PuzzleId, String> dailyCache = new ConcurrentHashMap<>();
+
+    /**
+     * Genera un puzzle. Con un identificador se vuelve a generar el puzzle de ese
+     * identificador. Sin él, si se pide una dificultad se genera un puzzle de esa dificultad
+     * con un identificador nuevo; si no, se toma uno de la reserva compartida de la
+     * geometría, que no tiene identificador.
+     *
+     * @param params {@code puzzleId} (opcional, ver {@link PuzzleId}), o bien {@code box}
+     *               (dimensiones de caja, por defecto {@code 2x3}) y {@code difficulty}
+     *               (opcional, nombre de {@link Difficulty})
+     * @return {@code {"box", "puzzle", "solution", "difficulty", "score"}}, más {@code "puzzleId"}
+     *         si el puzzle tiene identificador
+     * @throws IllegalArgumentException si algún parámetro no es válido o la dificultad no se
+     *         alcanza en tableros de esa geometría
+     * @throws IllegalStateException si no se encontró un puzzle de la dificultad pedida
+     */
+    public String generate(Map<String, String> params) {
+        String idText = params.get("puzzleId");
+        if (idText != null) {
+            return puzzleJson(PuzzleId.parse(idText));
+        }
+        BoardGeometry geometry = BoardCodec.parseBox(params.getOrDefault("box", "2x3"));
+        Difficulty difficulty = parseDifficulty(params.get("difficulty"));
+        if (difficulty != null) {
+            return puzzleJson(PuzzleId.random(geometry, difficulty));
+        }
+        PuzzleRecord puzzle = PuzzlePool.shared(geometry).take();
+        return puzzleJson(puzzle, null, new LogicalSolver().grade(puzzle.getPuzzle(), geometry));
+    }
+
+    /**
+     * Obtiene el puzzle del día, el mismo para todos los que lo pidan ese día con la misma
+     * geometría y dificultad. Cada puzzle se genera una vez y después se sirve de la caché,
+     * igual que los días que no tienen puzzle de la dificultad pedida.
+     *
+     * @param params {@code box} (dimensiones de caja, por defecto {@code 2x3}), {@code difficulty}
+     *               (opcional) y {@code date} (opcional, como {@code 2026-10-18}; por defecto,
+     *               el día actual en UTC)
+     * @return La respuesta de {@link #generate(Map)}, con {@code "puzzleId"}
+     * @throws IllegalArgumentException si algún parámetro no es válido o la dificultad no se
+     *         alcanza en tableros de esa geometría
+     * @throws IllegalStateException si ese día no tiene puzzle de la dificultad pedida
+     */
+    public String daily(Map<String, String> params) {
+        BoardGeometry geometry = BoardCodec.parseBox(params.getOrDefault("box", "2x3"));
+        Difficulty difficulty = parseDifficulty(params.get("difficulty"));
+        String dateText = params.get("date");
+        LocalDate date;
+        try {
+            date = dateText != null ? LocalDate.parse(dateText) : LocalDate.now(ZoneOffset.UTC);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Fecha no válida: " + dateText, e);
+        }
+        PuzzleId id = PuzzleId.daily(date, geometry, difficulty);
+        String json = dailyCache.get(id);
+        if (json == null) {
+            // Los identificadores del día cambian una vez al día, así que vaciar la caché es raro
+            if (dailyCache.size() >= DAILY_CACHE_SIZE) {
+                dailyCache.clear();
+            }
+            json = dailyCache.computeIfAbsent(id, SudokuService::dailyJson);
+        }
+        if (NO_PUZZLE.equals(json)) {
+            throw new IllegalStateException("No hay un puzzle de dificultad " + difficulty + " para " + id);
+        }
+        return json;
+    }
+
+    /**
+     * Genera el puzzle del día de un identificador para la caché. Si no hay ninguno, guarda
+     * {@link #NO_PUZZLE}, para no volver a agotar los intentos del generador en cada petición.
+     */
+    private static String dailyJson(PuzzleId id) {
+        try {
+            return puzzleJson(id);
+        } catch (IllegalStateException e) {
+            return NO_PUZZLE;
+        }
+    }
+
+    /**
+     * Lee el nombre de una dificultad.
+     *
+     * @return La dificultad, o {@code null} si no se indicó ninguna
+     */
+    private static Difficulty parseDifficulty(String name) {
+        if (name == null) {
+            return null;
+        }
+        try {
+            return Difficulty.valueOf(name.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Dificultad desconocida: " + name, e);
+        }
+    }
+
+    /**
+     * Genera el puzzle de un identificador y lo escribe en el formato de respuesta de {@link #generate(Map)}.
+     */
+    private static String puzzleJson(PuzzleId id) {
+        PuzzleRecord puzzle = id.generate();
+        return puzzleJson(puzzle, id, new LogicalSolver().grade(puzzle.getPuzzle(), id.getGeometry()));
+    }
+
+    /**
+     * Escribe un puzzle en el formato de respuesta de {@link #generate(Map)}.
+     */
+    private static String puzzleJson(PuzzleRecord puzzle, PuzzleId id, GradeResult grade) {
+        BoardGeometry geometry = puzzle.getGeometry();
+        StringBuilder out = new StringBuilder(96 + 2 * geometry.getCellCount());
+        out.append("{\"box\":");
+        Json.quote(out, BoardCodec.formatBox(geometry));
+        if (id != null) {
+            out.append(",\"puzzleId\":");
+            Json.quote(out, id.toString());
+        }
+        out.append(",\"puzzle\":");
+        Json.quote(out, BoardCodec.encode(puzzle.getPuzzle()));
+        out.append(",\"solution\":");
+        Json.quote(out, BoardCodec.encode(puzzle.getSolution()));
+        out.append(",\"difficulty\":");
+        Json.quote(out, grade.getDifficulty().name());
+        return out.append(",\"score\":").append(grade.getScore()).append('}').toString();
+    }
+
+    /**
+     * Valida un tablero: busca las celdas cuyo valor se repite en su fila, columna o caja.
+     *
+     * @param params {@code board} (tablero codificado) y {@code box} (opcional)
+     * @return {@code {"valid", "complete", "conflicts": [celdas]}}
+     * @throws IllegalArgumentException si el tablero no es válido
+     */
+    public String validate(Map<String, String> params) {
+        String text = require(params, "board");
+        BoardGeometry geometry = BoardCodec.geometry(text.length(), params.get("box"));
+        byte[] cells = BoardCodec.decode(text, geometry);
+        int size = geometry.getSize();
+
+        // Dígitos presentes y repetidos en cada unidad (filas, columnas y cajas)
+        int[] seen = new int[3 * size];
+        int[] repeated = new int[3 * size];
+        int filled = 0;
+        for (int cell = 0; cell < cells.length; cell++) {
+            if (cells[cell] == 0) {
+                continue;
+            }
+            filled++;
+            int bit = 1 << (cells[cell] - 1);
+            int row = cell / size;
+            int col = cell % size;
+            for (int unit : new int[]{row, size + col, 2 * size + geometry.getBoxIndex(row, col)}) {
+                repeated[unit] |= seen[unit] & bit;
+                seen[unit] |= bit;
+            }
+        }
+
+        StringBuilder conflicts = new StringBuilder();
+        for (int cell = 0; cell < cells.length; cell++) {
+            if (cells[cell] == 0) {
+                continue;
+            }
+            int bit = 1 << (cells[cell] - 1);
+            int row = cell / size;
+            int col = cell % size;
+            if (((repeated[row] | repeated[size + col] | repeated[2 * size + geometry.getBoxIndex(row, col)]) & bit) != 0) {
+                conflicts.append(conflicts.length() == 0 ? "" : ",").append(cell);
+            }
+        }
+        boolean valid = conflicts.length() == 0;
+        return "{\"valid\":" + valid + ",\"complete\":" + (valid && filled == cells.length)
+                + ",\"conflicts\":[" + conflicts + "]}";
+    }
+
+    /**
+     * Resuelve un tablero con Dancing Links y califica su dificultad con las técnicas lógicas.
+     *
+     * @param params {@code board} (tablero codificado) y {@code box} (opcional)
+     * @return {@code {"solved", "unique", "solution", "difficulty", "score"}}, o {@code {"solved": false}}
+     * @throws IllegalArgumentException si el tablero no es válido
+     */
+    public String solve(Map<String, String> params) {
+        String text = require(params, "board");
+        BoardGeometry geometry = BoardCodec.geometry(text.length(), params.get("box"));
+        byte[] cells = BoardCodec.decode(text, geometry);
+        int[][] grid = BoardCodec.toGrid(cells, geometry.getSize());
+        SolverResult result = solver.solve(grid, geometry);
+        if (!result.isSolved()) {
+            return "{\"solved\":false}";
+        }
+        boolean unique = solver.countSolutions(grid, geometry, 2) == 1;
+        GradeResult grade = new LogicalSolver().grade(cells, geometry);
+
+        StringBuilder out = new StringBuilder(64 + geometry.getCellCount());
+        out.append("{\"solved\":true,\"unique\":").append(unique).append(",\"solution\":");
+        Json.quote(out, BoardCodec.encode(result.getSolution()));
+        out.append(",\"difficulty\":");
+        Json.quote(out, grade.getDifficulty().name());
+        return out.append(",\"score\":").append(grade.getScore()).append('}').toString();
+    }
+
+    /**
+     * Busca la siguiente colocación forzada por la lógica en un tablero.
+     *
+     * @param params {@code board} (tablero codificado) y {@code box} (opcional)
+     * @return {@code {"found", "cell", "row", "col", "digit", "technique", "label"}}, o {@code {"found": false}}
+     * @throws IllegalArgumentException si el tablero no es válido
+     */
+    public String hint(Map<String, String> params) {
+        String text = require(params, "board");
+        BoardGeometry geometry = BoardCodec.geometry(text.length(), params.get("box"));
+        Step step = new LogicalSolver().advanceToPlacement(CandidateGrid.of(BoardCodec.decode(text, geometry), geometry));
+        return hintJson(step, geometry.getSize());
+    }
+
+    /**
+     * Escribe una colocación lógica en el formato de respuesta de {@link #hint(Map)}.
+     *
+     * @param step Colocación encontrada, o {@code null}
+     * @param size Tamaño del tablero
+     * @return La respuesta en JSON
+     */
+    static String hintJson(Step step, int size) {
+        if (step == null) {
+            return "{\"found\":false}";
+        }
+        StringBuilder out = new StringBuilder(128);
+        out.append("{\"found\":true,\"cell\":").append(step.getCell())
+                .append(",\"row\":").append(step.getCell() / size)
+                .append(",\"col\":").append(step.getCell() % size)
+                .append(",\"digit\":").append(step.getDigit())
+                .append(",\"technique\":");
+        Json.quote(out, step.getTechnique().name());
+        out.append(",\"label\":");
+        Json.quote(out, step.getTechnique().getLabel());
+        return out.append('}').toString();
+    }
+
+    /**
+     * Obtiene un parámetro obligatorio.
+     *
+     * @param params Parámetros de la petición
+     * @param name Nombre del parámetro
+     * @return Valor del parámetro
+     * @throws IllegalArgumentException si falta el parámetro
+     */
+    static String require(Map<String, String> params, String name) {
+        String value = params.get(name);
+        if (value == null || value.isEmpty()) {
+            throw new IllegalArgumentException("Falta el parámetro '" + name + "'");
+        }
+        return value;
+    }
+
+    /**
+     * Obtiene un parámetro entero obligatorio.
+     *
+     * @param params Parámetros de la petición
+     * @param name Nombre del parámetro
+     * @return Valor del parámetro
+     * @throws IllegalArgumentException si falta el parámetro o no es un número entero
+     */
+    static long requireLong(Map<String, String> params, String name) {
+        String value = require(params, name);
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("El parámetro '" + name + "' no es un número entero: " + value, e);
+        }
+    }
+
+    /**
+     * Obtiene un parámetro obligatorio que debe caber en un {@code int}.
+     *
+     * @param params Parámetros de la petición
+     * @param name Nombre del parámetro
+     * @return Valor del parámetro
+     * @throws IllegalArgumentException si falta el parámetro o no es un número entero de 32 bits
+     */
+    static int requireInt(Map<String, String> params, String name) {
+        String value = require(params, name);
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("El parámetro '" + name + "' no es un número entero válido: " + value, e);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+module com.example.sudoku_game.server {
+    requires com.example.sudoku_game.core;
+    requires jdk.httpserver;
+    requires java.net.http;
+
+    exports com.example.sudoku_game.server;
+}